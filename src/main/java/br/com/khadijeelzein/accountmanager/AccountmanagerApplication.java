@@ -1,5 +1,6 @@
 package br.com.khadijeelzein.accountmanager;
 
+import br.com.khadijeelzein.accountmanager.cli.ClientImportRunner;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -10,6 +11,9 @@ public class AccountmanagerApplication {
 
 	public static void main(String[] args) {
 
-		SpringApplication.run(AccountmanagerApplication.class, args);
+		var context = SpringApplication.run(AccountmanagerApplication.class, args);
+		// Importação pela linha de comando: encerra com o código gerado pelo ClientImportRunner.
+		if (context.getBeanProvider(ClientImportRunner.class).getIfAvailable() != null)
+			System.exit(SpringApplication.exit(context));
 	}
 }
@@ -0,0 +1,86 @@
+package br.com.khadijeelzein.accountmanager.accountnumber;
+
+import br.com.khadijeelzein.accountmanager.repository.AccountNumberLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class AccountNumberAllocator {
+    static final String SEQUENCE = "accountNbr";
+
+    private final AccountNumberLeaseRepository leaseRepository;
+    private final boolean leased;
+    private final int blockSize;
+    private final long firstBase;
+    private final boolean validateCheckDigit;
+    // ReentrantLock em vez de synchronized: a reserva de bloco faz I/O e não deve fixar virtual threads.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+    private long leaseEnd;
+
+    @Autowired
+    public AccountNumberAllocator(AccountNumberLeaseRepository leaseRepository,
+                                  @Value("${accountmanager.account-number.leased:true}") boolean leased,
+                                  @Value("${accountmanager.account-number.block-size:1000}") int blockSize,
+                                  @Value("${accountmanager.account-number.first-base:100000}") long firstBase,
+                                  @Value("${accountmanager.account-number.validate-check-digit:false}") boolean validateCheckDigit) {
+        if (blockSize <= 0) throw new IllegalArgumentException("Tamanho do bloco de números de conta deve ser positivo");
+        this.leaseRepository = leaseRepository;
+        this.leased = leased;
+        this.blockSize = blockSize;
+        this.firstBase = firstBase;
+        this.validateCheckDigit = validateCheckDigit;
+    }
+
+    public long nextAccountNbr() {
+        if (!leased) return ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        return CheckDigit.append(nextBase());
+    }
+
+    public long[] nextAccountNbrs(int count) {
+        var accountNbrs = new long[count];
+        if (!leased) {
+            for (int i = 0; i < count; i++) accountNbrs[i] = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            return accountNbrs;
+        }
+        lock.lock();
+        try {
+            int allocated = 0;
+            while (allocated < count && next < leaseEnd) accountNbrs[allocated++] = CheckDigit.append(next++);
+            if (allocated < count) lease(Math.max(blockSize, count - allocated));
+            while (allocated < count) accountNbrs[allocated++] = CheckDigit.append(next++);
+            return accountNbrs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isWellFormed(Long accountNbr) {
+        if (accountNbr == null || accountNbr <= 0) return false;
+        return !validateCheckDigit || CheckDigit.isValid(accountNbr);
+    }
+
+    private long nextBase() {
+        lock.lock();
+        try {
+            if (next >= leaseEnd) lease(blockSize);
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void lease(int size) {
+        long leasedUpTo = leaseRepository.leaseBlock(SEQUENCE, size);
+        leaseEnd = firstBase + leasedUpTo;
+        next = leaseEnd - size;
+        log.debug("Bloco de números de conta [{}, {}) reservado", next, leaseEnd);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.khadijeelzein.accountmanager.accountnumber;
+
+public final class CheckDigit {
+
+    private CheckDigit() {
+    }
+
+    public static int compute(long base) {
+        if (base < 0) throw new IllegalArgumentException("Número base da conta não pode ser negativo");
+        int sum = 0;
+        boolean doubleDigit = true;
+        for (long remaining = base; remaining > 0; remaining /= 10) {
+            int digit = (int) (remaining % 10);
+            if (doubleDigit) {
+                digit *= 2;
+                if (digit > 9) digit -= 9;
+            }
+            sum += digit;
+            doubleDigit = !doubleDigit;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    public static long append(long base) {
+        return Math.addExact(Math.multiplyExact(base, 10L), compute(base));
+    }
+
+    public static boolean isValid(long accountNbr) {
+        return accountNbr > 0 && compute(accountNbr / 10) == accountNbr % 10;
+    }
+}
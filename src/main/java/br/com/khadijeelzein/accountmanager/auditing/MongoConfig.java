@@ -3,6 +3,8 @@ package br.com.khadijeelzein.accountmanager.auditing;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 
 @Configuration
@@ -12,4 +14,9 @@ public class MongoConfig {
     public AuditorAware<String> auditorProvider() {
         return new AuditorAwareImpl();
     }
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory mongoDatabaseFactory) {
+        return new MongoTransactionManager(mongoDatabaseFactory);
+    }
 }
@@ -0,0 +1,16 @@
+package br.com.khadijeelzein.accountmanager.auditing;
+
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import reactor.core.publisher.Mono;
+
+public class ReactiveAuditorAwareImpl implements ReactiveAuditorAware<String> {
+    @Override
+    public Mono<String> getCurrentAuditor() {
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(context -> context.getAuthentication())
+                .filter(authentication -> authentication.getPrincipal() instanceof UserDetails)
+                .map(authentication -> ((UserDetails) authentication.getPrincipal()).getUsername());
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.khadijeelzein.accountmanager.cache;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+@Component
+public class BalanceCache {
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final ExpiringLruCache<Long, AccountBalanceProjection> balances;
+    // _id do documento da conta -> número da conta; o _id nunca muda, então o mapeamento não expira.
+    private final ExpiringLruCache<String, Long> documentAccounts;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    @Autowired
+    public BalanceCache(MeterRegistry meterRegistry,
+                        @Value("${accountmanager.balance-cache.enabled:true}") boolean enabled,
+                        @Value("${accountmanager.balance-cache.max-size:100000}") int maxSize,
+                        @Value("${accountmanager.balance-cache.staleness:1s}") Duration staleness) {
+        this.enabled = enabled;
+        this.balances = new ExpiringLruCache<>(maxSize, staleness);
+        this.documentAccounts = new ExpiringLruCache<>(maxSize, Duration.ofNanos(Long.MAX_VALUE));
+        this.hits = Counter.builder("accountmanager.balance.cache.requests").tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("accountmanager.balance.cache.requests").tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("accountmanager.balance.cache.invalidations").register(meterRegistry);
+        Gauge.builder("accountmanager.balance.cache.size", balances, ExpiringLruCache::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AccountBalanceProjection get(Long accountNbr, Function<Long, AccountBalanceProjection> loader) {
+        if (!enabled) return loader.apply(accountNbr);
+        var cached = balances.get(accountNbr);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long generation = generations.get(stripe(accountNbr));
+        var loaded = loader.apply(accountNbr);
+        if (loaded != null && loaded.getId() != null) documentAccounts.put(loaded.getId(), accountNbr);
+        if (loaded != null && generations.get(stripe(accountNbr)) == generation) {
+            balances.put(accountNbr, loaded);
+            if (generations.get(stripe(accountNbr)) != generation) balances.invalidate(accountNbr);
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long accountNbr) {
+        if (!enabled) return;
+        generations.incrementAndGet(stripe(accountNbr));
+        balances.invalidate(accountNbr);
+        invalidations.increment();
+    }
+
+    public void invalidateDocument(String documentId) {
+        if (!enabled) return;
+        var accountNbr = documentAccounts.get(documentId);
+        if (accountNbr != null) invalidate(accountNbr);
+    }
+
+    public void invalidateOnCompletion(Collection<Long> accountNbrs) {
+        if (!enabled) return;
+        accountNbrs.forEach(this::invalidate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accountNbrs.forEach(BalanceCache.this::invalidate);
+                }
+            });
+        }
+    }
+
+    private static int stripe(Long accountNbr) {
+        long hash = accountNbr * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 54);
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.khadijeelzein.accountmanager.cache;
+
+import br.com.khadijeelzein.accountmanager.model.AccountBalanceSlot;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "accountmanager.balance-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class BalanceCacheInvalidator implements SmartLifecycle {
+    private static final String ACCOUNT_COLLECTION = "account";
+    private static final String BALANCE_SLOT_COLLECTION = "account_balance_slot";
+
+    private final BalanceCache balanceCache;
+    private final MessageListenerContainer container;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    @Autowired
+    public BalanceCacheInvalidator(BalanceCache balanceCache, MessageListenerContainer container) {
+        this.balanceCache = balanceCache;
+        this.container = container;
+    }
+
+    @Override
+    public void start() {
+        container.start();
+        subscribe(ACCOUNT_COLLECTION, balanceCache::invalidateDocument);
+        subscribe(BALANCE_SLOT_COLLECTION, documentId -> {
+            var accountNbr = AccountBalanceSlot.accountNbrOf(documentId);
+            if (accountNbr != null) balanceCache.invalidate(accountNbr);
+        });
+    }
+
+    // Só o documentKey trafega no evento: sem UPDATE_LOOKUP não há leitura extra por escrita de saldo.
+    private void subscribe(String collection, Consumer<String> invalidation) {
+        MessageListener<ChangeStreamDocument<Document>, Document> listener = message -> {
+            var documentKey = message.getRaw() == null ? null : message.getRaw().getDocumentKey();
+            var id = documentKey == null ? null : documentKey.get("_id");
+            if (id == null) return;
+            if (id.isObjectId()) invalidation.accept(id.asObjectId().getValue().toHexString());
+            else if (id.isString()) invalidation.accept(id.asString().getValue());
+        };
+        var request = ChangeStreamRequest.builder(listener)
+                .collection(collection)
+                .filter(newAggregation(
+                        match(where("operationType").in("insert", "update", "replace")),
+                        project("documentKey")))
+                .build();
+        subscriptions.add(container.register(request, Document.class, error ->
+                log.error("Change stream de invalidação de saldos interrompido em {}", collection, error)));
+    }
+
+    @Override
+    public void stop() {
+        subscriptions.forEach(container::remove);
+        subscriptions.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return !subscriptions.isEmpty();
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.khadijeelzein.accountmanager.cli;
+
+import br.com.khadijeelzein.accountmanager.enums.ImportFormatEnum;
+import br.com.khadijeelzein.accountmanager.service.ClientImportServiceInterface;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "accountmanager.client-import.file")
+public class ClientImportRunner implements ApplicationRunner, ExitCodeGenerator {
+    private final ClientImportServiceInterface clientImportService;
+    private final Path file;
+    private int exitCode;
+
+    @Autowired
+    public ClientImportRunner(ClientImportServiceInterface clientImportService,
+                              @Value("${accountmanager.client-import.file}") Path file) {
+        this.clientImportService = clientImportService;
+        this.file = file;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        var format = ImportFormatEnum.fromFileName(file.getFileName().toString());
+        log.info("Importando clientes de {} ({})", file, format);
+        try (var input = Files.newInputStream(file)) {
+            var result = clientImportService.importClients(input, format);
+            result.getErrors().forEach(error ->
+                    log.warn("Linha {} rejeitada (cpf {}): {}", error.getLine(), error.getCpf(), error.getMessage()));
+            exitCode = result.getRejected() == 0 ? 0 : 2;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
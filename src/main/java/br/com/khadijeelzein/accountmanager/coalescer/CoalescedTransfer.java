@@ -0,0 +1,9 @@
+package br.com.khadijeelzein.accountmanager.coalescer;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+public record CoalescedTransfer(AccountMovementRequest request, String accountMovementId,
+                                CompletableFuture<Void> result) {
+}
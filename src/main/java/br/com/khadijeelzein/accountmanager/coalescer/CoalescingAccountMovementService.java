@@ -0,0 +1,81 @@
+package br.com.khadijeelzein.accountmanager.coalescer;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
+import br.com.khadijeelzein.accountmanager.service.AccountMovementService;
+import br.com.khadijeelzein.accountmanager.service.AccountMovementServiceInterface;
+import br.com.khadijeelzein.accountmanager.service.AccountMovementValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+@Service
+@Primary
+@Profile("coalescer & !ledger")
+public class CoalescingAccountMovementService implements AccountMovementServiceInterface {
+    private final TransferCoalescer transferCoalescer;
+    private final AccountMovementService accountMovementService;
+
+    @Autowired
+    public CoalescingAccountMovementService(TransferCoalescer transferCoalescer,
+                                            AccountMovementService accountMovementService) {
+        this.transferCoalescer = transferCoalescer;
+        this.accountMovementService = accountMovementService;
+    }
+
+    @Override
+    public void accountTransfer(AccountMovementRequest accountMovementRequest) {
+        accountTransfer(accountMovementRequest, null);
+    }
+
+    @Override
+    public void accountTransfer(AccountMovementRequest accountMovementRequest, String accountMovementId) {
+        AccountMovementValidator.checkAccountRequest(accountMovementRequest);
+        try {
+            transferCoalescer.submit(accountMovementRequest, accountMovementId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    @Override
+    public List<AccountMovementBatchResponse> accountTransferBatch(List<AccountMovementRequest> accountMovementRequests) {
+        return accountMovementService.accountTransferBatch(accountMovementRequests);
+    }
+
+    @Override
+    public Page<AccountMovementResponse> accountTransferHistory(String id, LocalDate startDate,
+                                                                LocalDate endDate, Pageable pageable) {
+        return accountMovementService.accountTransferHistory(id, startDate, endDate, pageable);
+    }
+
+    @Override
+    public AccountMovementSlicePage accountTransferHistorySlice(String id, LocalDate startDate,
+                                                               LocalDate endDate, Pageable pageable) {
+        return accountMovementService.accountTransferHistorySlice(id, startDate, endDate, pageable);
+    }
+
+    @Override
+    public AccountMovementSummaryPage accountTransferHistorySummary(String id, LocalDate startDate,
+                                                                   LocalDate endDate, Pageable pageable) {
+        return accountMovementService.accountTransferHistorySummary(id, startDate, endDate, pageable);
+    }
+
+    @Override
+    public AccountMovementCursorPage accountTransferHistory(String id, LocalDate startDate,
+                                                            LocalDate endDate, String cursor, int size) {
+        return accountMovementService.accountTransferHistory(id, startDate, endDate, cursor, size);
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.khadijeelzein.accountmanager.coalescer;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.enums.MovementStatusEnum;
+import br.com.khadijeelzein.accountmanager.service.AccountMovementService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Profile("coalescer & !ledger")
+public class TransferCoalescer implements SmartLifecycle {
+    private static final long IDLE_POLL_MS = 100;
+
+    private final AccountMovementService accountMovementService;
+    private final BlockingQueue<CoalescedTransfer> queue;
+    private final int maxBatchSize;
+    private final long windowNanos;
+
+    private volatile boolean running;
+    private Thread flusherThread;
+
+    @Autowired
+    public TransferCoalescer(AccountMovementService accountMovementService,
+                             @Value("${accountmanager.coalescer.max-batch-size:256}") int maxBatchSize,
+                             @Value("${accountmanager.coalescer.window:2ms}") Duration window,
+                             @Value("${accountmanager.coalescer.queue-capacity:65536}") int queueCapacity) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("Tamanho do lote deve ser maior que 0");
+        this.accountMovementService = accountMovementService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+    }
+
+    public CompletableFuture<Void> submit(AccountMovementRequest accountMovementRequest, String accountMovementId) {
+        if (!running) throw new IllegalStateException("Agrupador de transferências não está em execução");
+        var transfer = new CoalescedTransfer(accountMovementRequest, accountMovementId, new CompletableFuture<>());
+        if (!queue.offer(transfer)) throw new RejectedExecutionException("Fila de transferências cheia");
+        return transfer.result();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusherThread = new Thread(this::runFlusher, "transfer-coalescer");
+        flusherThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runFlusher() {
+        List<CoalescedTransfer> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                fillWindow(batch);
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void fillWindow(List<CoalescedTransfer> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) return;
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<CoalescedTransfer> batch) {
+        List<AccountMovementRequest> requests = new ArrayList<>(batch.size());
+        List<String> accountMovementIds = new ArrayList<>(batch.size());
+        for (CoalescedTransfer transfer : batch) {
+            requests.add(transfer.request());
+            accountMovementIds.add(transfer.accountMovementId());
+        }
+        try {
+            var responses = accountMovementService.accountTransferBatch(requests, accountMovementIds);
+            for (int i = 0; i < batch.size(); i++) {
+                var response = responses.get(i);
+                if (response.getStatus() == MovementStatusEnum.PROCESSADA) batch.get(i).result().complete(null);
+                else batch.get(i).result().completeExceptionally(new IllegalArgumentException(response.getMessage()));
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha ao processar lote de {} transferências agrupadas", batch.size(), e);
+            // DuplicateKeyException significa "já aplicada" para quem chama; nada do lote foi confirmado.
+            var failure = e instanceof DuplicateKeyException
+                    ? new IllegalStateException("Lote de transferências não aplicado", e) : e;
+            batch.forEach(transfer -> transfer.result().completeExceptionally(failure));
+        }
+    }
+}
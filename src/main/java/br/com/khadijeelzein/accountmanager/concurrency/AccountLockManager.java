@@ -0,0 +1,86 @@
+package br.com.khadijeelzein.accountmanager.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class AccountLockManager {
+
+    private final ReentrantLock[] locks;
+    private final AtomicLongArray acquisitions;
+    private final AtomicLongArray contentions;
+    private final int mask;
+
+    @Autowired
+    public AccountLockManager(@Value("${accountmanager.lock.stripes:64}") int stripes, MeterRegistry meterRegistry) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1)
+            throw new IllegalArgumentException("Número de stripes deve ser uma potência de 2");
+        this.locks = new ReentrantLock[stripes];
+        this.acquisitions = new AtomicLongArray(stripes);
+        this.contentions = new AtomicLongArray(stripes);
+        this.mask = stripes - 1;
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+            final int stripe = i;
+            FunctionCounter.builder("accountmanager.lock.acquisitions", acquisitions, a -> a.get(stripe))
+                    .tag("stripe", String.valueOf(stripe))
+                    .register(meterRegistry);
+            FunctionCounter.builder("accountmanager.lock.contentions", contentions, c -> c.get(stripe))
+                    .tag("stripe", String.valueOf(stripe))
+                    .register(meterRegistry);
+        }
+    }
+
+    public void withLocks(Long accountNbrA, Long accountNbrB, Runnable action) {
+        withLocks(List.of(accountNbrA, accountNbrB), () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T withLocks(Collection<Long> accountNbrs, Supplier<T> action) {
+        var stripes = accountNbrs.stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+        int locked = 0;
+        try {
+            for (int stripe : stripes) {
+                lock(stripe);
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    public int stripeOf(long accountNbr) {
+        int hash = Long.hashCode(accountNbr);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    public long getAcquisitions(int stripe) {
+        return acquisitions.get(stripe);
+    }
+
+    public long getContentions(int stripe) {
+        return contentions.get(stripe);
+    }
+
+    private void lock(int stripe) {
+        if (!locks[stripe].tryLock()) {
+            contentions.incrementAndGet(stripe);
+            locks[stripe].lock();
+        }
+        acquisitions.incrementAndGet(stripe);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.khadijeelzein.accountmanager.concurrency;
+
+import com.mongodb.MongoException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public final class TransientTransactionRetry {
+    public static final int MAX_RETRIES = 3;
+    private static final long BASE_BACKOFF_MS = 10;
+
+    private TransientTransactionRetry() {
+    }
+
+    public static <T> T execute(Supplier<T> action) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_RETRIES || !isTransient(e)) throw e;
+                backoff(attempt);
+            }
+        }
+    }
+
+    public static boolean isTransient(Throwable throwable) {
+        for (var cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL))
+                return true;
+        }
+        return false;
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, BASE_BACKOFF_MS << attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Transferência interrompida", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.khadijeelzein.accountmanager.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncTransferConfig {
+    @Bean
+    @Qualifier("transferExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor transferExecutor(@Value("${accountmanager.async.pool-size:16}") int poolSize,
+                                              @Value("${accountmanager.async.queue-capacity:1000}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("transfer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    @Qualifier("transferExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualTransferExecutor(@Value("${accountmanager.async.pool-size:16}") int poolSize,
+                                                     @Value("${accountmanager.async.queue-capacity:1000}") int queueCapacity,
+                                                     @Value("${accountmanager.async.termination-timeout-ms:30000}") long terminationTimeoutMs) {
+        var executor = new SimpleAsyncTaskExecutor("transfer-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(poolSize + queueCapacity);
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskTerminationTimeout(terminationTimeoutMs);
+        return executor;
+    }
+}
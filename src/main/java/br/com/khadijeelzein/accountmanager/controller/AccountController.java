@@ -1,12 +1,14 @@
 package br.com.khadijeelzein.accountmanager.controller;
 
 import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBatchResponse;
 import br.com.khadijeelzein.accountmanager.dto.AccountNbrResponse;
 import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
 import br.com.khadijeelzein.accountmanager.exceptions.ErrorResponse;
 import br.com.khadijeelzein.accountmanager.service.AccountService;
 import br.com.khadijeelzein.accountmanager.service.AccountServiceInterface;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -17,12 +19,16 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
+@Profile("!reactive")
 @Tag(name = "AccountController", description = "Todos os Endpoints relacionados a contas bancárias")
 @RequestMapping("/accounts")
 public class AccountController {
@@ -57,6 +63,22 @@ public class AccountController {
             return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @Tag(name = "createAccounts",description = "Endpoint responsável por criar contas bancárias em lote")
+    @Operation(summary = "Cadastra um lote de contas bancárias")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Lote processado, com o número de cada conta criada na ordem da requisição",
+                    content = { @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = AccountBatchResponse.class))) }),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o permitido",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro inesperado",content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<AccountBatchResponse>> createAccounts(@RequestBody List<AccountRequest> accountRequests) {
+        var response = accountService.createAccounts(accountRequests);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
     @Tag(name = "getAccountBalance",description = "Endpoint responsável por pesquisar o saldo atual da conta")
     @Operation(summary = "Retorna o saldo atual pelo número da conta")
     @ApiResponses(value = {
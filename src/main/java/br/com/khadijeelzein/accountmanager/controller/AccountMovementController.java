@@ -1,11 +1,24 @@
 package br.com.khadijeelzein.accountmanager.controller;
 
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
+import br.com.khadijeelzein.accountmanager.dto.TransferStatusResponse;
+import br.com.khadijeelzein.accountmanager.enums.ExportFormatEnum;
+import br.com.khadijeelzein.accountmanager.enums.HistoryModeEnum;
+import br.com.khadijeelzein.accountmanager.enums.TransferStatusEnum;
 import br.com.khadijeelzein.accountmanager.exceptions.ErrorResponse;
 import br.com.khadijeelzein.accountmanager.service.AccountMovementServiceInterface;
+import br.com.khadijeelzein.accountmanager.service.AsyncTransferServiceInterface;
+import br.com.khadijeelzein.accountmanager.service.IdempotencyServiceInterface;
+import br.com.khadijeelzein.accountmanager.service.StatementExportServiceInterface;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,24 +27,40 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @Tag(name = "AccountMovementController", description = "Todos os Endpoints relacionados a movimentações bancárias")
 public class AccountMovementController {
 
     private final AccountMovementServiceInterface accountMovementService;
+    private final IdempotencyServiceInterface idempotencyService;
+    private final AsyncTransferServiceInterface asyncTransferService;
+    private final StatementExportServiceInterface statementExportService;
 
     @Autowired
-    public AccountMovementController(AccountMovementServiceInterface accountMovementService) {
+    public AccountMovementController(AccountMovementServiceInterface accountMovementService,
+                                     IdempotencyServiceInterface idempotencyService,
+                                     AsyncTransferServiceInterface asyncTransferService,
+                                     StatementExportServiceInterface statementExportService) {
         this.accountMovementService = accountMovementService;
+        this.idempotencyService = idempotencyService;
+        this.asyncTransferService = asyncTransferService;
+        this.statementExportService = statementExportService;
     }
 
     @Tag(name = "accountTransfer",description = "Endpoint responsável por realizar tranferências entre contas")
@@ -41,23 +70,94 @@ public class AccountMovementController {
             @ApiResponse(responseCode = "200", description = "Transferência Realizada",
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Long.class)) }),
+            @ApiResponse(responseCode = "202", description = "Transferência aceita para processamento assíncrono",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TransferStatusResponse.class)) }),
             @ApiResponse(responseCode = "400", description = "Parâmetro da Requisição Inválido",
                     content = @Content),
-            @ApiResponse(responseCode = "500", description = "Erro inesperado",content = @Content)
+            @ApiResponse(responseCode = "409", description = "Requisição com a mesma Idempotency-Key em processamento",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro inesperado",content = @Content),
+            @ApiResponse(responseCode = "503", description = "Fila de transferências assíncronas cheia",
+                    content = @Content)
     })
     @PostMapping("/transactions")
-    public ResponseEntity<Void> accountTransfer(
+    public ResponseEntity<TransferStatusResponse> accountTransfer(
+            @Parameter(description = "Chave para repetir a requisição sem duplicar a transferência")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Parameter(description = "Processa a transferência de forma assíncrona e responde 202")
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
             @RequestBody @Valid AccountMovementRequest accountMovementRequest) throws Exception {
-        accountMovementService.accountTransfer(accountMovementRequest);
+        if (async) {
+            if (idempotencyKey == null) {
+                return new ResponseEntity<>(asyncTransferService.submitTransfer(accountMovementRequest),
+                        HttpStatus.ACCEPTED);
+            }
+            var transferId = idempotencyService.operationId(idempotencyKey);
+            idempotencyService.execute(idempotencyKey, accountMovementRequest,
+                    operationId -> asyncTransferService.submitTransfer(accountMovementRequest, operationId));
+            var response = asyncTransferService.getTransferStatus(transferId);
+            // A chave já validou a requisição: uma transferência que falhou volta para a fila com o mesmo id.
+            if (response != null && response.getStatus() == TransferStatusEnum.FALHA)
+                response = asyncTransferService.submitTransfer(accountMovementRequest, transferId);
+            return new ResponseEntity<>(response != null ? response
+                    : new TransferStatusResponse(transferId, TransferStatusEnum.PENDENTE, null), HttpStatus.ACCEPTED);
+        }
+        if (idempotencyKey == null) {
+            accountMovementService.accountTransfer(accountMovementRequest);
+        } else {
+            idempotencyService.execute(idempotencyKey, accountMovementRequest,
+                    operationId -> accountMovementService.accountTransfer(accountMovementRequest, operationId));
+        }
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    @Tag(name = "getTransferStatus",description = "Endpoint responsável por consultar o status de uma transferência assíncrona")
+    @Operation(summary = "Retorna o status de uma transferência assíncrona")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status encontrado",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TransferStatusResponse.class)) }),
+            @ApiResponse(responseCode = "400", description = "Id da transferência inválido",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Transferência não encontrada",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro inesperado",content = @Content)
+    })
+    @GetMapping("/transactions/{id}/status")
+    public ResponseEntity<Object> getTransferStatus(@PathVariable String id) {
+        var status = asyncTransferService.getTransferStatus(id);
+        if (status != null) return new ResponseEntity<>(status, HttpStatus.OK);
+        var errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND, "Transferência não encontrada");
+        return new ResponseEntity<>(
+                errorResponse, new HttpHeaders(), errorResponse.getStatus());
+    }
+
+    @Tag(name = "accountTransferBatch",description = "Endpoint responsável por realizar um lote de tranferências entre contas")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true)
+    @Operation(summary = "Faz um lote de transferências entre contas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado, com o status de cada transferência",
+                    content = { @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = AccountMovementBatchResponse.class))) }),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o permitido",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro inesperado",content = @Content)
+    })
+    @PostMapping("/transactions/batch")
+    public ResponseEntity<List<AccountMovementBatchResponse>> accountTransferBatch(
+            @RequestBody List<AccountMovementRequest> accountMovementRequests) {
+        var response = accountMovementService.accountTransferBatch(accountMovementRequests);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Tag(name = "accountTransferHistory",description = "Endpoint responsável por buscar o histórico de transferências")
     @Operation(summary = "Busca o histórico de transferências entre contas")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Histórico encontrado",
                     content = { @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Page.class)) }),
+                            schema = @Schema(oneOf = {Page.class, AccountMovementSlicePage.class,
+                                    AccountMovementSummaryPage.class, AccountMovementCursorPage.class})) }),
             @ApiResponse(responseCode = "400", description = "Parâmetros da Requisição Inválido",
                     content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro inesperado",content = @Content),
@@ -65,13 +165,32 @@ public class AccountMovementController {
 
     })
     @GetMapping("/accounts/{id}/transactions")
-    public ResponseEntity<Page<AccountMovementResponse>> accountTransferHistory(@PathVariable String id,
+    public ResponseEntity<Object> accountTransferHistory(@PathVariable String id,
                                                                                 @DateTimeFormat(pattern = "dd/MM/yyyy")
                                                                                 @RequestParam(value = "startDate", required=false) LocalDate startDate,
                                                                                 @DateTimeFormat(pattern = "dd/MM/yyyy")
                                                                                     @RequestParam(value = "endDate", required=false)
                                                                                              LocalDate endDate,
+                                                                                @Parameter(description = "Cursor opaco da próxima página; envie vazio para iniciar a paginação por cursor")
+                                                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                @Parameter(description = "page (com total), slice (sem total), summary (total e somas de entradas e saídas) ou cursor")
+                                                                                @RequestParam(value = "mode", required = false) String mode,
                                                                                 @ParameterObject Pageable pageable) {
+        var historyMode = mode != null ? HistoryModeEnum.fromMode(mode)
+                : cursor != null ? HistoryModeEnum.CURSOR : HistoryModeEnum.PAGE;
+        if (historyMode == HistoryModeEnum.CURSOR) {
+            var cursorPage = accountMovementService.accountTransferHistory(id, startDate, endDate, cursor,
+                    pageable.getPageSize());
+            return found(cursorPage, cursorPage.getContent());
+        }
+        if (historyMode == HistoryModeEnum.SLICE) {
+            var slicePage = accountMovementService.accountTransferHistorySlice(id, startDate, endDate, pageable);
+            return found(slicePage, slicePage.getContent());
+        }
+        if (historyMode == HistoryModeEnum.SUMMARY) {
+            var summaryPage = accountMovementService.accountTransferHistorySummary(id, startDate, endDate, pageable);
+            return found(summaryPage, summaryPage.getContent());
+        }
         var response = accountMovementService.accountTransferHistory(id,
                 startDate,
                 endDate,
@@ -81,4 +200,35 @@ public class AccountMovementController {
         }
         else return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    @Tag(name = "exportTransferHistory",description = "Endpoint responsável por exportar o histórico completo de transferências")
+    @Operation(summary = "Exporta o histórico de transferências em NDJSON ou CSV, sem paginação")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Histórico exportado",
+                    content = { @Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv") }),
+            @ApiResponse(responseCode = "400", description = "Parâmetros da Requisição Inválido",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro inesperado",content = @Content)
+    })
+    @GetMapping("/accounts/{id}/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransferHistory(@PathVariable String id,
+                                                                       @DateTimeFormat(pattern = "dd/MM/yyyy")
+                                                                       @RequestParam(value = "startDate", required = false) LocalDate startDate,
+                                                                       @DateTimeFormat(pattern = "dd/MM/yyyy")
+                                                                       @RequestParam(value = "endDate", required = false) LocalDate endDate,
+                                                                       @Parameter(description = "ndjson (padrão) ou csv")
+                                                                       @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        var exportFormat = ExportFormatEnum.fromFormat(format);
+        var body = statementExportService.exportTransferHistory(id, startDate, endDate, exportFormat);
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(exportFormat.getMediaType()));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("extrato-" + id + exportFormat.getExtension()).build());
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    private ResponseEntity<Object> found(Object response, List<AccountMovementResponse> content) {
+        if (content.isEmpty()) return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
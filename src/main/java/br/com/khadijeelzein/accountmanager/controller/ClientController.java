@@ -1,7 +1,11 @@
 package br.com.khadijeelzein.accountmanager.controller;
 
+import br.com.khadijeelzein.accountmanager.dto.ClientImportResponse;
 import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
+import br.com.khadijeelzein.accountmanager.enums.ImportFormatEnum;
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.service.ClientImportService;
+import br.com.khadijeelzein.accountmanager.service.ClientImportServiceInterface;
 import br.com.khadijeelzein.accountmanager.service.ClientService;
 import br.com.khadijeelzein.accountmanager.service.ClientServiceInterface;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,21 +16,30 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
+@Profile("!reactive")
 @Tag(name = "ClientController", description = "Todos os Endpoints relacionados a clientes")
 public class ClientController{
 
     private final ClientServiceInterface clientService;
+    private final ClientImportServiceInterface clientImportService;
 
     @Autowired
-    public ClientController(ClientService clientService) {
+    public ClientController(ClientService clientService, ClientImportService clientImportService) {
         this.clientService = clientService;
+        this.clientImportService = clientImportService;
     }
 
     @Tag(name = "addClient",description = "Endpoint responsável por cadastrar cliente")
@@ -46,4 +59,21 @@ public class ClientController{
         clientService.addClient(client);
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
+
+    @Tag(name = "importClients",description = "Endpoint responsável por importar clientes em massa")
+    @Operation(summary = "Importa clientes de um arquivo NDJSON ou CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo processado, com as linhas rejeitadas",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ClientImportResponse.class)) }),
+            @ApiResponse(responseCode = "400", description = "Formato ou cabeçalho do arquivo inválido",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro inesperado",content = @Content)
+    })
+    @PostMapping(value = "/clients/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ClientImportResponse> importClients(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                              InputStream body) throws IOException {
+        var response = clientImportService.importClients(body, ImportFormatEnum.fromMediaType(contentType));
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
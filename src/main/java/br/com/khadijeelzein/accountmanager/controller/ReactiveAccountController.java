@@ -0,0 +1,49 @@
+package br.com.khadijeelzein.accountmanager.controller;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountNbrResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
+import br.com.khadijeelzein.accountmanager.exceptions.ErrorResponse;
+import br.com.khadijeelzein.accountmanager.service.ReactiveAccountServiceInterface;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@Tag(name = "ReactiveAccountController", description = "Endpoints reativos relacionados a contas bancárias")
+@RequestMapping("/accounts")
+public class ReactiveAccountController {
+
+    private final ReactiveAccountServiceInterface accountService;
+
+    @Autowired
+    public ReactiveAccountController(ReactiveAccountServiceInterface accountService) {
+        this.accountService = accountService;
+    }
+
+    @Operation(summary = "Cadastra uma conta bancária")
+    @PostMapping
+    public Mono<ResponseEntity<AccountNbrResponse>> createAccount(@RequestBody @Valid AccountRequest accountRequest) {
+        return accountService.createAccount(accountRequest)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
+    }
+
+    @Operation(summary = "Retorna o saldo atual pelo número da conta")
+    @GetMapping("/{id}/balance")
+    public Mono<ResponseEntity<Object>> getAccountBalance(@PathVariable String id) {
+        return Mono.fromCallable(() -> Long.parseLong(id))
+                .flatMap(accountService::getAccountBalance)
+                .map(balance -> new ResponseEntity<Object>(balance, HttpStatus.OK))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    var errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND,"Saldo não encontrado, conta inexistente");
+                    return new ResponseEntity<>(errorResponse, new HttpHeaders(), errorResponse.getStatus());
+                }));
+    }
+}
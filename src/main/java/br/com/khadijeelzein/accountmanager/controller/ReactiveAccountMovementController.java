@@ -0,0 +1,50 @@
+package br.com.khadijeelzein.accountmanager.controller;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.service.ReactiveAccountMovementServiceInterface;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@Profile("reactive")
+@Tag(name = "ReactiveAccountMovementController", description = "Endpoints reativos relacionados a movimentações bancárias")
+public class ReactiveAccountMovementController {
+
+    private final ReactiveAccountMovementServiceInterface accountMovementService;
+
+    @Autowired
+    public ReactiveAccountMovementController(ReactiveAccountMovementServiceInterface accountMovementService) {
+        this.accountMovementService = accountMovementService;
+    }
+
+    @Operation(summary = "Faz transferência entre contas")
+    @PostMapping("/transactions")
+    public Mono<ResponseEntity<Void>> accountTransfer(@RequestBody @Valid AccountMovementRequest accountMovementRequest) {
+        return accountMovementService.accountTransfer(accountMovementRequest)
+                .then(Mono.just(new ResponseEntity<>(HttpStatus.OK)));
+    }
+
+    @Operation(summary = "Transmite o histórico de transferências entre contas")
+    @GetMapping(value = "/accounts/{id}/transactions",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<AccountMovementResponse> accountTransferHistory(@PathVariable String id,
+                                                                @DateTimeFormat(pattern = "dd/MM/yyyy")
+                                                                @RequestParam(value = "startDate", required = false) LocalDate startDate,
+                                                                @DateTimeFormat(pattern = "dd/MM/yyyy")
+                                                                @RequestParam(value = "endDate", required = false) LocalDate endDate) {
+        return accountMovementService.accountTransferHistory(id, startDate, endDate);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.khadijeelzein.accountmanager.controller;
+
+import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
+import br.com.khadijeelzein.accountmanager.service.ReactiveClientServiceInterface;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@Tag(name = "ReactiveClientController", description = "Endpoints reativos relacionados a clientes")
+public class ReactiveClientController {
+
+    private final ReactiveClientServiceInterface clientService;
+
+    @Autowired
+    public ReactiveClientController(ReactiveClientServiceInterface clientService) {
+        this.clientService = clientService;
+    }
+
+    @Operation(summary = "Cadastra cliente")
+    @PostMapping("/clients")
+    public Mono<ResponseEntity<Void>> addClient(@Valid @RequestBody ClientRequest client) {
+        return clientService.addClient(client)
+                .then(Mono.just(new ResponseEntity<>(HttpStatus.CREATED)));
+    }
+}
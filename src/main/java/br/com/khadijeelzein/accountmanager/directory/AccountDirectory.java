@@ -0,0 +1,59 @@
+package br.com.khadijeelzein.accountmanager.directory;
+
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class AccountDirectory {
+    private final AccountRepository accountRepository;
+    private final boolean enabled;
+    private final LongHashSet accountNbrs;
+
+    private volatile boolean ready;
+
+    @Autowired
+    public AccountDirectory(AccountRepository accountRepository,
+                            @Value("${accountmanager.account-directory.enabled:false}") boolean enabled,
+                            @Value("${accountmanager.account-directory.expected-size:1024}") int expectedSize) {
+        this.accountRepository = accountRepository;
+        this.enabled = enabled;
+        this.accountNbrs = new LongHashSet(enabled ? expectedSize : 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean contains(Long accountNbr) {
+        return accountNbr != null && accountNbr > 0 && accountNbrs.contains(accountNbr);
+    }
+
+    public synchronized void add(Long accountNbr) {
+        if (enabled) accountNbrs.add(accountNbr);
+    }
+
+    public int size() {
+        return accountNbrs.size();
+    }
+
+    public void load() {
+        try (var accounts = accountRepository.streamBalances()) {
+            accounts.map(Account::getAccountNbr).forEach(this::add);
+        }
+        log.info("Diretório de contas carregado com {} contas", accountNbrs.size());
+        ready = true;
+    }
+
+    public void markStale() {
+        ready = false;
+    }
+}
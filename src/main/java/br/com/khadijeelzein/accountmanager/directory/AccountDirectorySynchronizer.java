@@ -0,0 +1,76 @@
+package br.com.khadijeelzein.accountmanager.directory;
+
+import lombok.extern.slf4j.Slf4j;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "accountmanager.account-directory.enabled", havingValue = "true")
+public class AccountDirectorySynchronizer implements SmartLifecycle {
+    private static final Duration SUBSCRIPTION_TIMEOUT = Duration.ofSeconds(10);
+
+    private final AccountDirectory accountDirectory;
+    private final MessageListenerContainer container;
+
+    private Subscription subscription;
+
+    @Autowired
+    public AccountDirectorySynchronizer(AccountDirectory accountDirectory, MessageListenerContainer container) {
+        this.accountDirectory = accountDirectory;
+        this.container = container;
+    }
+
+    @Override
+    public void start() {
+        MessageListener<ChangeStreamDocument<Document>, Document> listener = message -> {
+            var account = message.getBody();
+            if (account != null) accountDirectory.add(account.get("accountNbr", Number.class).longValue());
+        };
+        var request = ChangeStreamRequest.builder(listener)
+                .collection("account")
+                .filter(newAggregation(match(where("operationType").is("insert"))))
+                .build();
+        container.start();
+        subscription = container.register(request, Document.class, error -> {
+            log.error("Change stream do diretório de contas interrompido, consultas voltam ao MongoDB", error);
+            accountDirectory.markStale();
+        });
+        try {
+            if (!subscription.await(SUBSCRIPTION_TIMEOUT)) {
+                log.warn("Change stream do diretório de contas indisponível, consultas continuam no MongoDB");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        accountDirectory.load();
+    }
+
+    @Override
+    public void stop() {
+        accountDirectory.markStale();
+        if (subscription != null) container.remove(subscription);
+        subscription = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.khadijeelzein.accountmanager.directory;
+
+public class LongHashSet {
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile long[] keys;
+    private int size;
+
+    public LongHashSet(int expectedSize) {
+        keys = new long[capacityFor(Math.max(MIN_CAPACITY, expectedSize))];
+    }
+
+    public boolean contains(long key) {
+        var table = keys;
+        return table[indexOf(table, key)] == key;
+    }
+
+    public boolean add(long key) {
+        if (key <= EMPTY) throw new IllegalArgumentException("Número da conta deve ser maior que 0");
+        var table = keys;
+        int index = indexOf(table, key);
+        if (table[index] == key) return false;
+        if ((size + 1) * 4L > table.length * 3L) {
+            table = rehash(table, table.length << 1);
+            index = indexOf(table, key);
+        }
+        table[index] = key;
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    private static int indexOf(long[] table, long key) {
+        int mask = table.length - 1;
+        int index = mix(key) & mask;
+        while (table[index] != EMPTY && table[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private long[] rehash(long[] oldTable, int capacity) {
+        var table = new long[capacity];
+        for (long key : oldTable) {
+            if (key != EMPTY) table[indexOf(table, key)] = key;
+        }
+        keys = table;
+        return table;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long minimum = (expectedSize * 4L + 2) / 3;
+        if (minimum > 1 << 30) throw new IllegalArgumentException("Capacidade máxima excedida");
+        return Integer.highestOneBit((int) Math.max(MIN_CAPACITY, minimum - 1)) << 1;
+    }
+}
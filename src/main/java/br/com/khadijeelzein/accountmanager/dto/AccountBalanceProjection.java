@@ -1,8 +1,15 @@
 package br.com.khadijeelzein.accountmanager.dto;
 
+import br.com.khadijeelzein.accountmanager.json.CentsSerializer;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 public interface AccountBalanceProjection {
+    @JsonIgnore
+    String getId();
+
     @JsonProperty("saldo_atual")
-    Double getCurrentBalance();
+    @JsonSerialize(using = CentsSerializer.class)
+    long getCurrentBalance();
 }
\ No newline at end of file
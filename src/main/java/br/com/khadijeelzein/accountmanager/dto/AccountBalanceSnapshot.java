@@ -0,0 +1,39 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import br.com.khadijeelzein.accountmanager.model.Account;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@ToString
+@EqualsAndHashCode
+public final class AccountBalanceSnapshot {
+    private final Map<Long, Long> balances;
+
+    private AccountBalanceSnapshot(Map<Long, Long> balances) {
+        this.balances = balances;
+    }
+
+    public static AccountBalanceSnapshot of(Collection<Account> accounts) {
+        Map<Long, Long> balances = new HashMap<>(accounts.size() * 2);
+        accounts.forEach(account -> balances.put(account.getAccountNbr(), account.getCurrentBalance()));
+        return new AccountBalanceSnapshot(balances);
+    }
+
+    public boolean exists(Long accountNbr) {
+        return balances.containsKey(accountNbr);
+    }
+
+    public boolean existsAll(Long accountNbrA, Long accountNbrB) {
+        return exists(accountNbrA) && exists(accountNbrB);
+    }
+
+    public long getBalance(Long accountNbr) {
+        var balance = balances.get(accountNbr);
+        if (balance == null) throw new IllegalArgumentException("Contas Inexistente");
+        return balance;
+    }
+}
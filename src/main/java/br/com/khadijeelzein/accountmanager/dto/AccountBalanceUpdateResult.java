@@ -0,0 +1,14 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class AccountBalanceUpdateResult {
+    private long matchedCount;
+    private long modifiedCount;
+    private List<Long> unmatchedAccountNbrs;
+}
@@ -0,0 +1,16 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountBatchResponse {
+    @JsonProperty("indice")
+    private int index;
+    @JsonProperty("numero_conta")
+    private Long accountNbr;
+    @JsonProperty("mensagem")
+    private String message;
+}
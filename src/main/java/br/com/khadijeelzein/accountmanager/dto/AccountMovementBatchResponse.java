@@ -0,0 +1,17 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import br.com.khadijeelzein.accountmanager.enums.MovementStatusEnum;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AccountMovementBatchResponse {
+    @JsonProperty("indice")
+    private int index;
+    @JsonProperty("status")
+    private MovementStatusEnum status;
+    @JsonProperty("mensagem")
+    private String message;
+}
@@ -0,0 +1,16 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class AccountMovementCursorPage {
+    @JsonProperty("conteudo")
+    private List<AccountMovementResponse> content;
+    @JsonProperty("proximo_cursor")
+    private String nextCursor;
+}
@@ -1,6 +1,10 @@
 package br.com.khadijeelzein.accountmanager.dto;
 
+import br.com.khadijeelzein.accountmanager.json.CentsDeserializer;
+import br.com.khadijeelzein.accountmanager.json.CentsSerializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -21,7 +25,9 @@ public class AccountMovementRequest {
     @Positive
     @NotNull
     @JsonProperty("valor")
-    private Double amount;
+    @JsonSerialize(using = CentsSerializer.class)
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private Long amount;
 
     @NotBlank
     @JsonProperty("tipo")
@@ -1,7 +1,10 @@
 package br.com.khadijeelzein.accountmanager.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import br.com.khadijeelzein.accountmanager.json.CentsSerializer;
 import lombok.Builder;
 import lombok.Data;
 
@@ -15,10 +18,15 @@ public class AccountMovementResponse {
     @JsonProperty("conta_destino")
     private Long accountDestination;
     @JsonProperty("valor")
-    private Double amount;
+    @JsonSerialize(using = CentsSerializer.class)
+    private long amount;
     @JsonProperty("tipo")
     private String type;
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
     @JsonProperty("data_hora")
     private LocalDateTime dateTime;
+    @JsonProperty("saldo_apos")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonSerialize(using = CentsSerializer.class)
+    private Long balanceAfter;
 }
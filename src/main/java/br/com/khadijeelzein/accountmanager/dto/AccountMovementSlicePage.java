@@ -0,0 +1,20 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class AccountMovementSlicePage {
+    @JsonProperty("conteudo")
+    private List<AccountMovementResponse> content;
+    @JsonProperty("pagina")
+    private int page;
+    @JsonProperty("tamanho")
+    private int size;
+    @JsonProperty("tem_proxima")
+    private boolean hasNext;
+}
@@ -0,0 +1,28 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import br.com.khadijeelzein.accountmanager.json.CentsSerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class AccountMovementSummaryPage {
+    @JsonProperty("conteudo")
+    private List<AccountMovementResponse> content;
+    @JsonProperty("pagina")
+    private int page;
+    @JsonProperty("tamanho")
+    private int size;
+    @JsonProperty("total")
+    private long totalElements;
+    @JsonProperty("total_entradas")
+    @JsonSerialize(using = CentsSerializer.class)
+    private long incoming;
+    @JsonProperty("total_saidas")
+    @JsonSerialize(using = CentsSerializer.class)
+    private long outgoing;
+}
@@ -13,5 +13,5 @@ public class AccountResponse {
 
     private TypeEnum type;
 
-    private Double currentBalance;
+    private long currentBalance;
 }
@@ -0,0 +1,16 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ClientImportError {
+    @JsonProperty("linha")
+    private long line;
+    @JsonProperty("cpf")
+    private String cpf;
+    @JsonProperty("mensagem")
+    private String message;
+}
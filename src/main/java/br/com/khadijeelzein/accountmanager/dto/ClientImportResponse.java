@@ -0,0 +1,18 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ClientImportResponse {
+    @JsonProperty("importados")
+    private long imported;
+    @JsonProperty("rejeitados")
+    private long rejected;
+    @JsonProperty("erros")
+    private List<ClientImportError> errors;
+}
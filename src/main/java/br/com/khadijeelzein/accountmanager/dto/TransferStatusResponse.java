@@ -0,0 +1,19 @@
+package br.com.khadijeelzein.accountmanager.dto;
+
+import br.com.khadijeelzein.accountmanager.enums.TransferStatusEnum;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransferStatusResponse {
+    @JsonProperty("id_transferencia")
+    private String id;
+    @JsonProperty("status")
+    private TransferStatusEnum status;
+    @JsonProperty("mensagem")
+    private String message;
+}
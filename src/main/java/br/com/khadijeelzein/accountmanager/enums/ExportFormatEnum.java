@@ -0,0 +1,25 @@
+package br.com.khadijeelzein.accountmanager.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormatEnum {
+    NDJSON("ndjson", "application/x-ndjson", ".ndjson"),
+    CSV("csv", "text/csv", ".csv");
+
+    private final String format;
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormatEnum(String format, String mediaType, String extension) {
+        this.format = format;
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ExportFormatEnum fromFormat(String format) {
+        for (ExportFormatEnum exportFormat : values())
+            if (exportFormat.format.equalsIgnoreCase(format)) return exportFormat;
+        throw new IllegalArgumentException("Formato de exportação inválido");
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.khadijeelzein.accountmanager.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum HistoryModeEnum {
+    PAGE("page"),
+    SLICE("slice"),
+    SUMMARY("summary"),
+    CURSOR("cursor");
+
+    private final String mode;
+
+    HistoryModeEnum(String mode) {
+        this.mode = mode;
+    }
+
+    public static HistoryModeEnum fromMode(String mode) {
+        for (HistoryModeEnum historyMode : values())
+            if (historyMode.mode.equalsIgnoreCase(mode)) return historyMode;
+        throw new IllegalArgumentException("Modo de histórico inválido");
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.khadijeelzein.accountmanager.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum IdempotencyStatusEnum {
+    EM_PROCESSAMENTO(1,"EM_PROCESSAMENTO"),
+    PROCESSADA(2,"PROCESSADA"),
+    REJEITADA(3,"REJEITADA");
+
+    private final String status;
+    private final Integer id;
+
+    IdempotencyStatusEnum(Integer id, String status) {
+        this.id = id;
+        this.status = status;
+    }
+}
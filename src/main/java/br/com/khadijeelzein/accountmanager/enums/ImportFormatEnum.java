@@ -0,0 +1,29 @@
+package br.com.khadijeelzein.accountmanager.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ImportFormatEnum {
+    NDJSON("application/x-ndjson", ".ndjson"),
+    CSV("text/csv", ".csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ImportFormatEnum(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ImportFormatEnum fromMediaType(String mediaType) {
+        for (ImportFormatEnum format : values())
+            if (mediaType != null && mediaType.toLowerCase().startsWith(format.mediaType)) return format;
+        throw new IllegalArgumentException("Formato de importação inválido");
+    }
+
+    public static ImportFormatEnum fromFileName(String fileName) {
+        for (ImportFormatEnum format : values())
+            if (fileName.toLowerCase().endsWith(format.extension)) return format;
+        throw new IllegalArgumentException("Formato de importação inválido");
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.khadijeelzein.accountmanager.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum MovementStatusEnum {
+    PROCESSADA(1,"PROCESSADA"),
+    REJEITADA(2,"REJEITADA");
+
+    private final String status;
+    private final Integer id;
+
+    MovementStatusEnum(Integer id, String status) {
+        this.id = id;
+        this.status = status;
+    }
+}
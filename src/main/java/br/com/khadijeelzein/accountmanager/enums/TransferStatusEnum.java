@@ -0,0 +1,19 @@
+package br.com.khadijeelzein.accountmanager.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TransferStatusEnum {
+    PENDENTE(1,"PENDENTE"),
+    CONCLUIDA(2,"CONCLUIDA"),
+    REJEITADA(3,"REJEITADA"),
+    FALHA(4,"FALHA");
+
+    private final String status;
+    private final Integer id;
+
+    TransferStatusEnum(Integer id, String status) {
+        this.id = id;
+        this.status = status;
+    }
+}
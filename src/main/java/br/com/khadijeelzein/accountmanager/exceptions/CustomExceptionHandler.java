@@ -11,13 +11,17 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.DateTimeException;
+import java.util.concurrent.RejectedExecutionException;
 
 @ControllerAdvice
 public class CustomExceptionHandler {
-    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentNotValidException.class,ConstraintViolationException.class})
+    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentNotValidException.class,ConstraintViolationException.class,
+            WebExchangeBindException.class, ServerWebInputException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<Object> illegalArgumentException(Exception ex) {
         String error = "Requisição inválida";
@@ -33,6 +37,22 @@ public class CustomExceptionHandler {
         return new ResponseEntity<>(
                 errorResponse, new HttpHeaders(), errorResponse.getStatus());
     }
+    @ExceptionHandler(IdempotencyConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<Object> idempotencyConflictException(IdempotencyConflictException ex) {
+        String error = "Requisição duplicada";
+        var errorResponse = new ErrorResponse(HttpStatus.CONFLICT,ex.getLocalizedMessage(),error);
+        return new ResponseEntity<>(
+                errorResponse, new HttpHeaders(), errorResponse.getStatus());
+    }
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<Object> rejectedExecutionException(RejectedExecutionException ex) {
+        String error = "Serviço sobrecarregado, tente novamente";
+        var errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,ex.getLocalizedMessage(),error);
+        return new ResponseEntity<>(
+                errorResponse, new HttpHeaders(), errorResponse.getStatus());
+    }
     @ExceptionHandler(NullPointerException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<Object> nullPointerException(NullPointerException ex) {
@@ -52,7 +72,7 @@ public class CustomExceptionHandler {
 
     @ExceptionHandler({HttpMediaTypeException.class, HttpMessageNotReadableException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<Object> httpMediaTypeException(RuntimeException ex) {
+    public ResponseEntity<Object> httpMediaTypeException(Exception ex) {
         String error = "Tipo de parametro não aceito";
         var errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST,ex.getLocalizedMessage(),error);
         return new ResponseEntity<>(
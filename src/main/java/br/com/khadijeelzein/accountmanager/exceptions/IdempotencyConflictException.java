@@ -0,0 +1,7 @@
+package br.com.khadijeelzein.accountmanager.exceptions;
+
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
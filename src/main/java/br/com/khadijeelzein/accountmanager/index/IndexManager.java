@@ -0,0 +1,92 @@
+package br.com.khadijeelzein.accountmanager.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class IndexManager implements ApplicationRunner {
+    public static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            RequiredIndex.of("ledger_entry", "accountNbr_dateTime_id", "accountNbr", "dateTime", "_id"),
+            RequiredIndex.unique("account", "accountNbr", false, "accountNbr"),
+            RequiredIndex.of("account", "accountNbr_currentBalance", "accountNbr", "currentBalance"),
+            RequiredIndex.unique("client", "cpfKey", true, "cpfKey")
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean createIndexes;
+    private final boolean failOnMissing;
+
+    private volatile boolean building;
+
+    @Autowired
+    public IndexManager(MongoTemplate mongoTemplate,
+                        @Value("${accountmanager.indexes.create:true}") boolean createIndexes,
+                        @Value("${accountmanager.indexes.on-missing:fail}") String onMissing) {
+        this.mongoTemplate = mongoTemplate;
+        this.createIndexes = createIndexes;
+        this.failOnMissing = switch (onMissing.toLowerCase()) {
+            case "fail" -> true;
+            case "warn" -> false;
+            default -> throw new IllegalArgumentException("Política de índice ausente inválida: " + onMissing);
+        };
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!createIndexes) {
+            warnMissing();
+            return;
+        }
+        building = true;
+        var builder = new Thread(() -> {
+            try {
+                ensureIndexes();
+            } finally {
+                building = false;
+            }
+        }, "index-manager");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    public void ensureIndexes() {
+        for (RequiredIndex requiredIndex : missingIndexes()) {
+            try {
+                mongoTemplate.indexOps(requiredIndex.collection()).ensureIndex(requiredIndex.toIndex());
+                log.info("Índice {} criado na coleção {}", requiredIndex.name(), requiredIndex.collection());
+            } catch (DataAccessException e) {
+                log.error("Falha ao criar o índice {} na coleção {}", requiredIndex.name(), requiredIndex.collection(), e);
+            }
+        }
+        warnMissing();
+    }
+
+    public List<RequiredIndex> missingIndexes() {
+        return REQUIRED_INDEXES.stream()
+                .filter(requiredIndex -> mongoTemplate.indexOps(requiredIndex.collection()).getIndexInfo().stream()
+                        .noneMatch(requiredIndex::isSatisfiedBy))
+                .toList();
+    }
+
+    public boolean isBuilding() {
+        return building;
+    }
+
+    public boolean isFailOnMissing() {
+        return failOnMissing;
+    }
+
+    private void warnMissing() {
+        missingIndexes().forEach(requiredIndex -> log.warn("Índice obrigatório {} ausente na coleção {}",
+                requiredIndex.name(), requiredIndex.collection()));
+    }
+}
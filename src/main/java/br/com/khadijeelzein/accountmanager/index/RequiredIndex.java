@@ -0,0 +1,36 @@
+package br.com.khadijeelzein.accountmanager.index;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+import java.util.List;
+
+public record RequiredIndex(String collection, String name, List<String> fields, boolean unique, boolean sparse) {
+
+    public static RequiredIndex of(String collection, String name, String... fields) {
+        return new RequiredIndex(collection, name, List.of(fields), false, false);
+    }
+
+    public static RequiredIndex unique(String collection, String name, boolean sparse, String... fields) {
+        return new RequiredIndex(collection, name, List.of(fields), true, sparse);
+    }
+
+    public Index toIndex() {
+        var index = new Index().named(name);
+        fields.forEach(field -> index.on(field, Sort.Direction.ASC));
+        if (unique) index.unique();
+        if (sparse) index.sparse();
+        return index;
+    }
+
+    public boolean isSatisfiedBy(IndexInfo indexInfo) {
+        var indexFields = indexInfo.getIndexFields();
+        var keys = indexFields.stream().map(IndexField::getKey).toList();
+        return keys.equals(fields)
+                && indexFields.stream().allMatch(field -> field.getDirection() == Sort.Direction.ASC)
+                && (!unique || indexInfo.isUnique())
+                && indexInfo.isSparse() == sparse;
+    }
+}
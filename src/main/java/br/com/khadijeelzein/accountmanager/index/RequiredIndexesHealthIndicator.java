@@ -0,0 +1,28 @@
+package br.com.khadijeelzein.accountmanager.index;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RequiredIndexesHealthIndicator implements HealthIndicator {
+    private final IndexManager indexManager;
+
+    @Autowired
+    public RequiredIndexesHealthIndicator(IndexManager indexManager) {
+        this.indexManager = indexManager;
+    }
+
+    @Override
+    public Health health() {
+        var missing = indexManager.missingIndexes().stream()
+                .map(requiredIndex -> requiredIndex.collection() + "." + requiredIndex.name())
+                .toList();
+        if (missing.isEmpty()) return Health.up().withDetail("indices", IndexManager.REQUIRED_INDEXES.size()).build();
+        var health = indexManager.isFailOnMissing() ? Health.outOfService() : Health.up();
+        return health.withDetail("ausentes", missing)
+                .withDetail("emConstrucao", indexManager.isBuilding())
+                .build();
+    }
+}
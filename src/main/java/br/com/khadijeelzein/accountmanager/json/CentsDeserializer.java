@@ -0,0 +1,33 @@
+package br.com.khadijeelzein.accountmanager.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+public class CentsDeserializer extends JsonDeserializer<Long> {
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        BigDecimal value;
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT || parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+            value = parser.getDecimalValue();
+        } else if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            try {
+                value = new BigDecimal(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return (Long) context.handleWeirdStringValue(Long.class, parser.getText(), "Valor Inválido");
+            }
+        } else {
+            return (Long) context.handleUnexpectedToken(Long.class, parser);
+        }
+        try {
+            return value.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            return (Long) context.handleWeirdNumberValue(Long.class, value,
+                    "Valor deve ter no máximo duas casas decimais");
+        }
+    }
+}
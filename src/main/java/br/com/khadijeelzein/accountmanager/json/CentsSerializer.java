@@ -0,0 +1,15 @@
+package br.com.khadijeelzein.accountmanager.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+public class CentsSerializer extends JsonSerializer<Long> {
+    @Override
+    public void serialize(Long cents, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeNumber(BigDecimal.valueOf(cents, 2));
+    }
+}
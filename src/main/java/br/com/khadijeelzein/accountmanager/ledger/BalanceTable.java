@@ -0,0 +1,79 @@
+package br.com.khadijeelzein.accountmanager.ledger;
+
+public class BalanceTable {
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+
+    public BalanceTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    public boolean contains(long accountNbr) {
+        return keys[indexOf(accountNbr)] == accountNbr;
+    }
+
+    public long get(long accountNbr) {
+        int index = indexOf(accountNbr);
+        return keys[index] == accountNbr ? values[index] : MISSING;
+    }
+
+    public void put(long accountNbr, long balance) {
+        if (accountNbr <= EMPTY) throw new IllegalArgumentException("Número da conta deve ser maior que 0");
+        int index = indexOf(accountNbr);
+        if (keys[index] != accountNbr) {
+            keys[index] = accountNbr;
+            if (++size * 2 > keys.length) resize();
+            index = indexOf(accountNbr);
+        }
+        values[index] = balance;
+    }
+
+    public void add(long accountNbr, long delta) {
+        int index = indexOf(accountNbr);
+        if (keys[index] != accountNbr) throw new IllegalArgumentException("Conta não carregada: " + accountNbr);
+        values[index] += delta;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int indexOf(long accountNbr) {
+        int index = mix(accountNbr) & mask;
+        while (keys[index] != EMPTY && keys[index] != accountNbr) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+}
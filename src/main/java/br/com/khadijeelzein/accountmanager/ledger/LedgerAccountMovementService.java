@@ -0,0 +1,107 @@
+package br.com.khadijeelzein.accountmanager.ledger;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
+import br.com.khadijeelzein.accountmanager.enums.MovementStatusEnum;
+import br.com.khadijeelzein.accountmanager.service.AccountMovementService;
+import br.com.khadijeelzein.accountmanager.service.AccountMovementServiceInterface;
+import br.com.khadijeelzein.accountmanager.service.AccountMovementValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Service
+@Primary
+@Profile("ledger")
+public class LedgerAccountMovementService implements AccountMovementServiceInterface {
+    private final LedgerEngine ledgerEngine;
+    private final AccountMovementService accountMovementService;
+
+    @Autowired
+    public LedgerAccountMovementService(LedgerEngine ledgerEngine, AccountMovementService accountMovementService) {
+        this.ledgerEngine = ledgerEngine;
+        this.accountMovementService = accountMovementService;
+    }
+
+    @Override
+    public void accountTransfer(AccountMovementRequest accountMovementRequest) {
+        accountTransfer(accountMovementRequest, null);
+    }
+
+    @Override
+    public void accountTransfer(AccountMovementRequest accountMovementRequest, String accountMovementId) {
+        AccountMovementValidator.checkAccountRequest(accountMovementRequest);
+        await(ledgerEngine.submit(accountMovementRequest, accountMovementId));
+    }
+
+    @Override
+    public List<AccountMovementBatchResponse> accountTransferBatch(List<AccountMovementRequest> accountMovementRequests) {
+        AccountMovementValidator.checkBatchSize(accountMovementRequests);
+        List<CompletableFuture<Void>> results = new ArrayList<>(accountMovementRequests.size());
+        for (AccountMovementRequest accountMovementRequest : accountMovementRequests) {
+            try {
+                if(accountMovementRequest==null) throw new IllegalArgumentException("Transferência não pode ser nula");
+                AccountMovementValidator.checkAccountRequest(accountMovementRequest);
+                results.add(ledgerEngine.submit(accountMovementRequest));
+            } catch (IllegalArgumentException e) {
+                results.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        List<AccountMovementBatchResponse> responses = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                await(results.get(i));
+                responses.add(new AccountMovementBatchResponse(i, MovementStatusEnum.PROCESSADA, null));
+            } catch (IllegalArgumentException e) {
+                responses.add(new AccountMovementBatchResponse(i, MovementStatusEnum.REJEITADA, e.getMessage()));
+            }
+        }
+        return responses;
+    }
+
+    @Override
+    public Page<AccountMovementResponse> accountTransferHistory(String id, LocalDate startDate,
+                                                                LocalDate endDate, Pageable pageable) {
+        return accountMovementService.accountTransferHistory(id, startDate, endDate, pageable);
+    }
+
+    @Override
+    public AccountMovementSlicePage accountTransferHistorySlice(String id, LocalDate startDate,
+                                                               LocalDate endDate, Pageable pageable) {
+        return accountMovementService.accountTransferHistorySlice(id, startDate, endDate, pageable);
+    }
+
+    @Override
+    public AccountMovementSummaryPage accountTransferHistorySummary(String id, LocalDate startDate,
+                                                                   LocalDate endDate, Pageable pageable) {
+        return accountMovementService.accountTransferHistorySummary(id, startDate, endDate, pageable);
+    }
+
+    @Override
+    public AccountMovementCursorPage accountTransferHistory(String id, LocalDate startDate,
+                                                            LocalDate endDate, String cursor, int size) {
+        return accountMovementService.accountTransferHistory(id, startDate, endDate, cursor, size);
+    }
+
+    private void await(CompletableFuture<Void> result) {
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package br.com.khadijeelzein.accountmanager.ledger;
+
+import br.com.khadijeelzein.accountmanager.concurrency.TransientTransactionRetry;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.mapper.AccountMovementMapper;
+import br.com.khadijeelzein.accountmanager.mapper.LedgerEntryMapper;
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import br.com.khadijeelzein.accountmanager.model.LedgerDeadLetter;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+import br.com.khadijeelzein.accountmanager.repository.AccountMovementRepository;
+import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
+import br.com.khadijeelzein.accountmanager.repository.LedgerDeadLetterRepository;
+import br.com.khadijeelzein.accountmanager.repository.LedgerEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Profile("ledger")
+public class LedgerEngine implements SmartLifecycle {
+    private static final long IDLE_POLL_MS = 100;
+    private static final long RETRY_BACKOFF_MS = 500;
+    private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+
+    private final AccountRepository accountRepository;
+    private final AccountMovementRepository accountMovementRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerDeadLetterRepository ledgerDeadLetterRepository;
+    private final TransactionOperations transactionOperations;
+    private final BlockingQueue<TransferCommand> ringBuffer;
+    private final BlockingQueue<LedgerEvent> writeBehindQueue;
+    private final int writeBehindBatchSize;
+    private final long writeBehindLingerMs;
+    private final int writeBehindMaxRetries;
+    private final BalanceTable balances = new BalanceTable(1024);
+    private final BalanceTable movementCounts = new BalanceTable(1024);
+    private final Set<String> unflushedMovementIds = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private volatile boolean halted;
+    private Thread writerThread;
+    private Thread writeBehindThread;
+
+    @Autowired
+    public LedgerEngine(AccountRepository accountRepository,
+                        AccountMovementRepository accountMovementRepository,
+                        LedgerEntryRepository ledgerEntryRepository,
+                        LedgerDeadLetterRepository ledgerDeadLetterRepository,
+                        TransactionOperations transactionOperations,
+                        @Value("${accountmanager.ledger.ring-size:65536}") int ringSize,
+                        @Value("${accountmanager.ledger.write-behind.batch-size:500}") int writeBehindBatchSize,
+                        @Value("${accountmanager.ledger.write-behind.linger-ms:5}") long writeBehindLingerMs,
+                        @Value("${accountmanager.ledger.write-behind.max-retries:10}") int writeBehindMaxRetries) {
+        this.accountRepository = accountRepository;
+        this.accountMovementRepository = accountMovementRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.ledgerDeadLetterRepository = ledgerDeadLetterRepository;
+        this.transactionOperations = transactionOperations;
+        this.ringBuffer = new ArrayBlockingQueue<>(ringSize);
+        this.writeBehindQueue = new ArrayBlockingQueue<>(ringSize);
+        this.writeBehindBatchSize = writeBehindBatchSize;
+        this.writeBehindLingerMs = writeBehindLingerMs;
+        this.writeBehindMaxRetries = writeBehindMaxRetries;
+    }
+
+    public CompletableFuture<Void> submit(AccountMovementRequest accountMovementRequest) {
+        return submit(accountMovementRequest, null);
+    }
+
+    public CompletableFuture<Void> submit(AccountMovementRequest accountMovementRequest, String accountMovementId) {
+        if (!running) throw new IllegalStateException("Ledger não está em execução");
+        var command = new TransferCommand(accountMovementRequest, accountMovementId, new CompletableFuture<>());
+        try {
+            ringBuffer.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.result().completeExceptionally(e);
+        }
+        return command.result();
+    }
+
+    @Override
+    public void start() {
+        accountRepository.findAccountNbrsWithBalanceSlots().forEach(accountNbr ->
+                transactionOperations.execute(status -> accountRepository.consolidateAccountBalanceSlots(accountNbr)));
+        try (var accounts = accountRepository.streamBalances()) {
+            accounts.forEach(this::load);
+        }
+        log.info("Ledger reconstruído com {} contas", balances.size());
+        running = true;
+        writerThread = new Thread(this::runWriter, "ledger-writer");
+        writeBehindThread = new Thread(this::runWriteBehind, "ledger-write-behind");
+        writerThread.start();
+        writeBehindThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writerThread.join();
+            writeBehindThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isHalted() {
+        return halted;
+    }
+
+    private void runWriter() {
+        while (running || !ringBuffer.isEmpty()) {
+            try {
+                var command = ringBuffer.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (command != null) apply(command);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void apply(TransferCommand command) throws InterruptedException {
+        var request = command.request();
+        long origin = request.getAccountNbrOrigin();
+        long destination = request.getAccountNbrDestination();
+        long amount = request.getAmount();
+        if (halted) {
+            command.result().completeExceptionally(new IllegalStateException("Ledger interrompido por falha de persistência"));
+            return;
+        }
+        try {
+            if (isDuplicate(command.accountMovementId())) {
+                command.result().completeExceptionally(
+                        new DuplicateKeyException("Movimentação já aplicada: " + command.accountMovementId()));
+                return;
+            }
+            if (!ensureLoaded(origin, destination)) {
+                command.result().completeExceptionally(new IllegalArgumentException("Contas Inexistente"));
+                return;
+            }
+        } catch (DataAccessException e) {
+            command.result().completeExceptionally(e);
+            return;
+        }
+        if (balances.get(origin) < amount) {
+            command.result().completeExceptionally(new IllegalArgumentException("Saldo insuficiente"));
+            return;
+        }
+        balances.add(origin, -amount);
+        balances.add(destination, amount);
+        movementCounts.add(origin, 1);
+        movementCounts.add(destination, 1);
+        var accountMovement = AccountMovementMapper.toAccountMovement(request);
+        if (command.accountMovementId() != null) {
+            accountMovement.setId(command.accountMovementId());
+            unflushedMovementIds.add(command.accountMovementId());
+        } else {
+            accountMovement.setId(new ObjectId().toHexString());
+        }
+        writeBehindQueue.put(new LedgerEvent(accountMovement,
+                origin, balances.get(origin), movementCounts.get(origin),
+                destination, balances.get(destination), movementCounts.get(destination)));
+        command.result().complete(null);
+    }
+
+    private boolean isDuplicate(String accountMovementId) {
+        return accountMovementId != null && (unflushedMovementIds.contains(accountMovementId)
+                || accountMovementRepository.existsById(accountMovementId));
+    }
+
+    private boolean ensureLoaded(long origin, long destination) {
+        if (balances.contains(origin) && balances.contains(destination)) return true;
+        accountRepository.findBalancesByAccountNbrIn(List.of(origin, destination)).forEach(account -> {
+            if (!balances.contains(account.getAccountNbr())) load(account);
+        });
+        return balances.contains(origin) && balances.contains(destination);
+    }
+
+    private void load(Account account) {
+        balances.put(account.getAccountNbr(), account.getCurrentBalance());
+        movementCounts.put(account.getAccountNbr(),
+                account.getMovementCount() != null ? account.getMovementCount() : 0L);
+    }
+
+    private void runWriteBehind() {
+        List<LedgerEvent> batch = new ArrayList<>(writeBehindBatchSize);
+        while (running || writerThread.isAlive() || !writeBehindQueue.isEmpty()) {
+            try {
+                var first = writeBehindQueue.poll(writeBehindLingerMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                writeBehindQueue.drainTo(batch, writeBehindBatchSize - 1);
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(List<LedgerEvent> batch) throws InterruptedException {
+        Map<Long, Account> latestAccounts = new LinkedHashMap<>();
+        List<AccountMovement> accountMovements = new ArrayList<>(batch.size());
+        List<LedgerEntry> ledgerEntries = new ArrayList<>(batch.size() * 2);
+        for (LedgerEvent event : batch) {
+            latestAccounts.put(event.accountOrigin(), Account.builder().accountNbr(event.accountOrigin())
+                    .currentBalance(event.balanceOrigin()).movementCount(event.movementCountOrigin()).build());
+            latestAccounts.put(event.accountDestination(), Account.builder().accountNbr(event.accountDestination())
+                    .currentBalance(event.balanceDestination()).movementCount(event.movementCountDestination()).build());
+            accountMovements.add(event.accountMovement());
+            ledgerEntries.addAll(LedgerEntryMapper.toLedgerEntries(event.accountMovement(),
+                    event.balanceOrigin(), event.balanceDestination()));
+        }
+        List<Account> accounts = new ArrayList<>(latestAccounts.values());
+        // Após uma parada, os saldos absolutos dos lotes seguintes já incluem os lotes perdidos: nada mais é gravado.
+        if (halted) {
+            deadLetter(accountMovements, accounts, "Ledger interrompido por falha anterior");
+            return;
+        }
+        // Saldos e contadores são gravados com valores absolutos: repetir o lote após uma falha parcial é seguro.
+        for (int attempt = 0; ; attempt++) {
+            try {
+                accountRepository.updateAccountByAccountNbr(accounts, BulkOperations.BulkMode.UNORDERED);
+                accountMovementRepository.upsertAccountMovements(accountMovements);
+                ledgerEntryRepository.upsertLedgerEntries(ledgerEntries);
+                accountMovements.forEach(accountMovement -> unflushedMovementIds.remove(accountMovement.getId()));
+                return;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e) || attempt >= writeBehindMaxRetries) {
+                    halt(accountMovements, accounts, e);
+                    return;
+                }
+                log.warn("Falha transitória ao persistir lote do ledger (tentativa {}), tentando novamente", attempt + 1, e);
+            }
+            Thread.sleep(Math.min(RETRY_BACKOFF_MS << Math.min(attempt, 6), MAX_RETRY_BACKOFF_MS));
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        return e instanceof DataAccessResourceFailureException || e instanceof TransientDataAccessException
+                || TransientTransactionRetry.isTransient(e);
+    }
+
+    // Para o motor: novas transferências são recusadas e o lote vai para ledger_dead_letter para reprocessamento manual.
+    private void halt(List<AccountMovement> accountMovements, List<Account> accounts, RuntimeException cause) {
+        halted = true;
+        running = false;
+        log.error("ALERTA: ledger interrompido; lote com {} movimentações enviado para ledger_dead_letter",
+                accountMovements.size(), cause);
+        deadLetter(accountMovements, accounts, cause.toString());
+    }
+
+    private void deadLetter(List<AccountMovement> accountMovements, List<Account> accounts, String reason) {
+        try {
+            ledgerDeadLetterRepository.insert(LedgerDeadLetter.builder()
+                    .accountMovements(accountMovements)
+                    .accounts(accounts)
+                    .reason(reason)
+                    .failedAt(LocalDateTime.now())
+                    .build());
+        } catch (RuntimeException e) {
+            log.error("ALERTA: lote do ledger não persistido nem enviado para ledger_dead_letter; movimentações {}",
+                    accountMovements.stream().map(AccountMovement::getId).toList(), e);
+        }
+    }
+}
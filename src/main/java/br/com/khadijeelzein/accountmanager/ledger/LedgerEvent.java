@@ -0,0 +1,8 @@
+package br.com.khadijeelzein.accountmanager.ledger;
+
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+
+public record LedgerEvent(AccountMovement accountMovement,
+                          long accountOrigin, long balanceOrigin, long movementCountOrigin,
+                          long accountDestination, long balanceDestination, long movementCountDestination) {
+}
@@ -0,0 +1,9 @@
+package br.com.khadijeelzein.accountmanager.ledger;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+public record TransferCommand(AccountMovementRequest request, String accountMovementId,
+                              CompletableFuture<Void> result) {
+}
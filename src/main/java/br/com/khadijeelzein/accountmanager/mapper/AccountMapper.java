@@ -1,16 +1,16 @@
 package br.com.khadijeelzein.accountmanager.mapper;
 
 import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
-import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
 import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
 import br.com.khadijeelzein.accountmanager.model.Account;
-import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 
 public class AccountMapper {
-    public static Account toAccount(AccountRequest accountRequest){
+    public static Account toAccount(AccountRequest accountRequest, ClientSnapshot client){
         return Account.builder()
                 .type(TypeEnum.setValueOfEnum(accountRequest.getAccountType().toUpperCase()))
-                .client(Client.builder().cpf(accountRequest.getClientCpf()).build())
+                .client(client)
+                .movementCount(0L)
                 .build();
     }
 }
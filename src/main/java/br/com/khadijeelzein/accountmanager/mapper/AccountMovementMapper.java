@@ -18,16 +18,19 @@ public class AccountMovementMapper {
     public static List<AccountMovementResponse> toAccountMovementResponseList(List<AccountMovement> accountMovements){
         List<AccountMovementResponse> accountMovementResponses = new ArrayList<>();
         accountMovements.forEach(accountMovement->{
-            accountMovementResponses.add( AccountMovementResponse.builder()
-                    .accountOrigin(accountMovement.getAccountOrigin())
-                    .accountDestination(accountMovement.getAccountDestination())
-                    .amount(accountMovement.getAmount())
-                    .dateTime(accountMovement.getDateTime())
-                    .type(accountMovement.getType().name())
-                    .build());
+            accountMovementResponses.add(toAccountMovementResponse(accountMovement));
         });
         return accountMovementResponses;
     }
+    public static AccountMovementResponse toAccountMovementResponse(AccountMovement accountMovement){
+        return AccountMovementResponse.builder()
+                .accountOrigin(accountMovement.getAccountOrigin())
+                .accountDestination(accountMovement.getAccountDestination())
+                .amount(accountMovement.getAmount())
+                .dateTime(accountMovement.getDateTime())
+                .type(accountMovement.getType().name())
+                .build();
+    }
     public static AccountMovement toAccountMovement(AccountMovementRequest accountMovementRequest){
         return AccountMovement.builder().
                 accountOrigin(accountMovementRequest.getAccountNbrOrigin())
@@ -8,8 +8,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class ClientMapper {
     public static Client toClient(ClientRequest clientRequest) {
+         var cpfKey = CpfMapper.toKey(clientRequest.getCpf());
          @Valid Client client = Client.builder()
-                .cpf(clientRequest.getCpf().replaceAll("[^0-9]", ""))
+                .cpf(CpfMapper.toDigits(cpfKey))
+                .cpfKey(cpfKey)
                 .name(clientRequest.getName())
                 .birthday(clientRequest.getBirthday())
                 .build();
@@ -0,0 +1,27 @@
+package br.com.khadijeelzein.accountmanager.mapper;
+
+public final class CpfMapper {
+    private static final int CPF_DIGITS = 11;
+
+    private CpfMapper() {
+    }
+
+    public static long toKey(String cpf) {
+        if (cpf == null) throw new IllegalArgumentException("Cpf não pode ser nulo");
+        long key = 0;
+        int digits = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') continue;
+            if (++digits > CPF_DIGITS) throw new IllegalArgumentException("Cpf inválido");
+            key = key * 10 + (c - '0');
+        }
+        if (digits == 0) throw new IllegalArgumentException("Cpf inválido");
+        return key;
+    }
+
+    public static String toDigits(long key) {
+        var digits = Long.toString(key);
+        return digits.length() >= CPF_DIGITS ? digits : "0".repeat(CPF_DIGITS - digits.length()) + digits;
+    }
+}
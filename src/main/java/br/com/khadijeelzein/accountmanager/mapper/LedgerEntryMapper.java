@@ -0,0 +1,55 @@
+package br.com.khadijeelzein.accountmanager.mapper;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LedgerEntryMapper {
+    public static List<LedgerEntry> toLedgerEntries(AccountMovement accountMovement, Long balanceOrigin,
+                                                    Long balanceDestination) {
+        return List.of(
+                toLedgerEntry(accountMovement, accountMovement.getAccountOrigin(), -accountMovement.getAmount(),
+                        accountMovement.getAccountDestination(), balanceOrigin),
+                toLedgerEntry(accountMovement, accountMovement.getAccountDestination(), accountMovement.getAmount(),
+                        accountMovement.getAccountOrigin(), balanceDestination));
+    }
+
+    public static String toLedgerEntryId(String movementId, Long accountNbr) {
+        return movementId + ":" + accountNbr;
+    }
+
+    public static List<AccountMovementResponse> toAccountMovementResponseList(List<LedgerEntry> ledgerEntries) {
+        List<AccountMovementResponse> accountMovementResponses = new ArrayList<>(ledgerEntries.size());
+        ledgerEntries.forEach(ledgerEntry -> accountMovementResponses.add(toAccountMovementResponse(ledgerEntry)));
+        return accountMovementResponses;
+    }
+
+    public static AccountMovementResponse toAccountMovementResponse(LedgerEntry ledgerEntry) {
+        var debit = ledgerEntry.getAmount() < 0;
+        return AccountMovementResponse.builder()
+                .accountOrigin(debit ? ledgerEntry.getAccountNbr() : ledgerEntry.getCounterparty())
+                .accountDestination(debit ? ledgerEntry.getCounterparty() : ledgerEntry.getAccountNbr())
+                .amount(Math.abs(ledgerEntry.getAmount()))
+                .dateTime(ledgerEntry.getDateTime())
+                .type(ledgerEntry.getType().name())
+                .balanceAfter(ledgerEntry.getBalanceAfter())
+                .build();
+    }
+
+    private static LedgerEntry toLedgerEntry(AccountMovement accountMovement, Long accountNbr, long amount,
+                                             Long counterparty, Long balanceAfter) {
+        return LedgerEntry.builder()
+                .id(toLedgerEntryId(accountMovement.getId(), accountNbr))
+                .movementId(accountMovement.getId())
+                .accountNbr(accountNbr)
+                .amount(amount)
+                .counterparty(counterparty)
+                .type(accountMovement.getType())
+                .dateTime(accountMovement.getDateTime())
+                .balanceAfter(balanceAfter)
+                .build();
+    }
+}
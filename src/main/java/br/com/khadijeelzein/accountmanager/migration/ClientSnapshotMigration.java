@@ -0,0 +1,58 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "accountmanager.migration.client-snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class ClientSnapshotMigration implements ApplicationRunner {
+    private static final Document LEGACY_REFERENCE = new Document("client",
+            new Document("$exists", true).append("$ne", null).append("$not", new Document("$type", "object")));
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public ClientSnapshotMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var accounts = mongoTemplate.getCollection("account");
+        var legacyAccounts = accounts.countDocuments(LEGACY_REFERENCE);
+        if (legacyAccounts == 0) return;
+        var snapshot = new Document("$cond", List.of(
+                new Document("$ifNull", List.of("$$resolved", false)),
+                new Document("_id", "$$resolved._id")
+                        .append("cpf", "$$resolved.clientCpf")
+                        .append("name", "$$resolved.name"),
+                null));
+        accounts.aggregate(List.of(
+                new Document("$match", LEGACY_REFERENCE),
+                new Document("$lookup", new Document("from", "client")
+                        .append("localField", "client")
+                        .append("foreignField", "_id")
+                        .append("as", "resolvedClient")),
+                new Document("$project", new Document("client", new Document("$let",
+                        new Document("vars", new Document("resolved", new Document("$first", "$resolvedClient")))
+                                .append("in", snapshot)))),
+                new Document("$merge", new Document("into", "account")
+                        .append("on", "_id")
+                        .append("whenMatched", "merge")
+                        .append("whenNotMatched", "discard"))
+        )).toCollection();
+        log.info("Referências de cliente convertidas em snapshot em {} contas", legacyAccounts);
+    }
+}
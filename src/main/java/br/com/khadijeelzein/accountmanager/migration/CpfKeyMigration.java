@@ -0,0 +1,55 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import br.com.khadijeelzein.accountmanager.model.Client;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "accountmanager.migration.cpf-key.enabled", havingValue = "true", matchIfMissing = true)
+public class CpfKeyMigration implements ApplicationRunner {
+    static final String LEGACY_CPF_FIELD = "clientCpf";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public CpfKeyMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var clients = mongoTemplate.updateMulti(
+                query(where("cpfKey").exists(false).and(LEGACY_CPF_FIELD).type(JsonSchemaObject.Type.STRING)),
+                AggregationUpdate.update().set("cpfKey").toValue(ConvertOperators.valueOf(LEGACY_CPF_FIELD).convertToLong()),
+                Client.class
+        ).getModifiedCount();
+        if (clients > 0) log.info("Chave numérica de CPF preenchida em {} clientes", clients);
+        dropLegacyCpfIndex();
+    }
+
+    private void dropLegacyCpfIndex() {
+        var indexOps = mongoTemplate.indexOps(Client.class);
+        indexOps.getIndexInfo().stream()
+                .filter(index -> index.getIndexFields().size() == 1
+                        && LEGACY_CPF_FIELD.equals(index.getIndexFields().get(0).getKey()))
+                .forEach(index -> {
+                    indexOps.dropIndex(index.getName());
+                    log.info("Índice legado {} removido da coleção client", index.getName());
+                });
+    }
+}
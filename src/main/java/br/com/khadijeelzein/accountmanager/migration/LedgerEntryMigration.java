@@ -0,0 +1,48 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import br.com.khadijeelzein.accountmanager.repository.LedgerEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "accountmanager.migration.ledger-entry.enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerEntryMigration implements SmartInitializingSingleton {
+    static final String MIGRATION_COLLECTION = "migration";
+    static final String MARKER_ID = "ledger-entry-backfill";
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<MoneyCentsMigration> moneyCentsMigration;
+
+    @Autowired
+    public LedgerEntryMigration(LedgerEntryRepository ledgerEntryRepository, MongoTemplate mongoTemplate,
+                                ObjectProvider<MoneyCentsMigration> moneyCentsMigration) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.moneyCentsMigration = moneyCentsMigration;
+    }
+
+    // Roda antes de o servidor aceitar transferências, que gravariam lançamentos e saldos no meio da reconstrução.
+    // Os lançamentos derivam dos valores em centavos, então a conversão é garantida antes, qualquer que seja a ordem
+    // dos callbacks. A conclusão fica registrada em um marcador: um backfill interrompido roda de novo por inteiro.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (mongoTemplate.exists(query(where("_id").is(MARKER_ID)), MIGRATION_COLLECTION)) return;
+        moneyCentsMigration.ifAvailable(MoneyCentsMigration::migrate);
+        var entries = ledgerEntryRepository.backfillLedgerEntries();
+        if (entries > 0) log.info("{} lançamentos gerados a partir de movimentações antigas", entries);
+        mongoTemplate.save(new Document("_id", MARKER_ID).append("completedAt", new Date()), MIGRATION_COLLECTION);
+    }
+}
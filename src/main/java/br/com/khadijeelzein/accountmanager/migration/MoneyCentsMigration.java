@@ -0,0 +1,53 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "accountmanager.migration.money-cents.enabled", havingValue = "true", matchIfMissing = true)
+public class MoneyCentsMigration implements SmartInitializingSingleton {
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public MoneyCentsMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Roda antes do servidor web e do ledger: um $inc em centavos sobre um saldo ainda em reais seria multiplicado depois.
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    public void migrate() {
+        var accounts = toCents(Account.class, "currentBalance");
+        var accountMovements = toCents(AccountMovement.class, "amount");
+        if (accounts > 0 || accountMovements > 0)
+            log.info("Valores convertidos para centavos: {} contas, {} movimentações", accounts, accountMovements);
+    }
+
+    private long toCents(Class<?> entityClass, String field) {
+        var cents = ConvertOperators.valueOf(
+                ArithmeticOperators.valueOf(ArithmeticOperators.valueOf(field).multiplyBy(100)).round())
+                .convertToLong();
+        return mongoTemplate.updateMulti(
+                query(where(field).type(JsonSchemaObject.Type.DOUBLE)),
+                AggregationUpdate.update().set(field).toValue(cents),
+                entityClass
+        ).getModifiedCount();
+    }
+}
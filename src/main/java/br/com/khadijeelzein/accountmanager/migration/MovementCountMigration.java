@@ -0,0 +1,27 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "accountmanager.migration.movement-count.enabled", havingValue = "true", matchIfMissing = true)
+public class MovementCountMigration implements SmartInitializingSingleton {
+    private final AccountRepository accountRepository;
+
+    @Autowired
+    public MovementCountMigration(AccountRepository accountRepository) {
+        this.accountRepository = accountRepository;
+    }
+
+    // Roda antes do servidor web e do ledger aceitarem transferências, que incrementariam contadores ausentes.
+    @Override
+    public void afterSingletonsInstantiated() {
+        var accounts = accountRepository.backfillMovementCounts();
+        if (accounts > 0) log.info("Contador de movimentações preenchido em {} contas", accounts);
+    }
+}
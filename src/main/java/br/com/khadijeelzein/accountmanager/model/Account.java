@@ -7,7 +7,6 @@ import lombok.Data;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
-import org.springframework.data.mongodb.core.mapping.DocumentReference;
 
 @Data
 @Document(collection = "account")
@@ -20,13 +19,13 @@ public class Account {
     @NotNull
     private Long accountNbr;
 
-    @DocumentReference
     @NotNull
-    private Client client;
+    private ClientSnapshot client;
 
     @NotNull
     private TypeEnum type;
 
-    @NotNull
-    private Double currentBalance;
+    private long currentBalance;
+
+    private Long movementCount;
 }
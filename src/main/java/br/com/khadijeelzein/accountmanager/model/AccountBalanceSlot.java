@@ -0,0 +1,34 @@
+package br.com.khadijeelzein.accountmanager.model;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@Document(collection = "account_balance_slot")
+@CompoundIndex(name = "account_slot", def = "{'accountNbr': 1, 'slot': 1}", unique = true)
+public class AccountBalanceSlot {
+    @Id
+    private String id;
+
+    private Long accountNbr;
+
+    private int slot;
+
+    private long balance;
+
+    private long movementCount;
+
+    // O _id do slot carrega o número da conta para que a invalidação do cache não dependa do documento completo.
+    public static String id(Long accountNbr, int slot) {
+        return accountNbr + ":" + slot;
+    }
+
+    public static Long accountNbrOf(String id) {
+        var separator = id.indexOf(':');
+        return separator > 0 ? Long.valueOf(id.substring(0, separator)) : null;
+    }
+}
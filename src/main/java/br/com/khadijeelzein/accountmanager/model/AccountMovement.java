@@ -27,7 +27,7 @@ public class AccountMovement {
     private Long accountDestination;
 
     @PositiveOrZero
-    private Double amount;
+    private long amount;
 
     private MovementTypeEnum type;
 
@@ -0,0 +1,16 @@
+package br.com.khadijeelzein.accountmanager.model;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder(toBuilder = true)
+@Document(collection = "account_number_lease")
+public class AccountNumberLease {
+    @Id
+    private String id;
+
+    private long leasedUpTo;
+}
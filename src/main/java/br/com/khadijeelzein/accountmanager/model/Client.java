@@ -24,10 +24,12 @@ public class Client {
 
     @Field("clientCpf")
     @CPF
-    @Indexed(unique = true)
     @NotBlank
     private String cpf;
 
+    @Indexed(unique = true, sparse = true)
+    private Long cpfKey;
+
     @NotBlank
     private String name;
 
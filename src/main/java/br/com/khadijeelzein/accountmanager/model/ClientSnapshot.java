@@ -0,0 +1,18 @@
+package br.com.khadijeelzein.accountmanager.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ClientSnapshot {
+    String id;
+
+    String cpf;
+
+    String name;
+
+    public static ClientSnapshot of(Client client) {
+        return new ClientSnapshot(client.getId(), client.getCpf(), client.getName());
+    }
+}
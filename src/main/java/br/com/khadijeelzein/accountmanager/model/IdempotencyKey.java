@@ -0,0 +1,29 @@
+package br.com.khadijeelzein.accountmanager.model;
+
+import br.com.khadijeelzein.accountmanager.enums.IdempotencyStatusEnum;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@Document(collection = "idempotency_key")
+public class IdempotencyKey {
+    @Id
+    private String id;
+
+    private String requestHash;
+
+    private IdempotencyStatusEnum status;
+
+    private String message;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Indexed(expireAfter = "1d")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package br.com.khadijeelzein.accountmanager.model;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@Document(collection = "ledger_dead_letter")
+public class LedgerDeadLetter {
+    @Id
+    private String id;
+
+    private List<AccountMovement> accountMovements;
+
+    private List<Account> accounts;
+
+    private String reason;
+
+    private LocalDateTime failedAt;
+}
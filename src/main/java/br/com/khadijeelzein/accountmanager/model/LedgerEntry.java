@@ -0,0 +1,31 @@
+package br.com.khadijeelzein.accountmanager.model;
+
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Document(collection = "ledger_entry")
+public class LedgerEntry {
+    @Id
+    private String id;
+
+    private String movementId;
+
+    private Long accountNbr;
+
+    private long amount;
+
+    private Long counterparty;
+
+    private MovementTypeEnum type;
+
+    private LocalDateTime dateTime;
+
+    private Long balanceAfter;
+}
@@ -0,0 +1,25 @@
+package br.com.khadijeelzein.accountmanager.model;
+
+import br.com.khadijeelzein.accountmanager.enums.TransferStatusEnum;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Document(collection = "transfer_status")
+public class TransferStatus {
+    @Id
+    private String id;
+
+    private TransferStatusEnum status;
+
+    private String message;
+
+    @Indexed(expireAfter = "7d")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class AccountMovementCriteria {
+    static Criteria byDate(LocalDate from, LocalDate to, LocalDateTime after) {
+        if (from != null && from.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Data inicial não pode ser futura");
+        } else if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Data inicial não pode ser depois da final");
+        }
+        var lower = from == null ? null : from.atStartOfDay();
+        var upper = to != null && (from == null || from.isBefore(to)) ? to.atStartOfDay() : null;
+        if (after != null && (lower == null || after.isAfter(lower))) lower = after;
+        if (lower == null && upper == null) return new Criteria();
+        var criteria = Criteria.where("dateTime");
+        if (lower != null) criteria.gte(lower);
+        if (upper != null) criteria.lte(upper);
+        return criteria;
+    }
+}
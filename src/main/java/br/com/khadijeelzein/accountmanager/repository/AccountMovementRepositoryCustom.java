@@ -1,16 +1,16 @@
 package br.com.khadijeelzein.accountmanager.repository;
 
-import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
 import br.com.khadijeelzein.accountmanager.model.AccountMovement;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
-import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 
 public interface AccountMovementRepositoryCustom {
 
-    Page<AccountMovementResponse> findAllByDateAndAccountOriginOrAccountDestination(
-            LocalDate from, LocalDate to, Long account, Pageable pageable);
+    void upsertAccountMovements(List<AccountMovement> accountMovements);
 
-}
\ No newline at end of file
+    Set<String> findExistingIds(Collection<String> ids);
+
+}
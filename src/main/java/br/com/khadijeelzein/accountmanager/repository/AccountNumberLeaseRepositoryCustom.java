@@ -0,0 +1,5 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+public interface AccountNumberLeaseRepositoryCustom {
+    long leaseBlock(String sequence, int blockSize);
+}
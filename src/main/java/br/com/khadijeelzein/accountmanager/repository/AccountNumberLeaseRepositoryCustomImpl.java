@@ -0,0 +1,27 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.model.AccountNumberLease;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class AccountNumberLeaseRepositoryCustomImpl implements AccountNumberLeaseRepositoryCustom {
+    MongoTemplate mongoTemplate;
+
+    public AccountNumberLeaseRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long leaseBlock(String sequence, int blockSize) {
+        var lease = mongoTemplate.findAndModify(
+                query(where("_id").is(sequence)),
+                new Update().inc("leasedUpTo", blockSize),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                AccountNumberLease.class);
+        return lease.getLeasedUpTo();
+    }
+}
@@ -3,11 +3,12 @@ package br.com.khadijeelzein.accountmanager.repository;
 import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
 import br.com.khadijeelzein.accountmanager.model.Account;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 
 @Repository
 public interface AccountRepository extends MongoRepository<Account, String>,AccountRepositoryCustom {
+     @Query(value = "{ 'accountNbr': ?0 }", fields = "{ '_id': 1, 'currentBalance': 1 }")
      AccountBalanceProjection findCurrentBalanceByAccountNbr(Long accountNbr);
-     boolean existsByAccountNbr(Long accountNbr);
 }
\ No newline at end of file
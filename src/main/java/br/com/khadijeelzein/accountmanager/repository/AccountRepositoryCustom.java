@@ -1,9 +1,34 @@
 package br.com.khadijeelzein.accountmanager.repository;
 
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceUpdateResult;
 import br.com.khadijeelzein.accountmanager.model.Account;
+import org.springframework.data.mongodb.core.BulkOperations;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface AccountRepositoryCustom {
-    void updateAccountByAccountNbr(List<Account> accounts);
+    Set<Integer> insertIgnoringDuplicates(List<Account> accounts);
+    AccountBalanceUpdateResult updateAccountByAccountNbr(List<Account> accounts);
+    AccountBalanceUpdateResult updateAccountByAccountNbr(List<Account> accounts, BulkOperations.BulkMode bulkMode);
+    AccountBalanceUpdateResult incrementAccountBalances(Map<Long, Long> balanceDeltas);
+    void incrementMovementCounts(Map<Long, Long> movementCounts);
+    Long findMovementCount(Long accountNbr);
+    long backfillMovementCounts();
+    boolean existsByAccountNbr(Long accountNbr);
+    List<Account> findBalancesByAccountNbrIn(Collection<Long> accountNbrs);
+    AccountBalanceSnapshot findBalanceSnapshot(Long accountNbrA, Long accountNbrB);
+    Stream<Account> streamBalances();
+    OptionalLong debitAccountBalance(Long accountNbr, long amount);
+    OptionalLong creditAccountBalance(Long accountNbr, long amount);
+    void creditAccountBalanceSlot(Long accountNbr, int slot, long amount, long movementCount);
+    long consolidateAccountBalanceSlots(Long accountNbr);
+    List<Long> findAccountNbrsWithBalanceSlots();
+    AccountBalanceProjection findShardedBalanceByAccountNbr(Long accountNbr);
 }
@@ -1,17 +1,47 @@
 package br.com.khadijeelzein.accountmanager.repository;
 
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceUpdateResult;
 import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.AccountBalanceSlot;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AccumulatorOperators;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.lookup;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
 public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
+    private static final int STREAM_BATCH_SIZE = 5000;
+    private static final String BALANCE_SLOT_COLLECTION = "account_balance_slot";
+    private static final String MOVEMENT_COUNT = "movementCount";
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     MongoTemplate mongoTemplate;
 
@@ -19,17 +49,202 @@ public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
         this.mongoTemplate = mongoTemplate;
     }
 
-    public void updateAccountByAccountNbr(List<Account> accounts) {
-        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Account.class);
+    @Override
+    public Set<Integer> insertIgnoringDuplicates(List<Account> accounts) {
+        if (accounts.isEmpty()) return Set.of();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Account.class).insert(accounts).execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            Set<Integer> duplicateIndexes = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) throw e;
+                duplicateIndexes.add(error.getIndex());
+            }
+            return duplicateIndexes;
+        }
+    }
+
+    @Override
+    public AccountBalanceUpdateResult updateAccountByAccountNbr(List<Account> accounts) {
+        return updateAccountByAccountNbr(accounts, BulkOperations.BulkMode.ORDERED);
+    }
+
+    @Override
+    public AccountBalanceUpdateResult updateAccountByAccountNbr(List<Account> accounts, BulkOperations.BulkMode bulkMode) {
+        if (accounts.isEmpty()) return new AccountBalanceUpdateResult(0, 0, List.of());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(bulkMode, Account.class);
         for (Account account : accounts) {
-            Update update = new Update().set("currentBalance", account.getCurrentBalance());
-            FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true).upsert(false);
-            mongoTemplate.findAndModify(
-                    query(where("accountNbr").is(account.getAccountNbr())),
-                    update,
-                    options,
-                    Account.class
+            var update = new Update().set("currentBalance", account.getCurrentBalance());
+            if (account.getMovementCount() != null) update.set(MOVEMENT_COUNT, account.getMovementCount());
+            bulkOps.updateOne(query(where("accountNbr").is(account.getAccountNbr())), update);
+        }
+        var result = bulkOps.execute();
+        List<Long> unmatchedAccountNbrs = List.of();
+        if (result.getMatchedCount() < accounts.size())
+            unmatchedAccountNbrs = findUnmatchedAccountNbrs(accounts);
+        return new AccountBalanceUpdateResult(result.getMatchedCount(), result.getModifiedCount(), unmatchedAccountNbrs);
+    }
+
+    @Override
+    public AccountBalanceUpdateResult incrementAccountBalances(Map<Long, Long> balanceDeltas) {
+        if (balanceDeltas.isEmpty()) return new AccountBalanceUpdateResult(0, 0, List.of());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Account.class);
+        balanceDeltas.forEach((accountNbr, delta) -> {
+            var criteria = where("accountNbr").is(accountNbr);
+            if (delta < 0) criteria = criteria.and("currentBalance").gte(-delta);
+            bulkOps.updateOne(query(criteria), new Update().inc("currentBalance", delta));
+        });
+        var result = bulkOps.execute();
+        return new AccountBalanceUpdateResult(result.getMatchedCount(), result.getModifiedCount(), List.of());
+    }
+
+    @Override
+    public void incrementMovementCounts(Map<Long, Long> movementCounts) {
+        if (movementCounts.isEmpty()) return;
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Account.class);
+        movementCounts.forEach((accountNbr, count) ->
+                bulkOps.updateOne(query(where("accountNbr").is(accountNbr)), new Update().inc(MOVEMENT_COUNT, count)));
+        bulkOps.execute();
+    }
+
+    @Override
+    public Long findMovementCount(Long accountNbr) {
+        var aggregation = newAggregation(
+                match(where("accountNbr").is(accountNbr)),
+                lookup(BALANCE_SLOT_COLLECTION, "accountNbr", "accountNbr", "slots"),
+                project().and(ArithmeticOperators.Add.valueOf(MOVEMENT_COUNT)
+                        .add(AccumulatorOperators.Sum.sumOf("slots." + MOVEMENT_COUNT))).as(MOVEMENT_COUNT)
+        );
+        var result = mongoTemplate.aggregate(aggregation, Account.class, Document.class).getUniqueMappedResult();
+        if (result == null || !(result.get(MOVEMENT_COUNT) instanceof Number movementCount)) return null;
+        return movementCount.longValue();
+    }
+
+    @Override
+    public long backfillMovementCounts() {
+        var accounts = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Account.class));
+        var missing = new Document(MOVEMENT_COUNT, new Document("$exists", false));
+        var pending = accounts.countDocuments(missing);
+        if (pending == 0) return 0;
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(AccountMovement.class)).aggregate(List.of(
+                new Document("$project", new Document("_id", 0)
+                        .append("accounts", List.of("$accountOrigin", "$accountDestination"))),
+                new Document("$unwind", "$accounts"),
+                new Document("$group", new Document("_id", "$accounts").append(MOVEMENT_COUNT, new Document("$sum", 1L))),
+                new Document("$project", new Document("_id", 0).append("accountNbr", "$_id").append(MOVEMENT_COUNT, 1)),
+                new Document("$merge", new Document("into", accounts.getNamespace().getCollectionName())
+                        .append("on", "accountNbr")
+                        .append("whenMatched", List.of(new Document("$set", new Document(MOVEMENT_COUNT,
+                                new Document("$ifNull", List.of("$" + MOVEMENT_COUNT, "$$new." + MOVEMENT_COUNT))))))
+                        .append("whenNotMatched", "discard"))
+        )).allowDiskUse(true).toCollection();
+        accounts.updateMany(missing, new Document("$set", new Document(MOVEMENT_COUNT, 0L)));
+        return pending;
+    }
+
+    @Override
+    public boolean existsByAccountNbr(Long accountNbr) {
+        var query = query(where("accountNbr").is(accountNbr)).limit(1);
+        query.fields().include("accountNbr").exclude("_id");
+        return mongoTemplate.findOne(query, Document.class, mongoTemplate.getCollectionName(Account.class)) != null;
+    }
+
+    @Override
+    public List<Account> findBalancesByAccountNbrIn(Collection<Long> accountNbrs) {
+        var query = query(where("accountNbr").in(accountNbrs));
+        query.fields().include("accountNbr", "currentBalance", MOVEMENT_COUNT).exclude("_id");
+        return mongoTemplate.find(query, Account.class);
+    }
+
+    @Override
+    public AccountBalanceSnapshot findBalanceSnapshot(Long accountNbrA, Long accountNbrB) {
+        return AccountBalanceSnapshot.of(findBalancesByAccountNbrIn(List.of(accountNbrA, accountNbrB)));
+    }
+
+    @Override
+    public Stream<Account> streamBalances() {
+        var query = new Query();
+        query.fields().include("accountNbr", "currentBalance", MOVEMENT_COUNT);
+        query.cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, Account.class);
+    }
+
+    private List<Long> findUnmatchedAccountNbrs(List<Account> accounts) {
+        var accountNbrs = accounts.stream().map(Account::getAccountNbr).toList();
+        var existing = new HashSet<>(mongoTemplate.findDistinct(
+                query(where("accountNbr").in(accountNbrs)), "accountNbr", Account.class, Long.class));
+        return accountNbrs.stream().filter(accountNbr -> !existing.contains(accountNbr)).toList();
+    }
+
+    @Override
+    public OptionalLong debitAccountBalance(Long accountNbr, long amount) {
+        return incrementBalance(where("accountNbr").is(accountNbr).and("currentBalance").gte(amount), -amount);
+    }
+
+    @Override
+    public OptionalLong creditAccountBalance(Long accountNbr, long amount) {
+        return incrementBalance(where("accountNbr").is(accountNbr), amount);
+    }
+
+    private OptionalLong incrementBalance(Criteria criteria, long delta) {
+        var query = query(criteria);
+        query.fields().include("currentBalance");
+        var updated = mongoTemplate.findAndModify(query,
+                new Update().inc("currentBalance", delta).inc(MOVEMENT_COUNT, 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Account.class);
+        return updated == null ? OptionalLong.empty() : OptionalLong.of(updated.getCurrentBalance());
+    }
+
+    @Override
+    public void creditAccountBalanceSlot(Long accountNbr, int slot, long amount, long movementCount) {
+        mongoTemplate.upsert(
+                query(where("_id").is(AccountBalanceSlot.id(accountNbr, slot))),
+                new Update().setOnInsert("accountNbr", accountNbr).setOnInsert("slot", slot)
+                        .inc("balance", amount).inc(MOVEMENT_COUNT, movementCount),
+                AccountBalanceSlot.class
+        );
+    }
+
+    @Override
+    public long consolidateAccountBalanceSlots(Long accountNbr) {
+        long consolidated = 0;
+        var slots = mongoTemplate.find(
+                query(where("accountNbr").is(accountNbr).and("balance").ne(0L)), AccountBalanceSlot.class);
+        for (AccountBalanceSlot slot : slots) {
+            var drained = mongoTemplate.findAndModify(
+                    query(where("_id").is(slot.getId())),
+                    new Update().set("balance", 0L),
+                    FindAndModifyOptions.options().returnNew(false),
+                    AccountBalanceSlot.class
             );
+            if (drained != null) consolidated += drained.getBalance();
         }
+        if (consolidated != 0)
+            mongoTemplate.updateFirst(query(where("accountNbr").is(accountNbr)),
+                    new Update().inc("currentBalance", consolidated), Account.class);
+        return consolidated;
+    }
+
+    @Override
+    public List<Long> findAccountNbrsWithBalanceSlots() {
+        return mongoTemplate.findDistinct(
+                query(where("balance").ne(0L)), "accountNbr", AccountBalanceSlot.class, Long.class);
+    }
+
+    @Override
+    public AccountBalanceProjection findShardedBalanceByAccountNbr(Long accountNbr) {
+        var aggregation = newAggregation(
+                match(where("accountNbr").is(accountNbr)),
+                lookup(BALANCE_SLOT_COLLECTION, "accountNbr", "accountNbr", "slots"),
+                project().and(ArithmeticOperators.Add.valueOf("currentBalance")
+                        .add(AccumulatorOperators.Sum.sumOf("slots.balance"))).as("currentBalance")
+        );
+        var result = mongoTemplate.aggregate(aggregation, Account.class, Document.class).getUniqueMappedResult();
+        if (result == null) return null;
+        return projectionFactory.createProjection(AccountBalanceProjection.class,
+                Map.of("id", result.get("_id").toString(),
+                        "currentBalance", ((Number) result.get("currentBalance")).longValue()));
     }
 }
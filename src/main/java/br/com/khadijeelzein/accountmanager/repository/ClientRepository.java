@@ -1,10 +1,16 @@
 package br.com.khadijeelzein.accountmanager.repository;
 
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ClientRepository extends MongoRepository<Client, String> {
-    boolean existsClientByCpf(String cpf);
+public interface ClientRepository extends MongoRepository<Client, String>, ClientRepositoryCustom {
+    Optional<ClientSnapshot> findSnapshotByCpfKey(Long cpfKey);
+    List<ClientSnapshot> findByCpfKeyIn(Collection<Long> cpfKeys);
 }
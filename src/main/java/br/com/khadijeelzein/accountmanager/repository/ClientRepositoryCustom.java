@@ -0,0 +1,11 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.model.Client;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ClientRepositoryCustom {
+    Set<Integer> insertIgnoringDuplicates(List<Client> clients);
+    boolean existsByCpfKey(Long cpfKey);
+}
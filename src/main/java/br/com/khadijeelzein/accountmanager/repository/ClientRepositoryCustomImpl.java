@@ -0,0 +1,47 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.model.Client;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ClientRepositoryCustomImpl implements ClientRepositoryCustom {
+    MongoTemplate mongoTemplate;
+
+    public ClientRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Set<Integer> insertIgnoringDuplicates(List<Client> clients) {
+        if (clients.isEmpty()) return Set.of();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Client.class).insert(clients).execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            Set<Integer> duplicateIndexes = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) throw e;
+                duplicateIndexes.add(error.getIndex());
+            }
+            return duplicateIndexes;
+        }
+    }
+
+    @Override
+    public boolean existsByCpfKey(Long cpfKey) {
+        var query = query(where("cpfKey").is(cpfKey)).limit(1);
+        query.fields().include("cpfKey").exclude("_id");
+        return mongoTemplate.findOne(query, Document.class, mongoTemplate.getCollectionName(Client.class)) != null;
+    }
+}
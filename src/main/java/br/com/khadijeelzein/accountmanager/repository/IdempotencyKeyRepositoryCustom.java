@@ -0,0 +1,8 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepositoryCustom {
+    boolean acquireExpiredLease(String idempotencyKey, LocalDateTime now, LocalDateTime leaseExpiresAt);
+    void expireLease(String idempotencyKey, LocalDateTime now);
+}
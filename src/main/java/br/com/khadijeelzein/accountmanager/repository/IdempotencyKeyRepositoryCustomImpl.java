@@ -0,0 +1,38 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.enums.IdempotencyStatusEnum;
+import br.com.khadijeelzein.accountmanager.model.IdempotencyKey;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class IdempotencyKeyRepositoryCustomImpl implements IdempotencyKeyRepositoryCustom {
+    MongoTemplate mongoTemplate;
+
+    public IdempotencyKeyRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean acquireExpiredLease(String idempotencyKey, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        var result = mongoTemplate.updateFirst(
+                query(where("_id").is(idempotencyKey)
+                        .and("status").is(IdempotencyStatusEnum.EM_PROCESSAMENTO)
+                        .and("leaseExpiresAt").lte(now)),
+                new Update().set("leaseExpiresAt", leaseExpiresAt),
+                IdempotencyKey.class);
+        return result.getModifiedCount() == 1;
+    }
+
+    @Override
+    public void expireLease(String idempotencyKey, LocalDateTime now) {
+        mongoTemplate.updateFirst(
+                query(where("_id").is(idempotencyKey).and("status").is(IdempotencyStatusEnum.EM_PROCESSAMENTO)),
+                new Update().set("leaseExpiresAt", now),
+                IdempotencyKey.class);
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.model.LedgerDeadLetter;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerDeadLetterRepository extends MongoRepository<LedgerDeadLetter, String> {
+}
@@ -0,0 +1,21 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursor;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDate;
+
+public class LedgerEntryCriteria {
+    public static Criteria byDateAndAccount(LocalDate from, LocalDate to, Long account) {
+        return AccountMovementCriteria.byDate(from, to, null).and("accountNbr").is(account);
+    }
+
+    public static Criteria byDateAndAccountAfter(LocalDate from, LocalDate to, Long account, AccountMovementCursor cursor) {
+        var criteria = AccountMovementCriteria.byDate(from, to, cursor == null ? null : cursor.dateTime())
+                .and("accountNbr").is(account);
+        if (cursor != null)
+            criteria.orOperator(Criteria.where("dateTime").gt(cursor.dateTime()),
+                    Criteria.where("_id").gt(cursor.id()));
+        return criteria;
+    }
+}
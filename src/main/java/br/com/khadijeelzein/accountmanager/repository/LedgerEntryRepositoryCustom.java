@@ -0,0 +1,35 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursor;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface LedgerEntryRepositoryCustom {
+
+    Page<AccountMovementResponse> findAllByDateAndAccount(LocalDate from, LocalDate to, Long account, Pageable pageable);
+
+    Page<AccountMovementResponse> findAllByDateAndAccount(LocalDate from, LocalDate to, Long account,
+                                                          Pageable pageable, long total);
+
+    AccountMovementSlicePage findSliceByDateAndAccount(LocalDate from, LocalDate to, Long account, Pageable pageable);
+
+    AccountMovementSummaryPage findSummaryByDateAndAccount(LocalDate from, LocalDate to, Long account, Pageable pageable);
+
+    AccountMovementCursorPage findAllByDateAndAccountAfter(LocalDate from, LocalDate to, Long account,
+                                                           AccountMovementCursor cursor, int size);
+
+    Stream<LedgerEntry> streamByDateAndAccount(LocalDate from, LocalDate to, Long account, int batchSize);
+
+    void upsertLedgerEntries(List<LedgerEntry> ledgerEntries);
+
+    long backfillLedgerEntries();
+}
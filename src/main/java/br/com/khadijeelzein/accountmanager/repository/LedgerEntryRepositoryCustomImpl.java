@@ -0,0 +1,205 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursor;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
+import br.com.khadijeelzein.accountmanager.mapper.LedgerEntryMapper;
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.AccountBalanceSlot;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.count;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.limit;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.skip;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class LedgerEntryRepositoryCustomImpl implements LedgerEntryRepositoryCustom {
+    static final Sort STATEMENT_ORDER = Sort.by(Sort.Direction.ASC, "dateTime", "_id");
+
+    MongoTemplate mongoTemplate;
+
+    public LedgerEntryRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Page<AccountMovementResponse> findAllByDateAndAccount(LocalDate from, LocalDate to, Long account, Pageable pageable) {
+        var query = new Query(LedgerEntryCriteria.byDateAndAccount(from, to, account));
+        var accountMovementResponses = find(Query.of(query).with(sortOf(pageable))
+                .skip(pageable.getOffset()).limit(pageable.getPageSize()));
+        return PageableExecutionUtils.getPage(accountMovementResponses, pageable,
+                () -> mongoTemplate.count(query, LedgerEntry.class));
+    }
+
+    @Override
+    public Page<AccountMovementResponse> findAllByDateAndAccount(LocalDate from, LocalDate to, Long account,
+                                                                 Pageable pageable, long total) {
+        var query = new Query(LedgerEntryCriteria.byDateAndAccount(from, to, account))
+                .with(sortOf(pageable))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize());
+        return PageableExecutionUtils.getPage(find(query), pageable, () -> total);
+    }
+
+    @Override
+    public AccountMovementSlicePage findSliceByDateAndAccount(LocalDate from, LocalDate to, Long account, Pageable pageable) {
+        var query = new Query(LedgerEntryCriteria.byDateAndAccount(from, to, account))
+                .with(sortOf(pageable))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+        var accountMovementResponses = find(query);
+        var hasNext = accountMovementResponses.size() > pageable.getPageSize();
+        if (hasNext) accountMovementResponses = accountMovementResponses.subList(0, pageable.getPageSize());
+        return new AccountMovementSlicePage(accountMovementResponses, pageable.getPageNumber(), pageable.getPageSize(), hasNext);
+    }
+
+    @Override
+    public AccountMovementSummaryPage findSummaryByDateAndAccount(LocalDate from, LocalDate to, Long account, Pageable pageable) {
+        List<AggregationOperation> pageStages = List.of(skip(pageable.getOffset()), limit(pageable.getPageSize()));
+        // O $sort fica antes do $facet para usar o índice (accountNbr, dateTime, _id): sub-pipelines não usam índices.
+        // Ordenações fora do índice podem usar disco em vez de estourar o limite de 100 MB.
+        var aggregation = newAggregation(
+                match(LedgerEntryCriteria.byDateAndAccount(from, to, account)),
+                sort(sortOf(pageable)),
+                facet(pageStages.toArray(AggregationOperation[]::new)).as("content")
+                        .and(count().as("total")).as("total")
+                        .and(group()
+                                .sum(ConditionalOperators.when(ComparisonOperators.valueOf("amount").greaterThanValue(0L))
+                                        .thenValueOf("amount").otherwise(0L)).as("incoming")
+                                .sum(ConditionalOperators.when(ComparisonOperators.valueOf("amount").lessThanValue(0L))
+                                        .thenValueOf("amount").otherwise(0L)).as("outgoing")).as("sums")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        var result = mongoTemplate.aggregate(aggregation, LedgerEntry.class, Document.class).getUniqueMappedResult();
+        List<LedgerEntry> list = new ArrayList<>();
+        for (Document document : result.getList("content", Document.class))
+            list.add(mongoTemplate.getConverter().read(LedgerEntry.class, document));
+        var total = first(result, "total");
+        var sums = first(result, "sums");
+        return new AccountMovementSummaryPage(LedgerEntryMapper.toAccountMovementResponseList(list),
+                pageable.getPageNumber(), pageable.getPageSize(),
+                longValue(total, "total"), longValue(sums, "incoming"), -longValue(sums, "outgoing"));
+    }
+
+    @Override
+    public AccountMovementCursorPage findAllByDateAndAccountAfter(LocalDate from, LocalDate to, Long account,
+                                                                  AccountMovementCursor cursor, int size) {
+        var query = new Query(LedgerEntryCriteria.byDateAndAccountAfter(from, to, account, cursor))
+                .with(STATEMENT_ORDER)
+                .limit(size + 1);
+        var list = mongoTemplate.find(query, LedgerEntry.class);
+        String nextCursor = null;
+        if (list.size() > size) {
+            list = list.subList(0, size);
+            var last = list.get(size - 1);
+            nextCursor = new AccountMovementCursor(last.getDateTime(), last.getId()).encode();
+        }
+        return new AccountMovementCursorPage(LedgerEntryMapper.toAccountMovementResponseList(list), nextCursor);
+    }
+
+    @Override
+    public Stream<LedgerEntry> streamByDateAndAccount(LocalDate from, LocalDate to, Long account, int batchSize) {
+        var query = new Query(LedgerEntryCriteria.byDateAndAccount(from, to, account))
+                .with(STATEMENT_ORDER)
+                .cursorBatchSize(batchSize);
+        query.fields().exclude("_id", "movementId");
+        return mongoTemplate.stream(query, LedgerEntry.class);
+    }
+
+    @Override
+    public void upsertLedgerEntries(List<LedgerEntry> ledgerEntries) {
+        if (ledgerEntries.isEmpty()) return;
+        var bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LedgerEntry.class);
+        for (LedgerEntry ledgerEntry : ledgerEntries) {
+            bulkOps.replaceOne(Query.query(where("_id").is(ledgerEntry.getId())),
+                    ledgerEntry, FindAndReplaceOptions.options().upsert());
+        }
+        bulkOps.execute();
+    }
+
+    @Override
+    public long backfillLedgerEntries() {
+        var ledgerEntries = mongoTemplate.getCollection(mongoTemplate.getCollectionName(LedgerEntry.class));
+        var accountMovements = mongoTemplate.getCollection(mongoTemplate.getCollectionName(AccountMovement.class));
+        var before = ledgerEntries.estimatedDocumentCount();
+        accountMovements.aggregate(List.of(
+                new Document("$project", new Document("_id", 0).append("entries", List.of(
+                        entry("$accountOrigin", new Document("$multiply", List.of("$amount", -1L)), "$accountDestination"),
+                        entry("$accountDestination", "$amount", "$accountOrigin")))),
+                new Document("$unwind", "$entries"),
+                new Document("$replaceRoot", new Document("newRoot", "$entries")),
+                new Document("$setWindowFields", new Document("partitionBy", "$accountNbr")
+                        .append("sortBy", new Document("dateTime", 1).append("_id", 1))
+                        .append("output", new Document("postedLater", new Document("$sum", "$amount")
+                                .append("window", new Document("documents", List.of(1, "unbounded")))))),
+                new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(Account.class))
+                        .append("localField", "accountNbr").append("foreignField", "accountNbr").append("as", "account")),
+                new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(AccountBalanceSlot.class))
+                        .append("localField", "accountNbr").append("foreignField", "accountNbr").append("as", "slots")),
+                new Document("$set", new Document("balanceAfter", new Document("$subtract", List.of(
+                        new Document("$add", List.of(new Document("$first", "$account.currentBalance"),
+                                new Document("$sum", "$slots.balance"))),
+                        "$postedLater")))),
+                new Document("$unset", List.of("postedLater", "account", "slots")),
+                new Document("$merge", new Document("into", ledgerEntries.getNamespace().getCollectionName())
+                        .append("on", "_id")
+                        .append("whenMatched", "keepExisting")
+                        .append("whenNotMatched", "insert"))
+        )).allowDiskUse(true).toCollection();
+        return ledgerEntries.estimatedDocumentCount() - before;
+    }
+
+    private static Document entry(String accountNbr, Object amount, String counterparty) {
+        var movementId = new Document("$toString", "$_id");
+        return new Document("_id", new Document("$concat", List.of(movementId, ":", new Document("$toString", accountNbr))))
+                .append("movementId", movementId)
+                .append("accountNbr", accountNbr)
+                .append("amount", amount)
+                .append("counterparty", counterparty)
+                .append("type", "$type")
+                .append("dateTime", "$dateTime");
+    }
+
+    private List<AccountMovementResponse> find(Query query) {
+        return LedgerEntryMapper.toAccountMovementResponseList(mongoTemplate.find(query, LedgerEntry.class));
+    }
+
+    private static Sort sortOf(Pageable pageable) {
+        return pageable.getSort().isSorted() ? pageable.getSort() : STATEMENT_ORDER;
+    }
+
+    private static Document first(Document result, String facet) {
+        var documents = result.getList(facet, Document.class);
+        return documents.isEmpty() ? null : documents.get(0);
+    }
+
+    private static long longValue(Document document, String field) {
+        if (document == null || !(document.get(field) instanceof Number value)) return 0L;
+        return value.longValue();
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveAccountMovementRepository extends ReactiveMongoRepository<AccountMovement, String> {
+}
@@ -0,0 +1,13 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.model.Account;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveAccountRepository extends ReactiveMongoRepository<Account, String>, ReactiveAccountRepositoryCustom {
+    Mono<AccountBalanceProjection> findCurrentBalanceByAccountNbr(Long accountNbr);
+    Mono<Boolean> existsByAccountNbr(Long accountNbr);
+}
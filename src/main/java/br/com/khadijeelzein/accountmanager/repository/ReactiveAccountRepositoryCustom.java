@@ -0,0 +1,14 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAccountRepositoryCustom {
+    Mono<Boolean> debitAccountBalance(Long accountNbr, long amount);
+    Mono<Boolean> creditAccountBalance(Long accountNbr, long amount);
+    Mono<AccountBalanceSnapshot> findBalanceSnapshot(Long accountNbrA, Long accountNbrB);
+    Mono<Void> creditAccountBalanceSlot(Long accountNbr, int slot, long amount);
+    Mono<Long> consolidateAccountBalanceSlots(Long accountNbr);
+    Mono<AccountBalanceProjection> findShardedBalanceByAccountNbr(Long accountNbr);
+}
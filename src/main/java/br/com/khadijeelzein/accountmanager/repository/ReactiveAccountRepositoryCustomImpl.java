@@ -0,0 +1,104 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.AccountBalanceSlot;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AccumulatorOperators;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.lookup;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ReactiveAccountRepositoryCustomImpl implements ReactiveAccountRepositoryCustom {
+    private static final String BALANCE_SLOT_COLLECTION = "account_balance_slot";
+
+    ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    public ReactiveAccountRepositoryCustomImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Mono<Boolean> debitAccountBalance(Long accountNbr, long amount) {
+        return reactiveMongoTemplate.updateFirst(
+                query(where("accountNbr").is(accountNbr).and("currentBalance").gte(amount)),
+                new Update().inc("currentBalance", -amount).inc("movementCount", 1),
+                Account.class
+        ).map(result -> result.getModifiedCount() == 1);
+    }
+
+    @Override
+    public Mono<Boolean> creditAccountBalance(Long accountNbr, long amount) {
+        return reactiveMongoTemplate.updateFirst(
+                query(where("accountNbr").is(accountNbr)),
+                new Update().inc("currentBalance", amount).inc("movementCount", 1),
+                Account.class
+        ).map(result -> result.getModifiedCount() == 1);
+    }
+
+    @Override
+    public Mono<AccountBalanceSnapshot> findBalanceSnapshot(Long accountNbrA, Long accountNbrB) {
+        var query = query(where("accountNbr").in(List.of(accountNbrA, accountNbrB)));
+        query.fields().include("accountNbr", "currentBalance");
+        return reactiveMongoTemplate.find(query, Account.class)
+                .collectList()
+                .map(AccountBalanceSnapshot::of);
+    }
+
+    @Override
+    public Mono<Void> creditAccountBalanceSlot(Long accountNbr, int slot, long amount) {
+        return reactiveMongoTemplate.upsert(
+                query(where("_id").is(AccountBalanceSlot.id(accountNbr, slot))),
+                new Update().setOnInsert("accountNbr", accountNbr).setOnInsert("slot", slot)
+                        .inc("balance", amount).inc("movementCount", 1),
+                AccountBalanceSlot.class
+        ).then();
+    }
+
+    @Override
+    public Mono<Long> consolidateAccountBalanceSlots(Long accountNbr) {
+        return reactiveMongoTemplate.find(
+                        query(where("accountNbr").is(accountNbr).and("balance").ne(0L)), AccountBalanceSlot.class)
+                .concatMap(slot -> reactiveMongoTemplate.findAndModify(
+                        query(where("_id").is(slot.getId())),
+                        new Update().set("balance", 0L),
+                        FindAndModifyOptions.options().returnNew(false),
+                        AccountBalanceSlot.class))
+                .reduce(0L, (consolidated, drained) -> consolidated + drained.getBalance())
+                .flatMap(consolidated -> consolidated == 0 ? Mono.just(0L)
+                        : reactiveMongoTemplate.updateFirst(query(where("accountNbr").is(accountNbr)),
+                                new Update().inc("currentBalance", consolidated), Account.class)
+                        .thenReturn(consolidated));
+    }
+
+    @Override
+    public Mono<AccountBalanceProjection> findShardedBalanceByAccountNbr(Long accountNbr) {
+        var aggregation = newAggregation(
+                match(where("accountNbr").is(accountNbr)),
+                lookup(BALANCE_SLOT_COLLECTION, "accountNbr", "accountNbr", "slots"),
+                project().and(ArithmeticOperators.Add.valueOf("currentBalance")
+                        .add(AccumulatorOperators.Sum.sumOf("slots.balance"))).as("currentBalance")
+        );
+        return reactiveMongoTemplate.aggregate(aggregation, Account.class, Document.class)
+                .next()
+                .map(result -> projectionFactory.createProjection(AccountBalanceProjection.class,
+                        Map.of("id", result.get("_id").toString(),
+                                "currentBalance", ((Number) result.get("currentBalance")).longValue())));
+    }
+}
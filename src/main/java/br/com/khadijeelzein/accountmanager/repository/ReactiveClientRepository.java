@@ -0,0 +1,13 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveClientRepository extends ReactiveMongoRepository<Client, String> {
+    Mono<Boolean> existsByCpfKey(Long cpfKey);
+    Mono<ClientSnapshot> findSnapshotByCpfKey(Long cpfKey);
+}
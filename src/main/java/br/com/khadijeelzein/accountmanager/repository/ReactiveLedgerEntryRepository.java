@@ -0,0 +1,10 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveLedgerEntryRepository extends ReactiveMongoRepository<LedgerEntry, String>,
+        ReactiveLedgerEntryRepositoryCustom {
+}
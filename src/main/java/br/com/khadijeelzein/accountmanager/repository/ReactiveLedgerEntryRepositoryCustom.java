@@ -0,0 +1,10 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public interface ReactiveLedgerEntryRepositoryCustom {
+    Flux<AccountMovementResponse> findAllByDateAndAccount(LocalDate from, LocalDate to, Long account);
+}
@@ -0,0 +1,31 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.mapper.LedgerEntryMapper;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public class ReactiveLedgerEntryRepositoryCustomImpl implements ReactiveLedgerEntryRepositoryCustom {
+    private static final int CURSOR_BATCH_SIZE = 256;
+
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public ReactiveLedgerEntryRepositoryCustomImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Flux<AccountMovementResponse> findAllByDateAndAccount(LocalDate from, LocalDate to, Long account) {
+        return Flux.defer(() -> {
+            var query = new Query(LedgerEntryCriteria.byDateAndAccount(from, to, account))
+                    .with(Sort.by(Sort.Direction.DESC, "dateTime", "_id"))
+                    .cursorBatchSize(CURSOR_BATCH_SIZE);
+            return reactiveMongoTemplate.find(query, LedgerEntry.class);
+        }).map(LedgerEntryMapper::toAccountMovementResponse);
+    }
+}
@@ -1,115 +1,281 @@
 package br.com.khadijeelzein.accountmanager.service;
 
+import br.com.khadijeelzein.accountmanager.concurrency.AccountLockManager;
+import br.com.khadijeelzein.accountmanager.concurrency.TransientTransactionRetry;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementBatchResponse;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursor;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
-import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
-import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
+import br.com.khadijeelzein.accountmanager.enums.MovementStatusEnum;
 import br.com.khadijeelzein.accountmanager.mapper.AccountMovementMapper;
-import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.mapper.LedgerEntryMapper;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
 import br.com.khadijeelzein.accountmanager.repository.AccountMovementRepository;
+import br.com.khadijeelzein.accountmanager.repository.LedgerEntryRepository;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 
 @Service
 public class AccountMovementService implements AccountMovementServiceInterface {
     private final AccountMovementRepository accountMovementRepository;
     private final AccountServiceInterface accountService;
+    private final TransactionOperations transactionOperations;
+    private final AccountLockManager accountLockManager;
+    private final LedgerEntryRepository ledgerEntryRepository;
 
     @Autowired
-    public AccountMovementService(AccountMovementRepository accountMovementRepository, AccountService accountService) {
+    public AccountMovementService(AccountMovementRepository accountMovementRepository, AccountService accountService,
+                                  TransactionOperations transactionOperations, AccountLockManager accountLockManager,
+                                  LedgerEntryRepository ledgerEntryRepository) {
         this.accountMovementRepository = accountMovementRepository;
         this.accountService = accountService;
+        this.transactionOperations = transactionOperations;
+        this.accountLockManager = accountLockManager;
+        this.ledgerEntryRepository = ledgerEntryRepository;
     }
 
     @Override
     public void accountTransfer(AccountMovementRequest accountMovementRequest) {
-        var isValid = checkAccountRequest(accountMovementRequest);
+        accountTransfer(accountMovementRequest, null);
+    }
+
+    @Override
+    public void accountTransfer(AccountMovementRequest accountMovementRequest, String accountMovementId) {
+        var isValid = AccountMovementValidator.checkAccountRequest(accountMovementRequest);
         if(isValid) {
-            var balanceOrigin = getBalanceFromAccount(accountMovementRequest.getAccountNbrOrigin());
-            var balanceDestination = getBalanceFromAccount(accountMovementRequest.getAccountNbrDestination());
-            var newBalanceOrigin = balanceOrigin - accountMovementRequest.getAmount();
-            var newBalanceDestination = balanceDestination + accountMovementRequest.getAmount();
-            updateAccountBalances(accountMovementRequest, newBalanceOrigin, newBalanceDestination);
             var accountMovement = AccountMovementMapper.toAccountMovement(accountMovementRequest);
-            accountMovementRepository.save(accountMovement);
+            accountMovement.setId(accountMovementId != null ? accountMovementId : new ObjectId().toHexString());
+            var origin = accountMovementRequest.getAccountNbrOrigin();
+            var destination = accountMovementRequest.getAccountNbrDestination();
+            accountService.checkAccountsExist(origin, destination);
+            var hotDestination = accountService.isHotAccount(destination);
+            var lockedAccountNbrs = hotDestination ? List.of(origin) : List.of(origin, destination);
+            accountLockManager.withLocks(lockedAccountNbrs, () -> TransientTransactionRetry.execute(() ->
+                    transactionOperations.execute(status -> {
+                        // Inserida primeiro: um _id repetido (Idempotency-Key) aborta antes de mover saldo.
+                        accountMovementRepository.insert(accountMovement);
+                        var balanceOrigin = accountService.debitAccountBalance(origin, accountMovementRequest.getAmount())
+                                .orElseThrow(() -> rejectedDebit(accountMovementRequest));
+                        Long balanceDestination = null;
+                        if(hotDestination) {
+                            accountService.creditHotAccountBalance(destination, accountMovementRequest.getAmount(), 1);
+                        } else {
+                            balanceDestination = accountService.creditAccountBalance(destination, accountMovementRequest.getAmount())
+                                    .orElseThrow(() -> new IllegalArgumentException("Contas Inexistente"));
+                        }
+                        ledgerEntryRepository.insert(LedgerEntryMapper.toLedgerEntries(accountMovement,
+                                accountService.isHotAccount(origin) ? null : balanceOrigin, balanceDestination));
+                        return accountMovement;
+                    })));
+        }
+    }
+
+    @Override
+    public List<AccountMovementBatchResponse> accountTransferBatch(List<AccountMovementRequest> accountMovementRequests) {
+        AccountMovementValidator.checkBatchSize(accountMovementRequests);
+        return accountTransferBatch(accountMovementRequests, Collections.nCopies(accountMovementRequests.size(), null));
+    }
+
+    public List<AccountMovementBatchResponse> accountTransferBatch(List<AccountMovementRequest> accountMovementRequests,
+                                                                   List<String> accountMovementIds) {
+        var validated = new AccountMovementBatchResponse[accountMovementRequests.size()];
+        Set<Long> accountNbrs = new HashSet<>();
+        for (int i = 0; i < accountMovementRequests.size(); i++) {
+            var accountMovementRequest = accountMovementRequests.get(i);
+            try {
+                if(accountMovementRequest==null) throw new IllegalArgumentException("Transferência não pode ser nula");
+                AccountMovementValidator.checkAccountRequest(accountMovementRequest);
+                accountNbrs.add(accountMovementRequest.getAccountNbrOrigin());
+                accountNbrs.add(accountMovementRequest.getAccountNbrDestination());
+            } catch (IllegalArgumentException e) {
+                validated[i] = new AccountMovementBatchResponse(i, MovementStatusEnum.REJEITADA, e.getMessage());
+            }
+        }
+        var responses = accountLockManager.withLocks(accountNbrs, () -> applyBatchRetryingDuplicates(
+                accountMovementRequests, accountMovementIds, accountNbrs, validated));
+        return Arrays.asList(responses);
+    }
+
+    // Uma movimentação confirmada por outro nó entre a consulta e o insert aborta a transação; a nova tentativa a
+    // encontra em markApplied e só ela é devolvida como já processada, sem afetar as demais do lote.
+    private AccountMovementBatchResponse[] applyBatchRetryingDuplicates(List<AccountMovementRequest> accountMovementRequests,
+                                                                       List<String> accountMovementIds, Set<Long> accountNbrs,
+                                                                       AccountMovementBatchResponse[] validated) {
+        for (int retry = 0; ; retry++) {
+            try {
+                return TransientTransactionRetry.execute(() -> transactionOperations.execute(status -> {
+                    var attempt = validated.clone();
+                    markApplied(accountMovementIds, attempt);
+                    applyBatch(accountMovementRequests, accountMovementIds, accountNbrs, attempt);
+                    return attempt;
+                }));
+            } catch (DuplicateKeyException e) {
+                if (retry >= TransientTransactionRetry.MAX_RETRIES)
+                    throw new IllegalStateException("Lote de transferências não aplicado", e);
+            }
         }
     }
 
-    private void updateAccountBalances(AccountMovementRequest accountMovementRequest,Double newBalanceOrigin, Double newBalanceDestination) {
-        Account accountOrigin = Account.builder()
-                .accountNbr(accountMovementRequest.getAccountNbrOrigin())
-                .currentBalance(newBalanceOrigin)
-                .build();
-        Account accountDestination = Account.builder().accountNbr(accountMovementRequest.getAccountNbrDestination())
-                .currentBalance(newBalanceDestination)
-                .build();
-       var accounts= List.of(accountOrigin, accountDestination);
-       accountService.updateAllAccountBalance(accounts);
+    private void markApplied(List<String> accountMovementIds, AccountMovementBatchResponse[] responses) {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < responses.length; i++)
+            if (responses[i] == null && accountMovementIds.get(i) != null) ids.add(accountMovementIds.get(i));
+        if (ids.isEmpty()) return;
+        var applied = new HashSet<>(accountMovementRepository.findExistingIds(ids));
+        for (int i = 0; i < responses.length; i++) {
+            var id = accountMovementIds.get(i);
+            if (responses[i] != null || id == null) continue;
+            // Ids repetidos no mesmo lote são aplicados uma única vez.
+            if (applied.contains(id) || !applied.add(id))
+                responses[i] = new AccountMovementBatchResponse(i, MovementStatusEnum.PROCESSADA, "Transferência já processada");
+        }
+    }
+
+    private void applyBatch(List<AccountMovementRequest> accountMovementRequests, List<String> accountMovementIds,
+                            Set<Long> accountNbrs, AccountMovementBatchResponse[] responses) {
+        var balances = accountService.getAccountBalances(accountNbrs);
+        Map<Long, Long> balanceDeltas = new LinkedHashMap<>();
+        Map<Long, Long> movementCounts = new LinkedHashMap<>();
+        List<AccountMovement> accountMovements = new ArrayList<>();
+        List<LedgerEntry> ledgerEntries = new ArrayList<>();
+        Set<Long> consolidated = new HashSet<>();
+        for (int i = 0; i < accountMovementRequests.size(); i++) {
+            if (responses[i] != null) continue;
+            var accountMovementRequest = accountMovementRequests.get(i);
+            var origin = accountMovementRequest.getAccountNbrOrigin();
+            var destination = accountMovementRequest.getAccountNbrDestination();
+            long amount = accountMovementRequest.getAmount();
+            if (!balances.containsKey(origin) || !balances.containsKey(destination)) {
+                responses[i] = new AccountMovementBatchResponse(i, MovementStatusEnum.REJEITADA, "Contas Inexistente");
+                continue;
+            }
+            // Slots de contas quentes só são consolidados quando um débito precisa do saldo.
+            if (balances.get(origin) < amount && consolidated.add(origin))
+                balances.merge(origin, accountService.consolidateHotAccount(origin), Long::sum);
+            if (balances.get(origin) < amount) {
+                responses[i] = new AccountMovementBatchResponse(i, MovementStatusEnum.REJEITADA, "Saldo insuficiente");
+            } else {
+                balances.merge(origin, -amount, Long::sum);
+                balances.merge(destination, amount, Long::sum);
+                balanceDeltas.merge(origin, -amount, Long::sum);
+                balanceDeltas.merge(destination, amount, Long::sum);
+                movementCounts.merge(origin, 1L, Long::sum);
+                movementCounts.merge(destination, 1L, Long::sum);
+                var accountMovement = AccountMovementMapper.toAccountMovement(accountMovementRequest);
+                accountMovement.setId(accountMovementIds.get(i) != null
+                        ? accountMovementIds.get(i) : new ObjectId().toHexString());
+                accountMovements.add(accountMovement);
+                ledgerEntries.addAll(LedgerEntryMapper.toLedgerEntries(accountMovement,
+                        runningBalance(balances, origin), runningBalance(balances, destination)));
+                responses[i] = new AccountMovementBatchResponse(i, MovementStatusEnum.PROCESSADA, null);
+            }
+        }
+        balanceDeltas.values().removeIf(delta -> delta == 0);
+        if (accountMovements.isEmpty()) return;
+        var hotCredits = new LinkedHashMap<Long, Long>();
+        balanceDeltas.entrySet().removeIf(delta -> {
+            if (delta.getValue() <= 0 || !accountService.isHotAccount(delta.getKey())) return false;
+            hotCredits.put(delta.getKey(), delta.getValue());
+            return true;
+        });
+        hotCredits.forEach((accountNbr, credit) ->
+                accountService.creditHotAccountBalance(accountNbr, credit, movementCounts.remove(accountNbr)));
+        var result = accountService.applyBalanceDeltas(balanceDeltas);
+        if (result.getMatchedCount() < balanceDeltas.size())
+            throw new IllegalStateException("Saldos alterados durante o processamento do lote");
+        accountService.incrementMovementCounts(movementCounts);
+        accountMovementRepository.insert(accountMovements);
+        ledgerEntryRepository.insert(ledgerEntries);
     }
 
-    private Double getBalanceFromAccount(Long accountNbr) {
-        AccountBalanceProjection balanceOriginProjection = accountService.getAccountBalance(accountNbr);
-        return balanceOriginProjection.getCurrentBalance();
+    private Long runningBalance(Map<Long, Long> balances, Long accountNbr) {
+        return accountService.isHotAccount(accountNbr) ? null : balances.get(accountNbr);
     }
 
-    private boolean checkAccountRequest(AccountMovementRequest accountMovementRequest) {
-        if(accountMovementRequest.getType()==null) throw new IllegalArgumentException("Tipo não pode ser nulo");
-        if(Arrays.stream(MovementTypeEnum.values()).anyMatch(type ->
-                type.getType()
-                        .contentEquals(accountMovementRequest.getType().toUpperCase())
-        ) || Arrays.stream(MovementTypeEnum.values()).anyMatch(type ->
-                type.name()
-                        .contentEquals(accountMovementRequest.getType().toUpperCase())
-        )){
-            if(accountMovementRequest.getAccountNbrOrigin()>0 && accountMovementRequest.getAccountNbrDestination()>0) {
-                if (!Objects.equals(accountMovementRequest.getAccountNbrOrigin(), accountMovementRequest.getAccountNbrDestination())) {
-                    var existsAccountOrigin = accountService.accountExists(accountMovementRequest.getAccountNbrOrigin());
-                    var existsAccountDestination = accountService.accountExists(accountMovementRequest.getAccountNbrDestination());
-                    if (!existsAccountOrigin || !existsAccountDestination) {
-                        throw new IllegalArgumentException("Contas Inexistente");
-                    } else return true;
-                } else throw new IllegalArgumentException("Contas Iguais");
-            }else throw new IllegalArgumentException("Contas Inválidas");
-        } else throw new IllegalArgumentException("Tipo Inválido");
+    private IllegalArgumentException rejectedDebit(AccountMovementRequest accountMovementRequest) {
+        var snapshot = accountService.getAccountBalanceSnapshot(accountMovementRequest.getAccountNbrOrigin(),
+                accountMovementRequest.getAccountNbrDestination());
+        if (!snapshot.existsAll(accountMovementRequest.getAccountNbrOrigin(), accountMovementRequest.getAccountNbrDestination()))
+            return new IllegalArgumentException("Contas Inexistente");
+        return new IllegalArgumentException("Saldo insuficiente");
     }
 
     @Override
     public Page<AccountMovementResponse> accountTransferHistory(String id,
                                                                 LocalDate startDate,
                                                                 LocalDate endDate,Pageable pageable) {
-        var isValid = checkIfDatesAndAccountNumberAreValid(id, startDate, endDate);
+        var isValid = AccountMovementValidator.checkIfDatesAndAccountNumberAreValid(id, startDate, endDate);
         if (isValid) {
-                var response = accountMovementRepository
-                        .findAllByDateAndAccountOriginOrAccountDestination(
+                var accountNbr = Long.parseLong(id);
+                var movementCount = startDate == null && endDate == null
+                        ? accountService.getMovementCount(accountNbr) : OptionalLong.empty();
+                if (movementCount.isPresent())
+                    return ledgerEntryRepository.findAllByDateAndAccount(
+                            null, null, accountNbr, pageable, movementCount.getAsLong());
+                var response = ledgerEntryRepository
+                        .findAllByDateAndAccount(
                                 startDate,
                                 endDate,
-                                Long.parseLong(id),
+                                accountNbr,
                                 pageable);
                 return response;
         } return null;
     }
 
-    private boolean checkIfDatesAndAccountNumberAreValid(String id, LocalDate startDate, LocalDate endDate) {
+    @Override
+    public AccountMovementSlicePage accountTransferHistorySlice(String id,
+                                                               LocalDate startDate,
+                                                               LocalDate endDate,
+                                                               Pageable pageable) {
+        AccountMovementValidator.checkIfDatesAndAccountNumberAreValid(id, startDate, endDate);
+        return ledgerEntryRepository.findSliceByDateAndAccount(
+                startDate, endDate, Long.parseLong(id), pageable);
+    }
+
+    @Override
+    public AccountMovementSummaryPage accountTransferHistorySummary(String id,
+                                                                   LocalDate startDate,
+                                                                   LocalDate endDate,
+                                                                   Pageable pageable) {
+        AccountMovementValidator.checkIfDatesAndAccountNumberAreValid(id, startDate, endDate);
+        return ledgerEntryRepository.findSummaryByDateAndAccount(
+                startDate, endDate, Long.parseLong(id), pageable);
+    }
 
-        if(startDate!=null && endDate!=null && startDate.isAfter(endDate) ||
-                startDate!= null && startDate.isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException(
-                    "Data inicial deve vir antes da final " +
-                            "e/ou data inicial não pode ser futura"
-            );
-        }
-        if(Long.parseLong(id)<=0) {
-            throw new IllegalArgumentException(
-                    "Número de conta deve ser maior que 0");
-        }
-        return true;
+    @Override
+    public AccountMovementCursorPage accountTransferHistory(String id,
+                                                            LocalDate startDate,
+                                                            LocalDate endDate,
+                                                            String cursor,
+                                                            int size) {
+        AccountMovementValidator.checkIfDatesAndAccountNumberAreValid(id, startDate, endDate);
+        if (size <= 0) throw new IllegalArgumentException("Tamanho da página deve ser maior que 0");
+        return ledgerEntryRepository.findAllByDateAndAccountAfter(
+                startDate,
+                endDate,
+                Long.parseLong(id),
+                cursor == null || cursor.isBlank() ? null : AccountMovementCursor.decode(cursor),
+                size);
     }
 }
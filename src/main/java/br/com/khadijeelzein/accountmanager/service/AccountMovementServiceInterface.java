@@ -1,7 +1,11 @@
 package br.com.khadijeelzein.accountmanager.service;
 
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementBatchResponse;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,8 +17,28 @@ public interface AccountMovementServiceInterface {
 
     void accountTransfer(AccountMovementRequest accountMovementRequest) throws Exception;
 
+    void accountTransfer(AccountMovementRequest accountMovementRequest, String accountMovementId) throws Exception;
+
+    List<AccountMovementBatchResponse> accountTransferBatch(List<AccountMovementRequest> accountMovementRequests);
+
     Page<AccountMovementResponse> accountTransferHistory(String id,
                                                          LocalDate startDate,
                                                          LocalDate endDate,
                                                          Pageable pageable);
+
+    AccountMovementSlicePage accountTransferHistorySlice(String id,
+                                                         LocalDate startDate,
+                                                         LocalDate endDate,
+                                                         Pageable pageable);
+
+    AccountMovementSummaryPage accountTransferHistorySummary(String id,
+                                                             LocalDate startDate,
+                                                             LocalDate endDate,
+                                                             Pageable pageable);
+
+    AccountMovementCursorPage accountTransferHistory(String id,
+                                                     LocalDate startDate,
+                                                     LocalDate endDate,
+                                                     String cursor,
+                                                     int size);
 }
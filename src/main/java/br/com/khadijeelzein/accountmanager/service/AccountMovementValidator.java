@@ -0,0 +1,56 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public class AccountMovementValidator {
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    public static boolean checkAccountRequest(AccountMovementRequest accountMovementRequest) {
+        if(accountMovementRequest.getType()==null) throw new IllegalArgumentException("Tipo não pode ser nulo");
+        if(Arrays.stream(MovementTypeEnum.values()).anyMatch(type ->
+                type.getType()
+                        .contentEquals(accountMovementRequest.getType().toUpperCase())
+        ) || Arrays.stream(MovementTypeEnum.values()).anyMatch(type ->
+                type.name()
+                        .contentEquals(accountMovementRequest.getType().toUpperCase())
+        )){
+            if(accountMovementRequest.getAccountNbrOrigin()!=null && accountMovementRequest.getAccountNbrDestination()!=null
+                    && accountMovementRequest.getAccountNbrOrigin()>0 && accountMovementRequest.getAccountNbrDestination()>0) {
+                if (!Objects.equals(accountMovementRequest.getAccountNbrOrigin(), accountMovementRequest.getAccountNbrDestination())) {
+                    if (accountMovementRequest.getAmount() == null || accountMovementRequest.getAmount() <= 0) {
+                        throw new IllegalArgumentException("Valor deve ser maior que 0");
+                    } else return true;
+                } else throw new IllegalArgumentException("Contas Iguais");
+            }else throw new IllegalArgumentException("Contas Inválidas");
+        } else throw new IllegalArgumentException("Tipo Inválido");
+    }
+
+    public static void checkBatchSize(List<AccountMovementRequest> accountMovementRequests) {
+        if(accountMovementRequests==null || accountMovementRequests.isEmpty())
+            throw new IllegalArgumentException("Lote não pode ser vazio");
+        if(accountMovementRequests.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("Lote não pode ter mais que " + MAX_BATCH_SIZE + " transferências");
+    }
+
+    public static boolean checkIfDatesAndAccountNumberAreValid(String id, LocalDate startDate, LocalDate endDate) {
+
+        if(startDate!=null && endDate!=null && startDate.isAfter(endDate) ||
+                startDate!= null && startDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException(
+                    "Data inicial deve vir antes da final " +
+                            "e/ou data inicial não pode ser futura"
+            );
+        }
+        if(Long.parseLong(id)<=0) {
+            throw new IllegalArgumentException(
+                    "Número de conta deve ser maior que 0");
+        }
+        return true;
+    }
+}
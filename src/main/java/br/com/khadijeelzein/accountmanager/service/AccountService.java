@@ -1,77 +1,245 @@
 package br.com.khadijeelzein.accountmanager.service;
 
+import br.com.khadijeelzein.accountmanager.accountnumber.AccountNumberAllocator;
 import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceUpdateResult;
 import br.com.khadijeelzein.accountmanager.dto.AccountNbrResponse;
 import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
-import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
+import br.com.khadijeelzein.accountmanager.cache.BalanceCache;
+import br.com.khadijeelzein.accountmanager.directory.AccountDirectory;
 import br.com.khadijeelzein.accountmanager.mapper.AccountMapper;
+import br.com.khadijeelzein.accountmanager.mapper.CpfMapper;
 import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Map;
+import java.util.OptionalLong;
 
 @Service
 @Getter
 public class AccountService implements AccountServiceInterface {
+    private static final int MAX_ACCOUNT_NBR_ATTEMPTS = 3;
 
     private final AccountRepository accountRepository;
     private final ClientServiceInterface clientService;
+    private final HotAccountPolicy hotAccountPolicy;
+    private final AccountDirectory accountDirectory;
+    private final BalanceCache balanceCache;
+    private final AccountNumberAllocator accountNumberAllocator;
 
     @Autowired
-    public AccountService(AccountRepository accountRepository, ClientServiceInterface clientService) {
+    public AccountService(AccountRepository accountRepository, ClientServiceInterface clientService,
+                          HotAccountPolicy hotAccountPolicy, AccountDirectory accountDirectory,
+                          BalanceCache balanceCache, AccountNumberAllocator accountNumberAllocator) {
         this.accountRepository = accountRepository;
         this.clientService = clientService;
+        this.hotAccountPolicy = hotAccountPolicy;
+        this.accountDirectory = accountDirectory;
+        this.balanceCache = balanceCache;
+        this.accountNumberAllocator = accountNumberAllocator;
     }
 
     @Override
     public AccountNbrResponse createAccount(AccountRequest accountRequest){
-        var isValid = checkAccountRequest(accountRequest);
-        if(isValid) {
-            Account account = AccountMapper.toAccount(accountRequest);
-            account.setAccountNbr(ThreadLocalRandom.current().nextLong(1,Long.MAX_VALUE));
-            account.setCurrentBalance(0.0d);
-            Account accountResponse = accountRepository.save(account);
-            return new AccountNbrResponse(accountResponse.getAccountNbr());
+        var client = checkAccountRequest(accountRequest);
+        Account account = AccountMapper.toAccount(accountRequest, client);
+        account.setCurrentBalance(0L);
+        Account accountResponse = saveWithNewAccountNbr(account);
+        accountDirectory.add(accountResponse.getAccountNbr());
+        return new AccountNbrResponse(accountResponse.getAccountNbr());
+    }
+
+    @Override
+    public List<AccountBatchResponse> createAccounts(List<AccountRequest> accountRequests){
+        AccountValidator.checkBatchSize(accountRequests);
+        var responses = new AccountBatchResponse[accountRequests.size()];
+        var cpfKeys = new long[accountRequests.size()];
+        for (int i = 0; i < accountRequests.size(); i++) {
+            var accountRequest = accountRequests.get(i);
+            try {
+                if(accountRequest==null) throw new IllegalArgumentException("Conta não pode ser nula");
+                AccountValidator.checkAccountType(accountRequest);
+                if(accountRequest.getClientCpf()==null) throw new IllegalArgumentException("Cliente Inexistente");
+                cpfKeys[i] = CpfMapper.toKey(accountRequest.getClientCpf());
+            } catch (IllegalArgumentException e) {
+                responses[i] = new AccountBatchResponse(i, null, e.getMessage());
+            }
+        }
+        List<Long> requestedCpfKeys = new ArrayList<>();
+        for (int i = 0; i < accountRequests.size(); i++)
+            if(responses[i]==null) requestedCpfKeys.add(cpfKeys[i]);
+        var clients = clientService.findClientSnapshots(requestedCpfKeys);
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < accountRequests.size(); i++) {
+            if(responses[i]!=null) continue;
+            if(clients.containsKey(cpfKeys[i])) accepted.add(i);
+            else responses[i] = new AccountBatchResponse(i, null, "Cliente Inexistente");
+        }
+        List<Account> pending = new ArrayList<>(accepted.size());
+        for (int index : accepted) {
+            Account account = AccountMapper.toAccount(accountRequests.get(index), clients.get(cpfKeys[index]));
+            account.setCurrentBalance(0L);
+            pending.add(account);
+        }
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            var accountNbrs = accountNumberAllocator.nextAccountNbrs(pending.size());
+            for (int i = 0; i < pending.size(); i++) pending.get(i).setAccountNbr(accountNbrs[i]);
+            var collisions = accountRepository.insertIgnoringDuplicates(pending);
+            List<Account> retry = new ArrayList<>(collisions.size());
+            List<Integer> retryIndexes = new ArrayList<>(collisions.size());
+            for (int i = 0; i < pending.size(); i++) {
+                int index = accepted.get(i);
+                if (!collisions.contains(i)) {
+                    accountDirectory.add(accountNbrs[i]);
+                    responses[index] = new AccountBatchResponse(index, accountNbrs[i], null);
+                } else if (attempt >= MAX_ACCOUNT_NBR_ATTEMPTS) {
+                    responses[index] = new AccountBatchResponse(index, null, "Número da conta indisponível");
+                } else {
+                    retry.add(pending.get(i));
+                    retryIndexes.add(index);
+                }
+            }
+            pending = retry;
+            accepted = retryIndexes;
         }
-        return null;
+        return Arrays.asList(responses);
     }
 
-    private boolean checkAccountRequest(AccountRequest accountRequest) {
-        if(accountRequest.getAccountType()==null) throw new IllegalArgumentException("Tipo não pode ser nulo");
-        if(Arrays.stream(TypeEnum.values()).anyMatch(type ->
-                type.getType()
-                        .contentEquals(accountRequest.getAccountType().toUpperCase())
-        ) || Arrays.stream(TypeEnum.values()).anyMatch(type ->
-                type.name()
-                        .contentEquals(accountRequest.getAccountType().toUpperCase())
-        )
-        ) {
-            if(!clientService.existsClient(accountRequest.getClientCpf()))
-                throw new IllegalArgumentException("Cliente Inexistente");
-            else return true;
-        } else throw new IllegalArgumentException("Tipo Inválido");
+    private Account saveWithNewAccountNbr(Account account) {
+        for (int attempt = 1; ; attempt++) {
+            account.setAccountNbr(accountNumberAllocator.nextAccountNbr());
+            try {
+                return accountRepository.save(account);
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_ACCOUNT_NBR_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    private ClientSnapshot checkAccountRequest(AccountRequest accountRequest) {
+        AccountValidator.checkAccountType(accountRequest);
+        return clientService.findClientSnapshot(accountRequest.getClientCpf())
+                .orElseThrow(() -> new IllegalArgumentException("Cliente Inexistente"));
     }
 
     @Override
     public AccountBalanceProjection getAccountBalance(Long accountNbr){
-        if(accountNbr!=null && accountNbr>0)
-            return accountRepository.findCurrentBalanceByAccountNbr(accountNbr);
-        else throw new IllegalArgumentException("Número da conta não pode ser nulo ou menor que 0");
+        if(accountNbr==null || accountNbr<=0)
+            throw new IllegalArgumentException("Número da conta não pode ser nulo ou menor que 0");
+        if(!accountNumberAllocator.isWellFormed(accountNbr))
+            throw new IllegalArgumentException("Número da conta inválido");
+        return balanceCache.get(accountNbr, this::loadAccountBalance);
+    }
+
+    private AccountBalanceProjection loadAccountBalance(Long accountNbr){
+        return hotAccountPolicy.isHot(accountNbr)
+                ? accountRepository.findShardedBalanceByAccountNbr(accountNbr)
+                : accountRepository.findCurrentBalanceByAccountNbr(accountNbr);
     }
 
     @Override
-    public void updateAllAccountBalance(List<Account> accounts){
-        if(accounts!=null && !accounts.isEmpty())
-            accountRepository.updateAccountByAccountNbr(accounts);
+    public AccountBalanceUpdateResult updateAllAccountBalance(List<Account> accounts){
+        if(accounts!=null && !accounts.isEmpty()) {
+            balanceCache.invalidateOnCompletion(accounts.stream().map(Account::getAccountNbr).toList());
+            return accountRepository.updateAccountByAccountNbr(accounts);
+        }
         else throw new IllegalArgumentException("Contas não podem ser nulas");
     }
     @Override
     public boolean accountExists(Long accountNbr){
-        return accountRepository.existsByAccountNbr(accountNbr);
+        if(!accountNumberAllocator.isWellFormed(accountNbr)) return false;
+        if(accountDirectory.isReady() && accountDirectory.contains(accountNbr)) return true;
+        return existsInRepository(accountNbr);
+    }
+
+    @Override
+    public void checkAccountsExist(Long accountNbrA, Long accountNbrB){
+        if(!accountNumberAllocator.isWellFormed(accountNbrA) || !accountNumberAllocator.isWellFormed(accountNbrB))
+            throw new IllegalArgumentException("Contas Inexistente");
+        if(!accountDirectory.isReady()) return;
+        if((!accountDirectory.contains(accountNbrA) && !existsInRepository(accountNbrA))
+                || (!accountDirectory.contains(accountNbrB) && !existsInRepository(accountNbrB)))
+            throw new IllegalArgumentException("Contas Inexistente");
+    }
+
+    // O diretório só conhece contas criadas neste nó; uma ausência é confirmada no banco antes de rejeitar.
+    private boolean existsInRepository(Long accountNbr){
+        if(!accountRepository.existsByAccountNbr(accountNbr)) return false;
+        if(accountDirectory.isReady()) accountDirectory.add(accountNbr);
+        return true;
+    }
+
+    @Override
+    public AccountBalanceSnapshot getAccountBalanceSnapshot(Long accountNbrA, Long accountNbrB){
+        return accountRepository.findBalanceSnapshot(accountNbrA, accountNbrB);
+    }
+
+    @Override
+    public boolean isHotAccount(Long accountNbr){
+        return hotAccountPolicy.isHot(accountNbr);
+    }
+
+    @Override
+    public OptionalLong debitAccountBalance(Long accountNbr, long amount){
+        balanceCache.invalidateOnCompletion(List.of(accountNbr));
+        var balance = accountRepository.debitAccountBalance(accountNbr, amount);
+        if(balance.isPresent() || !hotAccountPolicy.isHot(accountNbr)
+                || accountRepository.consolidateAccountBalanceSlots(accountNbr) <= 0) return balance;
+        return accountRepository.debitAccountBalance(accountNbr, amount);
+    }
+
+    @Override
+    public OptionalLong creditAccountBalance(Long accountNbr, long amount){
+        balanceCache.invalidateOnCompletion(List.of(accountNbr));
+        return accountRepository.creditAccountBalance(accountNbr, amount);
+    }
+
+    @Override
+    public void creditHotAccountBalance(Long accountNbr, long amount, long movementCount){
+        balanceCache.invalidateOnCompletion(List.of(accountNbr));
+        accountRepository.creditAccountBalanceSlot(accountNbr, hotAccountPolicy.nextSlot(), amount, movementCount);
+    }
+
+    @Override
+    public long consolidateHotAccount(Long accountNbr){
+        if(!hotAccountPolicy.isHot(accountNbr)) return 0;
+        return accountRepository.consolidateAccountBalanceSlots(accountNbr);
+    }
+
+    @Override
+    public Map<Long, Long> getAccountBalances(Collection<Long> accountNbrs){
+        Map<Long, Long> balances = new HashMap<>();
+        accountRepository.findBalancesByAccountNbrIn(accountNbrs)
+                .forEach(account -> balances.put(account.getAccountNbr(), account.getCurrentBalance()));
+        return balances;
+    }
+
+    @Override
+    public AccountBalanceUpdateResult applyBalanceDeltas(Map<Long, Long> balanceDeltas){
+        balanceCache.invalidateOnCompletion(List.copyOf(balanceDeltas.keySet()));
+        return accountRepository.incrementAccountBalances(balanceDeltas);
+    }
+
+    @Override
+    public void incrementMovementCounts(Map<Long, Long> movementCounts){
+        accountRepository.incrementMovementCounts(movementCounts);
+    }
+
+    @Override
+    public OptionalLong getMovementCount(Long accountNbr){
+        var movementCount = accountRepository.findMovementCount(accountNbr);
+        return movementCount == null ? OptionalLong.empty() : OptionalLong.of(movementCount);
     }
 }
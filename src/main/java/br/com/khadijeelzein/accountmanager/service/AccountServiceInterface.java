@@ -1,15 +1,33 @@
 package br.com.khadijeelzein.accountmanager.service;
 
 import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceUpdateResult;
 import br.com.khadijeelzein.accountmanager.dto.AccountNbrResponse;
 import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
 import br.com.khadijeelzein.accountmanager.model.Account;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 
 public interface AccountServiceInterface {
     AccountNbrResponse createAccount(AccountRequest accountRequest);
+    List<AccountBatchResponse> createAccounts(List<AccountRequest> accountRequests);
     AccountBalanceProjection getAccountBalance(Long accountNbr);
-    void updateAllAccountBalance(List<Account> accounts);
+    AccountBalanceUpdateResult updateAllAccountBalance(List<Account> accounts);
     boolean accountExists(Long accountNbr);
+    void checkAccountsExist(Long accountNbrA, Long accountNbrB);
+    AccountBalanceSnapshot getAccountBalanceSnapshot(Long accountNbrA, Long accountNbrB);
+    boolean isHotAccount(Long accountNbr);
+    OptionalLong debitAccountBalance(Long accountNbr, long amount);
+    OptionalLong creditAccountBalance(Long accountNbr, long amount);
+    void creditHotAccountBalance(Long accountNbr, long amount, long movementCount);
+    Map<Long, Long> getAccountBalances(Collection<Long> accountNbrs);
+    AccountBalanceUpdateResult applyBalanceDeltas(Map<Long, Long> balanceDeltas);
+    void incrementMovementCounts(Map<Long, Long> movementCounts);
+    OptionalLong getMovementCount(Long accountNbr);
+    long consolidateHotAccount(Long accountNbr);
 }
@@ -0,0 +1,29 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
+import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class AccountValidator {
+    public static final int MAX_BATCH_SIZE = 10000;
+
+    public static void checkBatchSize(List<AccountRequest> accountRequests) {
+        if(accountRequests==null || accountRequests.isEmpty())
+            throw new IllegalArgumentException("Lote não pode ser vazio");
+        if(accountRequests.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("Lote não pode ter mais que " + MAX_BATCH_SIZE + " contas");
+    }
+
+    public static void checkAccountType(AccountRequest accountRequest) {
+        if(accountRequest.getAccountType()==null) throw new IllegalArgumentException("Tipo não pode ser nulo");
+        if(Arrays.stream(TypeEnum.values()).noneMatch(type ->
+                type.getType()
+                        .contentEquals(accountRequest.getAccountType().toUpperCase())
+        ) && Arrays.stream(TypeEnum.values()).noneMatch(type ->
+                type.name()
+                        .contentEquals(accountRequest.getAccountType().toUpperCase())
+        )) throw new IllegalArgumentException("Tipo Inválido");
+    }
+}
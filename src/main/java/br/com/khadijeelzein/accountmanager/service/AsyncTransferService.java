@@ -0,0 +1,153 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.cache.ExpiringLruCache;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.TransferStatusResponse;
+import br.com.khadijeelzein.accountmanager.enums.TransferStatusEnum;
+import br.com.khadijeelzein.accountmanager.model.TransferStatus;
+import br.com.khadijeelzein.accountmanager.repository.AccountMovementRepository;
+import br.com.khadijeelzein.accountmanager.repository.TransferStatusRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+public class AsyncTransferService implements AsyncTransferServiceInterface {
+    private final AccountMovementServiceInterface accountMovementService;
+    private final AccountMovementRepository accountMovementRepository;
+    private final TransferStatusRepository transferStatusRepository;
+    private final AsyncTaskExecutor transferExecutor;
+    private final Map<String, TransferStatusResponse> pendingTransfers = new ConcurrentHashMap<>();
+    private final ExpiringLruCache<String, TransferStatusResponse> completedTransfers;
+
+    @Autowired
+    public AsyncTransferService(AccountMovementServiceInterface accountMovementService,
+                                AccountMovementRepository accountMovementRepository,
+                                TransferStatusRepository transferStatusRepository,
+                                @Qualifier("transferExecutor") AsyncTaskExecutor transferExecutor,
+                                @Value("${accountmanager.async.status-cache-size:100000}") int statusCacheSize,
+                                @Value("${accountmanager.async.status-cache-ttl:10m}") Duration statusCacheTtl) {
+        this.accountMovementService = accountMovementService;
+        this.accountMovementRepository = accountMovementRepository;
+        this.transferStatusRepository = transferStatusRepository;
+        this.transferExecutor = transferExecutor;
+        this.completedTransfers = new ExpiringLruCache<>(statusCacheSize, statusCacheTtl);
+    }
+
+    @Override
+    public TransferStatusResponse submitTransfer(AccountMovementRequest accountMovementRequest) {
+        return submitTransfer(accountMovementRequest, new ObjectId().toHexString());
+    }
+
+    @Override
+    public TransferStatusResponse submitTransfer(AccountMovementRequest accountMovementRequest, String transferId) {
+        AccountMovementValidator.checkAccountRequest(accountMovementRequest);
+        try {
+            transferStatusRepository.insert(TransferStatus.builder()
+                    .id(transferId)
+                    .status(TransferStatusEnum.PENDENTE)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DuplicateKeyException e) {
+            // Reenvio do mesmo id: só volta à fila se estiver pendente sem execução aqui ou se tiver falhado.
+            var stored = getTransferStatus(transferId);
+            if (stored != null && stored.getStatus() == TransferStatusEnum.FALHA) {
+                saveStatus(transferId, TransferStatusEnum.PENDENTE, null);
+            } else if (stored != null && (stored.getStatus() != TransferStatusEnum.PENDENTE
+                    || pendingTransfers.containsKey(transferId))) return stored;
+        }
+        var pending = new TransferStatusResponse(transferId, TransferStatusEnum.PENDENTE, null);
+        pendingTransfers.put(transferId, pending);
+        try {
+            transferExecutor.execute(() -> runTransfer(transferId, accountMovementRequest));
+        } catch (RejectedExecutionException e) {
+            pendingTransfers.remove(transferId);
+            throw e;
+        }
+        return pending;
+    }
+
+    @Override
+    public TransferStatusResponse getTransferStatus(String transferId) {
+        if (transferId == null || !ObjectId.isValid(transferId))
+            throw new IllegalArgumentException("Id da transferência inválido");
+        var status = pendingTransfers.get(transferId);
+        if (status == null) status = completedTransfers.get(transferId);
+        if (status != null) return status;
+        if (accountMovementRepository.existsById(transferId)) {
+            status = new TransferStatusResponse(transferId, TransferStatusEnum.CONCLUIDA, null);
+        } else {
+            status = transferStatusRepository.findById(transferId)
+                    .map(stored -> new TransferStatusResponse(stored.getId(), stored.getStatus(), stored.getMessage()))
+                    .orElse(null);
+        }
+        if (status != null && isFinal(status.getStatus()))
+            completedTransfers.put(transferId, status);
+        return status;
+    }
+
+    private void runTransfer(String transferId, AccountMovementRequest accountMovementRequest) {
+        try {
+            accountMovementService.accountTransfer(accountMovementRequest, transferId);
+            complete(transferId, TransferStatusEnum.CONCLUIDA, null);
+        } catch (DuplicateKeyException e) {
+            complete(transferId, TransferStatusEnum.CONCLUIDA, null);
+        } catch (IllegalArgumentException e) {
+            complete(transferId, TransferStatusEnum.REJEITADA, e.getMessage());
+        } catch (Exception e) {
+            log.error("Falha ao processar transferência {}", transferId, e);
+            // O commit pode ter ocorrido antes da falha: só a movimentação gravada confirma o resultado.
+            if (accountMovementExists(transferId)) {
+                complete(transferId, TransferStatusEnum.CONCLUIDA, null);
+            } else {
+                complete(transferId, TransferStatusEnum.FALHA, "Falha ao processar transferência");
+            }
+        }
+    }
+
+    private boolean accountMovementExists(String transferId) {
+        try {
+            return accountMovementRepository.existsById(transferId);
+        } catch (DataAccessException e) {
+            log.error("Falha ao verificar a transferência {}", transferId, e);
+            return false;
+        }
+    }
+
+    private void complete(String transferId, TransferStatusEnum status, String message) {
+        try {
+            saveStatus(transferId, status, message);
+        } catch (DataAccessException e) {
+            log.error("Falha ao registrar o status da transferência {}", transferId, e);
+        }
+        if (isFinal(status)) completedTransfers.put(transferId, new TransferStatusResponse(transferId, status, message));
+        pendingTransfers.remove(transferId);
+    }
+
+    private void saveStatus(String transferId, TransferStatusEnum status, String message) {
+        transferStatusRepository.save(TransferStatus.builder()
+                .id(transferId)
+                .status(status)
+                .message(message)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // FALHA não é final: a movimentação pode ter sido confirmada por um commit cuja resposta se perdeu.
+    private static boolean isFinal(TransferStatusEnum status) {
+        return status == TransferStatusEnum.CONCLUIDA || status == TransferStatusEnum.REJEITADA;
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.TransferStatusResponse;
+
+public interface AsyncTransferServiceInterface {
+    TransferStatusResponse submitTransfer(AccountMovementRequest accountMovementRequest);
+    TransferStatusResponse submitTransfer(AccountMovementRequest accountMovementRequest, String transferId);
+    TransferStatusResponse getTransferStatus(String transferId);
+}
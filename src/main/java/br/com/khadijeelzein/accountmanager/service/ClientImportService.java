@@ -0,0 +1,175 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.ClientImportError;
+import br.com.khadijeelzein.accountmanager.dto.ClientImportResponse;
+import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
+import br.com.khadijeelzein.accountmanager.enums.ImportFormatEnum;
+import br.com.khadijeelzein.accountmanager.mapper.ClientMapper;
+import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.repository.ClientRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ClientImportService implements ClientImportServiceInterface {
+    private static final DateTimeFormatter BIRTHDAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final List<String> CSV_COLUMNS = List.of("cpf", "nome_completo", "data_nascimento");
+
+    private final ClientRepository clientRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public ClientImportService(ClientRepository clientRepository, ObjectMapper objectMapper, Validator validator,
+                               @Value("${accountmanager.client-import.chunk-size:1000}") int chunkSize,
+                               @Value("${accountmanager.client-import.max-reported-errors:1000}") int maxReportedErrors) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Tamanho do lote de importação deve ser maior que 0");
+        this.clientRepository = clientRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ClientImportResponse importClients(InputStream input, ImportFormatEnum format) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        var progress = new ImportProgress();
+        int[] csvColumns = format == ImportFormatEnum.CSV ? readCsvHeader(reader) : null;
+        long lineNbr = csvColumns == null ? 0 : 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNbr++;
+            if (line.isBlank()) continue;
+            ClientRequest clientRequest = null;
+            try {
+                clientRequest = csvColumns == null ? objectMapper.readValue(line, ClientRequest.class)
+                        : parseCsvLine(line, csvColumns);
+                checkClientRequest(clientRequest);
+                progress.chunk.add(ClientMapper.toClient(clientRequest));
+                progress.chunkLines.add(lineNbr);
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                var message = e instanceof JsonProcessingException ? "Linha malformada" : e.getMessage();
+                progress.reject(lineNbr, clientRequest == null ? null : clientRequest.getCpf(), message);
+            }
+            if (progress.chunk.size() >= chunkSize) flush(progress);
+        }
+        flush(progress);
+        log.info("Importação de clientes concluída: {} importados, {} rejeitados", progress.imported, progress.rejected);
+        return new ClientImportResponse(progress.imported, progress.rejected, progress.errors);
+    }
+
+    private void checkClientRequest(ClientRequest clientRequest) {
+        if (clientRequest == null) throw new IllegalArgumentException("Cliente não pode ser nulo");
+        var violations = validator.validate(clientRequest);
+        if (!violations.isEmpty())
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        if (clientRequest.getCpf() == null) throw new IllegalArgumentException("Cpf não pode ser nulo");
+        if (!ClientValidator.isValidBirthday(clientRequest.getBirthday()))
+            throw new IllegalArgumentException("Data de nascimento não pode ser futura");
+    }
+
+    private void flush(ImportProgress progress) {
+        var chunk = progress.chunk;
+        var chunkLines = progress.chunkLines;
+        if (chunk.isEmpty()) return;
+        progress.chunk = new ArrayList<>(chunkSize);
+        progress.chunkLines = new ArrayList<>(chunkSize);
+        var duplicateIndexes = clientRepository.insertIgnoringDuplicates(chunk);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (duplicateIndexes.contains(i))
+                progress.reject(chunkLines.get(i), chunk.get(i).getCpf(), "Cliente já cadastrado previamente");
+            else progress.imported++;
+        }
+    }
+
+    private int[] readCsvHeader(BufferedReader reader) throws IOException {
+        var header = reader.readLine();
+        if (header == null) throw new IllegalArgumentException("Arquivo CSV sem cabeçalho");
+        var columns = splitCsvLine(header.replace("\uFEFF", ""));
+        var indexes = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            indexes[i] = columns.indexOf(CSV_COLUMNS.get(i));
+            if (indexes[i] < 0)
+                throw new IllegalArgumentException("Cabeçalho CSV deve conter as colunas " + String.join(",", CSV_COLUMNS));
+        }
+        return indexes;
+    }
+
+    private ClientRequest parseCsvLine(String line, int[] columns) {
+        var values = splitCsvLine(line);
+        var clientRequest = new ClientRequest();
+        clientRequest.setCpf(column(values, columns[0]));
+        clientRequest.setName(column(values, columns[1]));
+        var birthday = column(values, columns[2]);
+        try {
+            clientRequest.setBirthday(birthday == null || birthday.isBlank() ? null : LocalDate.parse(birthday, BIRTHDAY_FORMAT));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data de nascimento inválida");
+        }
+        return clientRequest;
+    }
+
+    private static String column(List<String> values, int index) {
+        return index < values.size() ? values.get(index) : null;
+    }
+
+    static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        var value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') quoted = false;
+                else value.append(c);
+            } else if (c == '"') quoted = true;
+            else if (c == ',') {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else value.append(c);
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+
+    private class ImportProgress {
+        private long imported;
+        private long rejected;
+        private final List<ClientImportError> errors = new ArrayList<>();
+        private List<Client> chunk = new ArrayList<>(chunkSize);
+        private List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        private void reject(long line, String cpf, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) errors.add(new ClientImportError(line, cpf, message));
+        }
+    }
+}
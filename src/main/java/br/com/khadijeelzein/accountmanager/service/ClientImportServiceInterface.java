@@ -0,0 +1,11 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.ClientImportResponse;
+import br.com.khadijeelzein.accountmanager.enums.ImportFormatEnum;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ClientImportServiceInterface {
+    ClientImportResponse importClients(InputStream input, ImportFormatEnum format) throws IOException;
+}
@@ -2,14 +2,21 @@ package br.com.khadijeelzein.accountmanager.service;
 
 import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
 import br.com.khadijeelzein.accountmanager.mapper.ClientMapper;
+import br.com.khadijeelzein.accountmanager.mapper.CpfMapper;
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 import br.com.khadijeelzein.accountmanager.repository.ClientRepository;
 import jakarta.validation.Valid;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Getter
@@ -24,7 +31,7 @@ public class ClientService implements ClientServiceInterface {
 
     @Override
     public void addClient(@Valid ClientRequest clientRequest) {
-        var isValid = checkValidBirthday(clientRequest.getBirthday());
+        var isValid = ClientValidator.isValidBirthday(clientRequest.getBirthday());
 
         if (isValid) {
             Client client = ClientMapper.toClient(clientRequest);
@@ -36,12 +43,26 @@ public class ClientService implements ClientServiceInterface {
         }
     }
 
-    private boolean checkValidBirthday(LocalDate birthday) {
-        return birthday!=null && birthday.isBefore(LocalDate.now());
+    @Override
+    public boolean existsClient(String cpf){
+        return clientRepository.existsByCpfKey(CpfMapper.toKey(cpf));
     }
 
     @Override
-    public boolean existsClient(String cpf){
-        return clientRepository.existsClientByCpf(cpf.replaceAll("[^0-9]", ""));
+    public Optional<ClientSnapshot> findClientSnapshot(String cpf){
+        return clientRepository.findSnapshotByCpfKey(CpfMapper.toKey(cpf));
+    }
+
+    @Override
+    public Map<Long, ClientSnapshot> findClientSnapshots(Collection<Long> cpfKeys){
+        if(cpfKeys.isEmpty()) return Map.of();
+        return clientRepository.findByCpfKeyIn(Set.copyOf(cpfKeys)).stream()
+                .collect(Collectors.toMap(client -> CpfMapper.toKey(client.getCpf()), Function.identity()));
+    }
+
+    @Override
+    public Optional<Client> resolveClient(ClientSnapshot clientSnapshot){
+        if(clientSnapshot==null || clientSnapshot.getId()==null) return Optional.empty();
+        return clientRepository.findById(clientSnapshot.getId());
     }
 }
@@ -2,7 +2,17 @@ package br.com.khadijeelzein.accountmanager.service;
 
 import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
 
+import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
 public interface ClientServiceInterface {
     void addClient(ClientRequest clientRequest);
     boolean existsClient(String cpf);
+    Optional<ClientSnapshot> findClientSnapshot(String cpf);
+    Map<Long, ClientSnapshot> findClientSnapshots(Collection<Long> cpfKeys);
+    Optional<Client> resolveClient(ClientSnapshot clientSnapshot);
 }
@@ -0,0 +1,9 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import java.time.LocalDate;
+
+public class ClientValidator {
+    public static boolean isValidBirthday(LocalDate birthday) {
+        return birthday!=null && birthday.isBefore(LocalDate.now());
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class HotAccountPolicy {
+    private final Set<Long> hotAccountNbrs;
+    private final int balanceSlots;
+
+    public HotAccountPolicy(@Value("${accountmanager.hot-accounts.account-nbrs:}") Set<Long> hotAccountNbrs,
+                            @Value("${accountmanager.hot-accounts.slots:16}") int balanceSlots) {
+        if (balanceSlots <= 0)
+            throw new IllegalArgumentException("Número de slots de saldo deve ser maior que 0");
+        this.hotAccountNbrs = Set.copyOf(hotAccountNbrs);
+        this.balanceSlots = balanceSlots;
+    }
+
+    public boolean isHot(Long accountNbr) {
+        return hotAccountNbrs.contains(accountNbr);
+    }
+
+    public int nextSlot() {
+        return ThreadLocalRandom.current().nextInt(balanceSlots);
+    }
+}
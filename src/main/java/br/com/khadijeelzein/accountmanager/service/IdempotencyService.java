@@ -0,0 +1,154 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.cache.ExpiringLruCache;
+import br.com.khadijeelzein.accountmanager.enums.IdempotencyStatusEnum;
+import br.com.khadijeelzein.accountmanager.exceptions.IdempotencyConflictException;
+import br.com.khadijeelzein.accountmanager.model.IdempotencyKey;
+import br.com.khadijeelzein.accountmanager.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+@Slf4j
+@Service
+public class IdempotencyService implements IdempotencyServiceInterface {
+    private static final int OPERATION_ID_BYTES = 12;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper canonicalMapper;
+    private final Duration lease;
+    private final ExpiringLruCache<String, IdempotencyKey> completedKeys;
+
+    @Autowired
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository, ObjectMapper objectMapper,
+                              @Value("${accountmanager.idempotency.cache-size:10000}") int cacheSize,
+                              @Value("${accountmanager.idempotency.cache-ttl:10m}") Duration cacheTtl,
+                              @Value("${accountmanager.idempotency.lease:30s}") Duration lease) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.canonicalMapper = objectMapper.copy();
+        this.canonicalMapper.setConfig(canonicalMapper.getSerializationConfig()
+                .with(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+        this.lease = lease;
+        this.completedKeys = new ExpiringLruCache<>(cacheSize, cacheTtl);
+    }
+
+    @Override
+    public void execute(String idempotencyKey, Object request, IdempotentOperation operation) throws Exception {
+        checkIdempotencyKey(idempotencyKey);
+        var requestHash = requestHash(request);
+        var stored = completedKeys.get(idempotencyKey);
+        if (stored == null) {
+            stored = reserve(idempotencyKey, requestHash);
+        }
+        if (stored != null && !replay(stored, requestHash)) {
+            return;
+        }
+        try {
+            operation.run(operationId(idempotencyKey));
+        } catch (DuplicateKeyException ex) {
+            // O _id da movimentação deriva da chave: uma tentativa anterior já foi confirmada.
+            log.info("Idempotency-Key {} já aplicada anteriormente", idempotencyKey);
+        } catch (IllegalArgumentException ex) {
+            complete(idempotencyKey, requestHash, IdempotencyStatusEnum.REJEITADA, ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            // O resultado pode ter sido confirmado; a chave fica reservada e a próxima tentativa reaplica com o mesmo _id.
+            idempotencyKeyRepository.expireLease(idempotencyKey, LocalDateTime.now());
+            throw ex;
+        }
+        complete(idempotencyKey, requestHash, IdempotencyStatusEnum.PROCESSADA, null);
+    }
+
+    @Override
+    public String operationId(String idempotencyKey) {
+        checkIdempotencyKey(idempotencyKey);
+        var digest = sha256(("idempotency-key:" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(Arrays.copyOf(digest, OPERATION_ID_BYTES));
+    }
+
+    private void checkIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > 255) {
+            throw new IllegalArgumentException("Idempotency-Key Inválida");
+        }
+    }
+
+    private String requestHash(Object request) {
+        try {
+            return HexFormat.of().formatHex(sha256(canonicalMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Requisição inválida para Idempotency-Key");
+        }
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IdempotencyKey reserve(String idempotencyKey, String requestHash) {
+        var now = LocalDateTime.now();
+        try {
+            idempotencyKeyRepository.insert(IdempotencyKey.builder()
+                    .id(idempotencyKey)
+                    .requestHash(requestHash)
+                    .status(IdempotencyStatusEnum.EM_PROCESSAMENTO)
+                    .leaseExpiresAt(now.plus(lease))
+                    .createdAt(now)
+                    .build());
+            return null;
+        } catch (DuplicateKeyException ex) {
+            return idempotencyKeyRepository.findById(idempotencyKey)
+                    .orElseThrow(() -> new IdempotencyConflictException("Requisição em processamento"));
+        }
+    }
+
+    // Retorna true quando esta chamada assumiu uma reserva expirada e deve executar a operação.
+    private boolean replay(IdempotencyKey stored, String requestHash) {
+        if (!requestHash.equals(stored.getRequestHash())) {
+            throw new IllegalArgumentException("Idempotency-Key já utilizada em outra requisição");
+        }
+        if (stored.getStatus() == IdempotencyStatusEnum.EM_PROCESSAMENTO) {
+            var now = LocalDateTime.now();
+            if (stored.getLeaseExpiresAt() != null && !stored.getLeaseExpiresAt().isAfter(now)
+                    && idempotencyKeyRepository.acquireExpiredLease(stored.getId(), now, now.plus(lease))) {
+                return true;
+            }
+            throw new IdempotencyConflictException("Requisição em processamento");
+        }
+        completedKeys.put(stored.getId(), stored);
+        if (stored.getStatus() == IdempotencyStatusEnum.REJEITADA) {
+            throw new IllegalArgumentException(stored.getMessage());
+        }
+        return false;
+    }
+
+    private void complete(String idempotencyKey, String requestHash, IdempotencyStatusEnum status, String message) {
+        var completed = IdempotencyKey.builder()
+                .id(idempotencyKey)
+                .requestHash(requestHash)
+                .status(status)
+                .message(message)
+                .createdAt(LocalDateTime.now())
+                .build();
+        idempotencyKeyRepository.save(completed);
+        completedKeys.put(idempotencyKey, completed);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+public interface IdempotencyServiceInterface {
+    void execute(String idempotencyKey, Object request, IdempotentOperation operation) throws Exception;
+
+    String operationId(String idempotencyKey);
+}
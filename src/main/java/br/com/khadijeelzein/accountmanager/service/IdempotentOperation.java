@@ -0,0 +1,6 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+@FunctionalInterface
+public interface IdempotentOperation {
+    void run(String operationId) throws Exception;
+}
@@ -0,0 +1,105 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.concurrency.TransientTransactionRetry;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.mapper.AccountMovementMapper;
+import br.com.khadijeelzein.accountmanager.mapper.LedgerEntryMapper;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveAccountMovementRepository;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveAccountRepository;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveLedgerEntryRepository;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Service
+@Profile("reactive")
+public class ReactiveAccountMovementService implements ReactiveAccountMovementServiceInterface {
+    private final ReactiveAccountMovementRepository accountMovementRepository;
+    private final ReactiveAccountRepository accountRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final ReactiveLedgerEntryRepository ledgerEntryRepository;
+    private final HotAccountPolicy hotAccountPolicy;
+
+    @Autowired
+    public ReactiveAccountMovementService(ReactiveAccountMovementRepository accountMovementRepository,
+                                          ReactiveAccountRepository accountRepository,
+                                          TransactionalOperator transactionalOperator,
+                                          ReactiveLedgerEntryRepository ledgerEntryRepository,
+                                          HotAccountPolicy hotAccountPolicy) {
+        this.accountMovementRepository = accountMovementRepository;
+        this.accountRepository = accountRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.hotAccountPolicy = hotAccountPolicy;
+    }
+
+    @Override
+    public Mono<Void> accountTransfer(AccountMovementRequest accountMovementRequest) {
+        return Mono.fromRunnable(() -> AccountMovementValidator.checkAccountRequest(accountMovementRequest))
+                .then(Mono.defer(() -> transfer(accountMovementRequest)))
+                .retryWhen(Retry.backoff(TransientTransactionRetry.MAX_RETRIES, Duration.ofMillis(10))
+                        .filter(TransientTransactionRetry::isTransient)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Mono<Void> transfer(AccountMovementRequest accountMovementRequest) {
+        var origin = accountMovementRequest.getAccountNbrOrigin();
+        var destination = accountMovementRequest.getAccountNbrDestination();
+        long amount = accountMovementRequest.getAmount();
+        var accountMovement = AccountMovementMapper.toAccountMovement(accountMovementRequest);
+        accountMovement.setId(new ObjectId().toHexString());
+        return debit(origin, amount)
+                .flatMap(debited -> debited ? credit(destination, amount)
+                        : rejectedDebit(origin, destination))
+                .flatMap(credited -> credited ? accountRepository.findBalanceSnapshot(origin, destination)
+                        : Mono.error(new IllegalArgumentException("Contas Inexistente")))
+                .flatMap(snapshot -> ledgerEntryRepository.insert(LedgerEntryMapper.toLedgerEntries(accountMovement,
+                                runningBalance(snapshot, origin), runningBalance(snapshot, destination)))
+                        .then(accountMovementRepository.save(accountMovement)))
+                .as(transactionalOperator::transactional)
+                .then();
+    }
+
+    private Mono<Boolean> debit(Long accountNbr, long amount) {
+        return accountRepository.debitAccountBalance(accountNbr, amount)
+                .flatMap(debited -> debited || !hotAccountPolicy.isHot(accountNbr) ? Mono.just(debited)
+                        : accountRepository.consolidateAccountBalanceSlots(accountNbr)
+                        .flatMap(consolidated -> consolidated > 0
+                                ? accountRepository.debitAccountBalance(accountNbr, amount) : Mono.just(false)));
+    }
+
+    private Mono<Boolean> credit(Long accountNbr, long amount) {
+        if (!hotAccountPolicy.isHot(accountNbr))
+            return accountRepository.creditAccountBalance(accountNbr, amount);
+        return accountRepository.creditAccountBalanceSlot(accountNbr, hotAccountPolicy.nextSlot(), amount)
+                .thenReturn(true);
+    }
+
+    private Long runningBalance(AccountBalanceSnapshot snapshot, Long accountNbr) {
+        return hotAccountPolicy.isHot(accountNbr) ? null : snapshot.getBalance(accountNbr);
+    }
+
+    private Mono<Boolean> rejectedDebit(Long origin, Long destination) {
+        return accountRepository.findBalanceSnapshot(origin, destination)
+                .flatMap(snapshot -> Mono.error(snapshot.existsAll(origin, destination)
+                        ? new IllegalArgumentException("Saldo insuficiente")
+                        : new IllegalArgumentException("Contas Inexistente")));
+    }
+
+    @Override
+    public Flux<AccountMovementResponse> accountTransferHistory(String id, LocalDate startDate, LocalDate endDate) {
+        return Mono.fromCallable(() -> AccountMovementValidator.checkIfDatesAndAccountNumberAreValid(id, startDate, endDate))
+                .thenMany(Flux.defer(() -> ledgerEntryRepository
+                        .findAllByDateAndAccount(startDate, endDate, Long.parseLong(id))));
+    }
+}
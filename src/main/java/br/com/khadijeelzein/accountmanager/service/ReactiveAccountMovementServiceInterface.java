@@ -0,0 +1,14 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface ReactiveAccountMovementServiceInterface {
+    Mono<Void> accountTransfer(AccountMovementRequest accountMovementRequest);
+
+    Flux<AccountMovementResponse> accountTransferHistory(String id, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,61 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.accountnumber.AccountNumberAllocator;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountNbrResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
+import br.com.khadijeelzein.accountmanager.mapper.AccountMapper;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveAccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@Profile("reactive")
+public class ReactiveAccountService implements ReactiveAccountServiceInterface {
+
+    private final ReactiveAccountRepository accountRepository;
+    private final ReactiveClientServiceInterface clientService;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final HotAccountPolicy hotAccountPolicy;
+
+    @Autowired
+    public ReactiveAccountService(ReactiveAccountRepository accountRepository, ReactiveClientServiceInterface clientService,
+                                  AccountNumberAllocator accountNumberAllocator, HotAccountPolicy hotAccountPolicy) {
+        this.accountRepository = accountRepository;
+        this.clientService = clientService;
+        this.accountNumberAllocator = accountNumberAllocator;
+        this.hotAccountPolicy = hotAccountPolicy;
+    }
+
+    @Override
+    public Mono<AccountNbrResponse> createAccount(AccountRequest accountRequest) {
+        return Mono.fromRunnable(() -> AccountValidator.checkAccountType(accountRequest))
+                .then(clientService.findClientSnapshot(accountRequest.getClientCpf()))
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Cliente Inexistente")))
+                .flatMap(client -> {
+                    var account = AccountMapper.toAccount(accountRequest, client);
+                    account.setCurrentBalance(0L);
+                    return Mono.fromCallable(accountNumberAllocator::nextAccountNbr)
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(accountNbr -> {
+                                account.setAccountNbr(accountNbr);
+                                return accountRepository.save(account);
+                            });
+                })
+                .map(account -> new AccountNbrResponse(account.getAccountNbr()));
+    }
+
+    @Override
+    public Mono<AccountBalanceProjection> getAccountBalance(Long accountNbr) {
+        if (accountNbr == null || accountNbr <= 0)
+            return Mono.error(new IllegalArgumentException("Número da conta não pode ser nulo ou menor que 0"));
+        if (!accountNumberAllocator.isWellFormed(accountNbr))
+            return Mono.error(new IllegalArgumentException("Número da conta inválido"));
+        return hotAccountPolicy.isHot(accountNbr)
+                ? accountRepository.findShardedBalanceByAccountNbr(accountNbr)
+                : accountRepository.findCurrentBalanceByAccountNbr(accountNbr);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountNbrResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAccountServiceInterface {
+    Mono<AccountNbrResponse> createAccount(AccountRequest accountRequest);
+    Mono<AccountBalanceProjection> getAccountBalance(Long accountNbr);
+}
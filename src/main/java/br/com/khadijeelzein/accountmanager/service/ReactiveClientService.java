@@ -0,0 +1,43 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
+import br.com.khadijeelzein.accountmanager.mapper.ClientMapper;
+import br.com.khadijeelzein.accountmanager.mapper.CpfMapper;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveClientRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Service
+@Profile("reactive")
+public class ReactiveClientService implements ReactiveClientServiceInterface {
+
+    private final ReactiveClientRepository clientRepository;
+
+    @Autowired
+    public ReactiveClientService(ReactiveClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    @Override
+    public Mono<Void> addClient(ClientRequest clientRequest) {
+        var birthday = clientRequest.getBirthday();
+        if (birthday == null || !birthday.isBefore(LocalDate.now()))
+            return Mono.error(new IllegalArgumentException("Data de nascimento não pode ser futura"));
+        return clientRepository.save(ClientMapper.toClient(clientRequest)).then();
+    }
+
+    @Override
+    public Mono<Boolean> existsClient(String cpf) {
+        return Mono.fromCallable(() -> CpfMapper.toKey(cpf)).flatMap(clientRepository::existsByCpfKey);
+    }
+
+    @Override
+    public Mono<ClientSnapshot> findClientSnapshot(String cpf) {
+        return Mono.fromCallable(() -> CpfMapper.toKey(cpf)).flatMap(clientRepository::findSnapshotByCpfKey);
+    }
+}
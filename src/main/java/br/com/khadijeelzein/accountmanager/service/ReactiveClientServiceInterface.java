@@ -0,0 +1,11 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveClientServiceInterface {
+    Mono<Void> addClient(ClientRequest clientRequest);
+    Mono<Boolean> existsClient(String cpf);
+    Mono<ClientSnapshot> findClientSnapshot(String cpf);
+}
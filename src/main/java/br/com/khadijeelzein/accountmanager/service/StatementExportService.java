@@ -0,0 +1,80 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.enums.ExportFormatEnum;
+import br.com.khadijeelzein.accountmanager.mapper.LedgerEntryMapper;
+import br.com.khadijeelzein.accountmanager.repository.LedgerEntryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Service
+public class StatementExportService implements StatementExportServiceInterface {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final String CSV_HEADER = "conta_origem,conta_destino,valor,tipo,data_hora,saldo_apos";
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final ObjectWriter objectWriter;
+    private final int batchSize;
+    private final int flushRows;
+
+    @Autowired
+    public StatementExportService(LedgerEntryRepository ledgerEntryRepository, ObjectMapper objectMapper,
+                                  @Value("${accountmanager.export.batch-size:1000}") int batchSize,
+                                  @Value("${accountmanager.export.flush-rows:1000}") int flushRows) {
+        if (batchSize <= 0) throw new IllegalArgumentException("Tamanho do lote de exportação deve ser maior que 0");
+        if (flushRows <= 0) throw new IllegalArgumentException("Intervalo de flush da exportação deve ser maior que 0");
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.objectWriter = objectMapper.writerFor(AccountMovementResponse.class);
+        this.batchSize = batchSize;
+        this.flushRows = flushRows;
+    }
+
+    @Override
+    public StreamingResponseBody exportTransferHistory(String id, LocalDate startDate, LocalDate endDate,
+                                                       ExportFormatEnum format) {
+        AccountMovementValidator.checkIfDatesAndAccountNumberAreValid(id, startDate, endDate);
+        var accountNbr = Long.parseLong(id);
+        return outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == ExportFormatEnum.CSV) writer.write(CSV_HEADER + "\n");
+            long rows = 0;
+            try (var ledgerEntries = ledgerEntryRepository.streamByDateAndAccount(startDate, endDate, accountNbr, batchSize)) {
+                var iterator = ledgerEntries.iterator();
+                while (iterator.hasNext()) {
+                    var accountMovementResponse = LedgerEntryMapper.toAccountMovementResponse(iterator.next());
+                    if (format == ExportFormatEnum.CSV) writeCsvLine(writer, accountMovementResponse);
+                    else writer.write(objectWriter.writeValueAsString(accountMovementResponse) + "\n");
+                    if (++rows % flushRows == 0) writer.flush();
+                }
+            }
+            writer.flush();
+            log.info("Extrato da conta {} exportado em {}: {} lançamentos", accountNbr, format.getFormat(), rows);
+        };
+    }
+
+    private void writeCsvLine(Writer writer, AccountMovementResponse accountMovementResponse) throws IOException {
+        writer.write(accountMovementResponse.getAccountOrigin() + ","
+                + accountMovementResponse.getAccountDestination() + ","
+                + BigDecimal.valueOf(accountMovementResponse.getAmount(), 2).toPlainString() + ","
+                + accountMovementResponse.getType() + ","
+                + DATE_TIME_FORMAT.format(accountMovementResponse.getDateTime()) + ","
+                + (accountMovementResponse.getBalanceAfter() == null ? ""
+                        : BigDecimal.valueOf(accountMovementResponse.getBalanceAfter(), 2).toPlainString())
+                + "\n");
+    }
+}
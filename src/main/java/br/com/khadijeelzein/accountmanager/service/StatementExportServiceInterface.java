@@ -0,0 +1,10 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.enums.ExportFormatEnum;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+public interface StatementExportServiceInterface {
+    StreamingResponseBody exportTransferHistory(String id, LocalDate startDate, LocalDate endDate, ExportFormatEnum format);
+}
@@ -0,0 +1,96 @@
+package br.com.khadijeelzein.accountmanager.accountnumber;
+
+import br.com.khadijeelzein.accountmanager.repository.AccountNumberLeaseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountNumberAllocatorTest {
+    @Mock
+    private AccountNumberLeaseRepository leaseRepository;
+
+    @Test
+    public void givenLeasedBlock_whenAllocating_thenHandOutIncreasingNumbersWithCheckDigit() {
+        doReturn(3L).when(leaseRepository).leaseBlock("accountNbr", 3);
+        var allocator = new AccountNumberAllocator(leaseRepository, true, 3, 100000, true);
+        List<Long> accountNbrs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) accountNbrs.add(allocator.nextAccountNbr());
+        assertThat(accountNbrs).containsExactly(CheckDigit.append(100000), CheckDigit.append(100001), CheckDigit.append(100002));
+        assertThat(accountNbrs).allMatch(allocator::isWellFormed);
+        verify(leaseRepository, times(1)).leaseBlock("accountNbr", 3);
+    }
+
+    @Test
+    public void givenExhaustedBlock_whenAllocating_thenLeaseNextBlock() {
+        doReturn(2L, 6L).when(leaseRepository).leaseBlock("accountNbr", 2);
+        var allocator = new AccountNumberAllocator(leaseRepository, true, 2, 100000, false);
+        allocator.nextAccountNbr();
+        allocator.nextAccountNbr();
+        assertThat(allocator.nextAccountNbr()).isEqualTo(CheckDigit.append(100004));
+        verify(leaseRepository, times(2)).leaseBlock("accountNbr", 2);
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenAllocating_thenNeverRepeatNumbers() throws Exception {
+        var leasedUpTo = new long[1];
+        doAnswer(inv -> leasedUpTo[0] += 64).when(leaseRepository).leaseBlock(anyString(), anyInt());
+        var allocator = new AccountNumberAllocator(leaseRepository, true, 64, 100000, true);
+        Set<Long> accountNbrs = ConcurrentHashMap.newKeySet();
+        var executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++)
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) accountNbrs.add(allocator.nextAccountNbr());
+            });
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(accountNbrs).hasSize(8000);
+        verify(leaseRepository, times(125)).leaseBlock("accountNbr", 64);
+    }
+
+    @Test
+    public void givenRandomMode_whenAllocating_thenNeverLease() {
+        var allocator = new AccountNumberAllocator(leaseRepository, false, 1000, 100000, false);
+        assertThat(allocator.nextAccountNbr()).isPositive();
+        verifyNoInteractions(leaseRepository);
+    }
+
+    @Test
+    public void givenDisabledValidation_whenCheckingLegacyNumber_thenAccept() {
+        var allocator = new AccountNumberAllocator(leaseRepository, true, 1000, 100000, false);
+        assertThat(allocator.isWellFormed(CheckDigit.append(123456L) + 1)).isTrue();
+        assertThat(allocator.isWellFormed(0L)).isFalse();
+        assertThat(allocator.isWellFormed(null)).isFalse();
+    }
+
+    @Test
+    public void givenNonPositiveBlockSize_whenCreating_thenThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AccountNumberAllocator(leaseRepository, true, 0, 100000, false));
+    }
+
+    @Test
+    public void givenPartiallyUsedBlock_whenAllocatingInBulk_thenUseRemainderAndLeaseOnce() {
+        doReturn(2L).when(leaseRepository).leaseBlock("accountNbr", 2);
+        doReturn(7L).when(leaseRepository).leaseBlock("accountNbr", 5);
+        var allocator = new AccountNumberAllocator(leaseRepository, true, 2, 100000, false);
+        allocator.nextAccountNbr();
+        assertThat(allocator.nextAccountNbrs(6)).containsExactly(CheckDigit.append(100001), CheckDigit.append(100002),
+                CheckDigit.append(100003), CheckDigit.append(100004), CheckDigit.append(100005), CheckDigit.append(100006));
+        verify(leaseRepository, times(1)).leaseBlock("accountNbr", 5);
+    }
+}
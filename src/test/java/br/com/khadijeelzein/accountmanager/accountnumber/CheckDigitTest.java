@@ -0,0 +1,35 @@
+package br.com.khadijeelzein.accountmanager.accountnumber;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CheckDigitTest {
+
+    @Test
+    public void givenKnownLuhnNumber_whenComputing_thenReturnExpectedDigit() {
+        assertThat(CheckDigit.compute(7992739871L)).isEqualTo(3);
+        assertThat(CheckDigit.append(7992739871L)).isEqualTo(79927398713L);
+    }
+
+    @Test
+    public void givenAppendedNumber_whenValidating_thenAccept() {
+        for (long base = 100000; base < 101000; base++)
+            assertThat(CheckDigit.isValid(CheckDigit.append(base))).isTrue();
+    }
+
+    @Test
+    public void givenSingleDigitOrTranspositionError_whenValidating_thenReject() {
+        long accountNbr = CheckDigit.append(1234567L);
+        assertThat(CheckDigit.isValid(accountNbr + 1)).isFalse();
+        assertThat(CheckDigit.isValid(accountNbr + 100)).isFalse();
+        assertThat(CheckDigit.isValid(Long.parseLong("2134567" + accountNbr % 10))).isFalse();
+        assertThat(CheckDigit.isValid(0L)).isFalse();
+    }
+
+    @Test
+    public void givenNegativeBase_whenComputing_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> CheckDigit.compute(-1L));
+    }
+}
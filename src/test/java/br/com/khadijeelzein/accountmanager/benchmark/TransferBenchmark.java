@@ -0,0 +1,104 @@
+package br.com.khadijeelzein.accountmanager.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TransferBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Uso: TransferBenchmark baseUrl conta1,conta2[,conta3,conta4...] [concorrencia] [requisicoes] [aquecimento]");
+            System.exit(1);
+        }
+        var baseUrl = args[0];
+        var accounts = Arrays.stream(args[1].split(",")).map(String::trim).mapToLong(Long::parseLong).toArray();
+        if (accounts.length < 2 || accounts.length % 2 != 0) {
+            System.err.println("Informe um número par de contas distintas");
+            System.exit(1);
+        }
+        if (Arrays.stream(accounts).distinct().count() != accounts.length) {
+            System.err.println("As contas devem ser distintas para formar pares disjuntos");
+            System.exit(1);
+        }
+        var concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        var requests = args.length > 3 ? Integer.parseInt(args[3]) : 20_000;
+        var warmup = args.length > 4 ? Integer.parseInt(args[4]) : 2_000;
+
+        var client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, concurrency / 10)))
+                .build();
+        var executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            run(client, executor, baseUrl, accounts, concurrency, warmup);
+            var result = run(client, executor, baseUrl, accounts, concurrency, requests);
+            System.out.println(result);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Cada worker usa um par fixo (contas[2k], contas[2k+1]); os pares são disjuntos e distribuídos em rodízio.
+    private static Result run(HttpClient client, ExecutorService executor, String baseUrl, long[] accounts,
+                              int concurrency, int requests) throws InterruptedException {
+        var pairs = accounts.length / 2;
+        var latencies = new long[requests];
+        var next = new AtomicInteger();
+        var errors = new AtomicInteger();
+        var finished = new CountDownLatch(concurrency);
+        var start = System.nanoTime();
+        for (int worker = 0; worker < concurrency; worker++) {
+            var accountA = accounts[2 * (worker % pairs)];
+            var accountB = accounts[2 * (worker % pairs) + 1];
+            executor.execute(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < requests) {
+                    var forward = index % 2 == 0;
+                    var body = "{\"conta_origem\":" + (forward ? accountA : accountB)
+                            + ",\"conta_destino\":" + (forward ? accountB : accountA)
+                            + ",\"valor\":0.01,\"tipo\":\"TRANSFERENCIA\"}";
+                    var request = HttpRequest.newBuilder(URI.create(baseUrl + "/transactions"))
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                    var sent = System.nanoTime();
+                    try {
+                        var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() / 100 != 2) errors.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - sent;
+                }
+                finished.countDown();
+            });
+        }
+        finished.await();
+        var elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(requests, errors.get(), elapsed, latencies);
+    }
+
+    private record Result(int requests, int errors, long elapsedNanos, long[] sortedLatencies) {
+        private double percentileMs(double percentile) {
+            var index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000d;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requisicoes=%d erros=%d vazao=%.1f req/s p50=%.2fms p99=%.2fms max=%.2fms",
+                    requests, errors, requests / (elapsedNanos / 1_000_000_000d),
+                    percentileMs(0.50), percentileMs(0.99), percentileMs(1.0));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.khadijeelzein.accountmanager.cache;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BalanceCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static AccountBalanceProjection balance(long currentBalance) {
+        return new SpelAwareProxyProjectionFactory()
+                .createProjection(AccountBalanceProjection.class, Map.of("currentBalance", currentBalance));
+    }
+
+    private static AccountBalanceProjection balance(String id, long currentBalance) {
+        return new SpelAwareProxyProjectionFactory()
+                .createProjection(AccountBalanceProjection.class, Map.of("id", id, "currentBalance", currentBalance));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("accountmanager.balance.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    public void givenCachedBalance_whenGetting_thenSkipLoaderAndCountHit() {
+        var cache = new BalanceCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        var loads = new AtomicInteger();
+        cache.get(123456L, accountNbr -> {
+            loads.incrementAndGet();
+            return balance(1500L);
+        });
+        var cached = cache.get(123456L, accountNbr -> {
+            loads.incrementAndGet();
+            return balance(0L);
+        });
+        assertEquals(1500L, cached.getCurrentBalance());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, requests("hit"));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    public void givenInvalidatedBalance_whenGetting_thenReload() {
+        var cache = new BalanceCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        cache.get(123456L, accountNbr -> balance(1500L));
+        cache.invalidate(123456L);
+        assertEquals(500L, cache.get(123456L, accountNbr -> balance(500L)).getCurrentBalance());
+    }
+
+    @Test
+    public void givenLoadedDocumentId_whenInvalidatingDocument_thenReloadAccountBalance() {
+        var cache = new BalanceCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        cache.get(123456L, accountNbr -> balance("65f1c0ffee00000000000001", 1500L));
+        cache.invalidateDocument("65f1c0ffee00000000000001");
+        assertEquals(500L, cache.get(123456L, accountNbr -> balance(500L)).getCurrentBalance());
+    }
+
+    @Test
+    public void givenUnknownDocumentId_whenInvalidatingDocument_thenKeepCachedBalances() {
+        var cache = new BalanceCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        cache.get(123456L, accountNbr -> balance("65f1c0ffee00000000000001", 1500L));
+        cache.invalidateDocument("65f1c0ffee00000000000002");
+        assertEquals(1500L, cache.get(123456L, accountNbr -> balance(500L)).getCurrentBalance());
+    }
+
+    @Test
+    public void givenInvalidationDuringLoad_whenGetting_thenDoNotCacheLoadedBalance() {
+        var cache = new BalanceCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        var loaded = cache.get(123456L, accountNbr -> {
+            cache.invalidate(accountNbr);
+            return balance(1500L);
+        });
+        assertEquals(1500L, loaded.getCurrentBalance());
+        assertEquals(500L, cache.get(123456L, accountNbr -> balance(500L)).getCurrentBalance());
+    }
+
+    @Test
+    public void givenMissingAccount_whenGetting_thenDoNotCacheNull() {
+        var cache = new BalanceCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        assertNull(cache.get(123456L, accountNbr -> null));
+        assertEquals(0L, cache.get(123456L, accountNbr -> balance(0L)).getCurrentBalance());
+    }
+
+    @Test
+    public void givenActiveTransaction_whenInvalidatingOnCompletion_thenInvalidateAgainAfterCompletion() {
+        var cache = new BalanceCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateOnCompletion(List.of(123456L));
+            cache.get(123456L, accountNbr -> balance(1500L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(500L, cache.get(123456L, accountNbr -> balance(500L)).getCurrentBalance());
+    }
+
+    @Test
+    public void givenDisabledCache_whenGetting_thenAlwaysLoad() {
+        var cache = new BalanceCache(meterRegistry, false, 100, Duration.ofMinutes(1));
+        var loads = new AtomicInteger();
+        cache.get(123456L, accountNbr -> balance(loads.incrementAndGet()));
+        assertEquals(2L, cache.get(123456L, accountNbr -> balance(loads.incrementAndGet())).getCurrentBalance());
+        assertEquals(0.0, requests("miss"));
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.khadijeelzein.accountmanager.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpiringLruCacheTest {
+
+    @Test
+    public void givenFullCache_whenPutting_thenEvictLeastRecentlyUsed() {
+        var cache = new ExpiringLruCache<String, Integer>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    public void givenExpiredEntry_whenGetting_thenReturnNull() {
+        var now = new AtomicLong();
+        var cache = new ExpiringLruCache<String, Integer>(2, Duration.ofSeconds(1), now::get);
+        cache.put("a", 1);
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        assertEquals(1, cache.get("a"));
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void givenInvalidSize_whenCreating_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringLruCache<String, Integer>(0, Duration.ofSeconds(1)));
+    }
+}
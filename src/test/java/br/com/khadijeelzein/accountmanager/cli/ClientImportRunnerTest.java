@@ -0,0 +1,50 @@
+package br.com.khadijeelzein.accountmanager.cli;
+
+import br.com.khadijeelzein.accountmanager.dto.ClientImportError;
+import br.com.khadijeelzein.accountmanager.dto.ClientImportResponse;
+import br.com.khadijeelzein.accountmanager.enums.ImportFormatEnum;
+import br.com.khadijeelzein.accountmanager.service.ClientImportServiceInterface;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+public class ClientImportRunnerTest {
+    @Mock
+    private ClientImportServiceInterface clientImportService;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void givenAllLinesImported_whenRunning_thenExitWithZero() throws Exception {
+        var file = Files.writeString(directory.resolve("clientes.csv"), "cpf,nome\n");
+        doReturn(new ClientImportResponse(1, 0, List.of()))
+                .when(clientImportService).importClients(any(), eq(ImportFormatEnum.CSV));
+        var runner = new ClientImportRunner(clientImportService, file);
+        runner.run(new DefaultApplicationArguments());
+        assertEquals(0, runner.getExitCode());
+    }
+
+    @Test
+    public void givenRejectedLines_whenRunning_thenExitWithTwo() throws Exception {
+        var file = Files.writeString(directory.resolve("clientes.ndjson"), "{}\n");
+        doReturn(new ClientImportResponse(0, 1, List.of(new ClientImportError(1, "123", "CPF Inválido"))))
+                .when(clientImportService).importClients(any(), eq(ImportFormatEnum.NDJSON));
+        var runner = new ClientImportRunner(clientImportService, file);
+        runner.run(new DefaultApplicationArguments());
+        assertEquals(2, runner.getExitCode());
+    }
+}
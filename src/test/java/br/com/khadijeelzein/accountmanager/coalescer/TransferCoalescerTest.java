@@ -0,0 +1,139 @@
+package br.com.khadijeelzein.accountmanager.coalescer;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.enums.MovementStatusEnum;
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.service.AccountMovementService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferCoalescerTest {
+    @Mock
+    private AccountMovementService accountMovementService;
+
+    private TransferCoalescer transferCoalescer;
+
+    @AfterEach
+    public void tearDown() {
+        if (transferCoalescer != null && transferCoalescer.isRunning()) transferCoalescer.stop();
+    }
+
+    private TransferCoalescer start(int maxBatchSize, Duration window) {
+        transferCoalescer = new TransferCoalescer(accountMovementService, maxBatchSize, window, 1024);
+        transferCoalescer.start();
+        return transferCoalescer;
+    }
+
+    private static AccountMovementRequest request(Long origin, Long destination, long amount) {
+        var request = new AccountMovementRequest();
+        request.setAccountNbrOrigin(origin);
+        request.setAccountNbrDestination(destination);
+        request.setAmount(amount);
+        request.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        return request;
+    }
+
+    private void answerAllProcessed() {
+        doAnswer(invocation -> {
+            List<?> requests = invocation.getArgument(0);
+            return IntStream.range(0, requests.size())
+                    .mapToObj(i -> new AccountMovementBatchResponse(i, MovementStatusEnum.PROCESSADA, null))
+                    .toList();
+        }).when(accountMovementService).accountTransferBatch(anyList(), anyList());
+    }
+
+    @Test
+    public void givenTransfersWithinWindow_whenSubmitting_thenApplyThemAsOneBatch() {
+        answerAllProcessed();
+        start(256, Duration.ofMillis(200));
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            results.add(transferCoalescer.submit(request(123456L, 1234567L, 100L), "m" + i));
+        results.forEach(CompletableFuture::join);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> ids = ArgumentCaptor.forClass(List.class);
+        verify(accountMovementService, times(1)).accountTransferBatch(anyList(), ids.capture());
+        assertThat(ids.getValue()).containsExactly("m0", "m1", "m2", "m3", "m4", "m5", "m6", "m7", "m8", "m9");
+    }
+
+    @Test
+    public void givenMoreTransfersThanMaxBatchSize_whenSubmitting_thenSplitIntoBatches() {
+        answerAllProcessed();
+        start(4, Duration.ofMillis(200));
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            results.add(transferCoalescer.submit(request(123456L, 1234567L, 100L), null));
+        results.forEach(CompletableFuture::join);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AccountMovementRequest>> batches = ArgumentCaptor.forClass(List.class);
+        verify(accountMovementService, atLeast(3)).accountTransferBatch(batches.capture(), anyList());
+        assertThat(batches.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(4));
+        assertThat(batches.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(10);
+    }
+
+    @Test
+    public void givenRejectedItem_whenFlushing_thenFailOnlyThatCaller() {
+        doReturn(List.of(
+                new AccountMovementBatchResponse(0, MovementStatusEnum.PROCESSADA, null),
+                new AccountMovementBatchResponse(1, MovementStatusEnum.REJEITADA, "Saldo insuficiente")))
+                .when(accountMovementService).accountTransferBatch(anyList(), anyList());
+        start(2, Duration.ofMillis(500));
+        var accepted = transferCoalescer.submit(request(123456L, 1234567L, 100L), null);
+        var rejected = transferCoalescer.submit(request(1234567L, 123456L, 100000L), null);
+        accepted.join();
+        var exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertThat(exception.getCause().getMessage()).isEqualTo("Saldo insuficiente");
+    }
+
+    @Test
+    public void givenBatchFailure_whenFlushing_thenFailEveryCallerInBatch() {
+        var failure = new IllegalStateException("Saldos alterados durante o processamento do lote");
+        doThrow(failure).when(accountMovementService).accountTransferBatch(anyList(), anyList());
+        start(2, Duration.ofMillis(500));
+        var first = transferCoalescer.submit(request(123456L, 1234567L, 100L), null);
+        var second = transferCoalescer.submit(request(1234567L, 123456L, 100L), null);
+        assertSame(failure, assertThrows(CompletionException.class, first::join).getCause());
+        assertSame(failure, assertThrows(CompletionException.class, second::join).getCause());
+    }
+
+    @Test
+    public void givenDuplicateKeyFailure_whenFlushing_thenDoNotReportBatchAsAlreadyApplied() {
+        doThrow(new DuplicateKeyException("E11000")).when(accountMovementService).accountTransferBatch(anyList(), anyList());
+        start(2, Duration.ofMillis(500));
+        var duplicate = transferCoalescer.submit(request(123456L, 1234567L, 100L), "a1");
+        var fresh = transferCoalescer.submit(request(1234567L, 123456L, 100L), "a2");
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, duplicate::join).getCause());
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, fresh::join).getCause());
+    }
+
+    @Test
+    public void givenStoppedCoalescer_whenSubmitting_thenThrowException() {
+        transferCoalescer = new TransferCoalescer(accountMovementService, 256, Duration.ofMillis(2), 1024);
+        assertThrows(IllegalStateException.class,
+                () -> transferCoalescer.submit(request(123456L, 1234567L, 100L), null));
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.khadijeelzein.accountmanager.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AccountLockManagerTest {
+
+    @Test
+    public void givenStripesNotPowerOfTwo_whenCreatingLockManager_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new AccountLockManager(10, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    public void givenSameAccount_whenGettingStripe_thenAlwaysSameStripe() {
+        var lockManager = new AccountLockManager(16, new SimpleMeterRegistry());
+        assertEquals(lockManager.stripeOf(123456L), lockManager.stripeOf(123456L));
+        assertThat(lockManager.stripeOf(123456L)).isBetween(0, 15);
+    }
+
+    @Test
+    public void givenAccountsOnSameStripe_whenLocking_thenAcquireStripeOnce() {
+        var lockManager = new AccountLockManager(1, new SimpleMeterRegistry());
+        lockManager.withLocks(123456L, 1234567L, () -> { });
+        assertEquals(1, lockManager.getAcquisitions(0));
+    }
+
+    @Test
+    public void givenConcurrentOppositeTransfers_whenLocking_thenSerializeWithoutDeadlock() throws Exception {
+        var meterRegistry = new SimpleMeterRegistry();
+        var lockManager = new AccountLockManager(64, meterRegistry);
+        var balance = new long[]{0};
+        int iterations = 2_000;
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            final boolean reversed = t % 2 == 0;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    if (reversed) lockManager.withLocks(1234567L, 123456L, () -> balance[0]++);
+                    else lockManager.withLocks(123456L, 1234567L, () -> balance[0]++);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertEquals(4L * iterations, balance[0]);
+        var stripe = lockManager.stripeOf(123456L);
+        assertThat(lockManager.getAcquisitions(stripe)).isEqualTo(4L * iterations);
+        assertThat(meterRegistry.find("accountmanager.lock.contentions").tag("stripe", String.valueOf(stripe))
+                .functionCounter()).isNotNull();
+    }
+
+    @Test
+    public void givenActionThrows_whenLocking_thenReleaseLocks() {
+        var lockManager = new AccountLockManager(16, new SimpleMeterRegistry());
+        assertThrows(IllegalStateException.class, () -> lockManager.withLocks(List.of(123456L, 1234567L), () -> {
+            throw new IllegalStateException();
+        }));
+        lockManager.withLocks(123456L, 1234567L, () -> { });
+        assertThat(lockManager.getContentions(lockManager.stripeOf(123456L))).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.khadijeelzein.accountmanager.concurrency;
+
+import com.mongodb.MongoException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TransientTransactionRetryTest {
+
+    private static RuntimeException transientError() {
+        var writeConflict = new MongoException("WriteConflict");
+        writeConflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        return new UncategorizedMongoDbException("WriteConflict", writeConflict);
+    }
+
+    @Test
+    public void givenTransientErrorThenSuccess_whenExecuting_thenReturnResult() {
+        var attempts = new AtomicInteger();
+        var result = TransientTransactionRetry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) throw transientError();
+            return "ok";
+        });
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void givenPersistentTransientError_whenExecuting_thenThrowAfterMaxRetries() {
+        var attempts = new AtomicInteger();
+        assertThrows(UncategorizedMongoDbException.class, () -> TransientTransactionRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw transientError();
+        }));
+        assertThat(attempts.get()).isEqualTo(TransientTransactionRetry.MAX_RETRIES + 1);
+    }
+
+    @Test
+    public void givenNonTransientError_whenExecuting_thenThrowWithoutRetry() {
+        var attempts = new AtomicInteger();
+        assertThrows(IllegalArgumentException.class, () -> TransientTransactionRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("Saldo insuficiente");
+        }));
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.khadijeelzein.accountmanager.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncTransferConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(AsyncTransferConfig.class);
+
+    @Test
+    public void givenDefaultThreading_whenStarting_thenUseBoundedThreadPool() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(AsyncTaskExecutor.class);
+            var executor = context.getBean(ThreadPoolTaskExecutor.class);
+            assertThat(executor.getMaxPoolSize()).isEqualTo(16);
+            assertThat(executor.getQueueCapacity()).isEqualTo(1000);
+        });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void givenVirtualThreadsEnabled_whenStarting_thenUseVirtualThreadExecutor() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(AsyncTaskExecutor.class);
+            assertThat(context.getBean(SimpleAsyncTaskExecutor.class).getConcurrencyLimit()).isEqualTo(1016);
+        });
+    }
+}
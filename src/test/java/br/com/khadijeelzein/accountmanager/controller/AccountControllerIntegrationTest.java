@@ -5,6 +5,7 @@ import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
 import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
 import br.com.khadijeelzein.accountmanager.model.Account;
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 import br.com.khadijeelzein.accountmanager.repository.AbstractBaseIntegrationTest;
 import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
 import br.com.khadijeelzein.accountmanager.repository.ClientRepository;
@@ -73,6 +74,7 @@ public class AccountControllerIntegrationTest {
         var client = Client.builder()
                 .name("test")
                 .cpf("62368887016")
+                .cpfKey(62368887016L)
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
         clientRepository.save(client);
@@ -117,6 +119,7 @@ public class AccountControllerIntegrationTest {
         var client = Client.builder()
                 .name("test")
                 .cpf(("619.874.460-46").replaceAll("[^0-9]", ""))
+                .cpfKey(61987446046L)
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
         clientRepository.save(client);
@@ -186,10 +189,11 @@ public class AccountControllerIntegrationTest {
     @Test
     public void givenValidAccountNumber_whenGetAccountBalance_thenOk() throws Exception {
         var accountNbr = 123456L;
-        Double accountBalance = 0.0;
+        Long accountBalance = 0L;
         var client = Client.builder()
                 .name("test")
                 .cpf("62368887016")
+                .cpfKey(62368887016L)
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
         clientRepository.save(client);
@@ -198,11 +202,11 @@ public class AccountControllerIntegrationTest {
                 .accountNbr(accountNbr)
                 .currentBalance(accountBalance)
                 .type(TypeEnum.CORRENTE)
-                .client(client)
+                .client(ClientSnapshot.of(client))
                 .build();
         repository.save(account);
         ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
-        Map<String, Double> map = Map.of("currentBalance", accountBalance);
+        Map<String, Long> map = Map.of("currentBalance", accountBalance);
         var projection = factory.createProjection(AccountBalanceProjection.class, map);
         mvc.perform(MockMvcRequestBuilders.get("/accounts/{id}/balance",String.valueOf(accountNbr))
                         .accept(MediaType.parseMediaType("application/json")))
@@ -1,6 +1,7 @@
 package br.com.khadijeelzein.accountmanager.controller;
 
 import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBatchResponse;
 import br.com.khadijeelzein.accountmanager.dto.AccountNbrResponse;
 import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
 import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
@@ -18,8 +19,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import java.util.Map;
+import java.util.List;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 @WebMvcTest(controllers = AccountController.class)
 @AutoConfigureMockMvc
@@ -172,9 +175,9 @@ public class AccountControllerTest {
     @Test
     public void givenValidAccountNumber_whenGetAccountBalance_thenOk() throws Exception {
         var accountNbr = 123456L;
-        Double accountBalance = 0.0;
+        Long accountBalance = 0L;
         ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
-        Map<String, Double> map = Map.of("currentBalance", accountBalance);
+        Map<String, Long> map = Map.of("currentBalance", accountBalance);
         var projection = factory.createProjection(AccountBalanceProjection.class, map);
         doReturn(projection).when(accountService).getAccountBalance(accountNbr);
         mockMvc.perform(MockMvcRequestBuilders.get("/accounts/{id}/balance",String.valueOf(accountNbr))
@@ -198,4 +201,20 @@ public class AccountControllerTest {
                 .andExpect(status().isNotFound());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void givenAccountBatch_whenAddingAccounts_thenCreated() throws Exception {
+        AccountRequest accountRequest = new AccountRequest();
+        accountRequest.setClientCpf("62368887016");
+        accountRequest.setAccountType("CORRENTE");
+        doReturn(List.of(new AccountBatchResponse(0, 1000003L, null)))
+                .when(accountService).createAccounts(List.of(accountRequest));
+        ObjectMapper mapper = new ObjectMapper();
+        mockMvc.perform(MockMvcRequestBuilders.post("/accounts/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(List.of(accountRequest)))
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].numero_conta").value(1000003L));
+    }
+}
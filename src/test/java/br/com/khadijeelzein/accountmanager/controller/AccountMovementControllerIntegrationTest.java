@@ -4,13 +4,16 @@ import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
 import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
 import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
 import br.com.khadijeelzein.accountmanager.mapper.AccountMovementMapper;
+import br.com.khadijeelzein.accountmanager.mapper.LedgerEntryMapper;
 import br.com.khadijeelzein.accountmanager.model.Account;
 import br.com.khadijeelzein.accountmanager.model.AccountMovement;
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 import br.com.khadijeelzein.accountmanager.repository.AbstractBaseIntegrationTest;
 import br.com.khadijeelzein.accountmanager.repository.AccountMovementRepository;
 import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
 import br.com.khadijeelzein.accountmanager.repository.ClientRepository;
+import br.com.khadijeelzein.accountmanager.repository.LedgerEntryRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -29,6 +32,9 @@ import org.testcontainers.junit.jupiter.Container;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @AutoConfigureMockMvc
@@ -48,6 +54,9 @@ public class AccountMovementControllerIntegrationTest {
     @Autowired
     private ClientRepository clientRepository;
 
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
     @Container
     @ServiceConnection
     static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
@@ -66,6 +75,7 @@ public class AccountMovementControllerIntegrationTest {
         repository.deleteAll();
         accountRepository.deleteAll();
         clientRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
     }
 
 
@@ -74,25 +84,26 @@ public class AccountMovementControllerIntegrationTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrOrigin(123456L);
         accountMovementRequest.setAccountNbrDestination(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         var client = Client.builder()
                 .name("test")
                 .cpf("62368887016")
+                .cpfKey(62368887016L)
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
         clientRepository.save(client);
         Account accountOrigin = Account.builder()
                                 .accountNbr(123456L)
-                                .currentBalance(0.0d)
+                                .currentBalance(10000L)
                                 .type(TypeEnum.CORRENTE)
-                                .client(client)
+                                .client(ClientSnapshot.of(client))
                                 .build();
         Account accountDestination = Account.builder()
                 .accountNbr(1234567L)
-                .currentBalance(0.0d)
+                .currentBalance(0L)
                 .type(TypeEnum.CORRENTE)
-                .client(client)
+                .client(ClientSnapshot.of(client))
                 .build();
         accountRepository.save(accountOrigin);
         accountRepository.save(accountDestination);
@@ -106,12 +117,95 @@ public class AccountMovementControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void givenInsufficientBalance_whenAddingAccountMovement_thenBadRequestAndBalancesUnchanged() throws Exception {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrOrigin(123456L);
+        accountMovementRequest.setAccountNbrDestination(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        var client = Client.builder()
+                .name("test")
+                .cpf("62368887016")
+                .cpfKey(62368887016L)
+                .birthday(LocalDate.of(1990, 1, 1))
+                .build();
+        clientRepository.save(client);
+        Account accountOrigin = Account.builder()
+                .accountNbr(123456L)
+                .currentBalance(500L)
+                .type(TypeEnum.CORRENTE)
+                .client(ClientSnapshot.of(client))
+                .build();
+        Account accountDestination = Account.builder()
+                .accountNbr(1234567L)
+                .currentBalance(0L)
+                .type(TypeEnum.CORRENTE)
+                .client(ClientSnapshot.of(client))
+                .build();
+        accountRepository.save(accountOrigin);
+        accountRepository.save(accountDestination);
+        String inputInJson = mapper.writeValueAsString(accountMovementRequest);
+        mvc.perform(MockMvcRequestBuilders.post("/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isBadRequest());
+        assertEquals(500L, accountRepository.findCurrentBalanceByAccountNbr(123456L).getCurrentBalance());
+        assertEquals(0L, accountRepository.findCurrentBalanceByAccountNbr(1234567L).getCurrentBalance());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    public void givenBatch_whenAddingAccountMovementBatch_thenApplyOnlyAcceptedItems() throws Exception {
+        var client = Client.builder()
+                .name("test")
+                .cpf("62368887016")
+                .cpfKey(62368887016L)
+                .birthday(LocalDate.of(1990, 1, 1))
+                .build();
+        clientRepository.save(client);
+        accountRepository.save(Account.builder()
+                .accountNbr(123456L)
+                .currentBalance(1500L)
+                .type(TypeEnum.CORRENTE)
+                .client(ClientSnapshot.of(client))
+                .build());
+        accountRepository.save(Account.builder()
+                .accountNbr(1234567L)
+                .currentBalance(0L)
+                .type(TypeEnum.CORRENTE)
+                .client(ClientSnapshot.of(client))
+                .build());
+        AccountMovementRequest first = new AccountMovementRequest();
+        first.setAccountNbrOrigin(123456L);
+        first.setAccountNbrDestination(1234567L);
+        first.setAmount(1000L);
+        first.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        AccountMovementRequest second = new AccountMovementRequest();
+        second.setAccountNbrOrigin(123456L);
+        second.setAccountNbrDestination(1234567L);
+        second.setAmount(1000L);
+        second.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        String inputInJson = mapper.writeValueAsString(List.of(first, second));
+        mvc.perform(MockMvcRequestBuilders.post("/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("PROCESSADA"))
+                .andExpect(jsonPath("$[1].status").value("REJEITADA"));
+        assertEquals(500L, accountRepository.findCurrentBalanceByAccountNbr(123456L).getCurrentBalance());
+        assertEquals(1000L, accountRepository.findCurrentBalanceByAccountNbr(1234567L).getCurrentBalance());
+        assertEquals(1, repository.count());
+    }
+
     @Test
     public void givenInvalidAccountOrigin_whenAddingAccountMovement_thenThrowException() throws Exception {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(-1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -127,7 +221,7 @@ public class AccountMovementControllerIntegrationTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(-123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -143,7 +237,7 @@ public class AccountMovementControllerIntegrationTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(-10d);
+        accountMovementRequest.setAmount(-1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -160,7 +254,7 @@ public class AccountMovementControllerIntegrationTest {
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
         accountMovementRequest.setType("Inválido");
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
         mvc.perform(MockMvcRequestBuilders.post("/transactions")
@@ -175,7 +269,7 @@ public class AccountMovementControllerIntegrationTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(null);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -191,7 +285,7 @@ public class AccountMovementControllerIntegrationTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(null);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -222,7 +316,7 @@ public class AccountMovementControllerIntegrationTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(null);
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -238,7 +332,7 @@ public class AccountMovementControllerIntegrationTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(1234567L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -254,7 +348,7 @@ public class AccountMovementControllerIntegrationTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         repository.save(AccountMovementMapper.toAccountMovement(accountMovementRequest));
@@ -274,34 +368,33 @@ public class AccountMovementControllerIntegrationTest {
         var client = Client.builder()
                 .name("test")
                 .cpf("62368887016")
+                .cpfKey(62368887016L)
                 .birthday(LocalDate.of(1990, 1, 1))
                 .build();
         clientRepository.save(client);
         Account accountOrigin = Account.builder()
                 .accountNbr(123456L)
-                .currentBalance(0.0d)
+                .currentBalance(0L)
                 .type(TypeEnum.CORRENTE)
-                .client(client)
+                .client(ClientSnapshot.of(client))
                 .build();
         Account accountDestination = Account.builder()
                 .accountNbr(1234567L)
-                .currentBalance(0.0d)
+                .currentBalance(0L)
                 .type(TypeEnum.CORRENTE)
-                .client(client)
+                .client(ClientSnapshot.of(client))
                 .build();
         var accountMovement = AccountMovement.builder()
                 .accountDestination(1234567L)
                 .accountOrigin(123456L)
-                .amount(10d)
+                .amount(1000L)
                 .type(MovementTypeEnum.TRANSFERENCIA)
                 .dateTime(LocalDateTime.now())
                 .build();
         accountRepository.save(accountOrigin);
         accountRepository.save(accountDestination);
-        var pageable= PageRequest.of(0, 10);
         var accountMvmt = repository.save(accountMovement);
-        var accountMovementResponse = repository.
-                findAllByDateAndAccountOriginOrAccountDestination(startDate,endDate,Long.parseLong(accountNbr),pageable);
+        ledgerEntryRepository.insert(LedgerEntryMapper.toLedgerEntries(accountMvmt, null, null));
         mvc.perform(MockMvcRequestBuilders.get("/accounts/{id}/transactions",accountNbr)
                         .param("startDate", startDate.toString())
                         .param("endDate", endDate.toString())
@@ -1,9 +1,21 @@
 package br.com.khadijeelzein.accountmanager.controller;
 
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.enums.ExportFormatEnum;
+import br.com.khadijeelzein.accountmanager.enums.MovementStatusEnum;
 import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.exceptions.IdempotencyConflictException;
+import br.com.khadijeelzein.accountmanager.dto.TransferStatusResponse;
+import br.com.khadijeelzein.accountmanager.enums.TransferStatusEnum;
 import br.com.khadijeelzein.accountmanager.service.AccountMovementService;
+import br.com.khadijeelzein.accountmanager.service.AsyncTransferService;
+import br.com.khadijeelzein.accountmanager.service.IdempotencyService;
+import br.com.khadijeelzein.accountmanager.service.StatementExportService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,15 +23,26 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = AccountMovementController.class)
@@ -31,13 +54,22 @@ public class AccountMovementControllerTest {
     @MockitoBean
     private AccountMovementService accountMovementService;
 
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private AsyncTransferService asyncTransferService;
+
+    @MockitoBean
+    private StatementExportService statementExportService;
+
 
     @Test
     public void givenValidAccountMovementRequest_whenAddingAccountMovement_thenOK() throws Exception {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         doNothing().when(accountMovementService).accountTransfer(accountMovementRequest);
         ObjectMapper mapper = new ObjectMapper();
@@ -49,12 +81,160 @@ public class AccountMovementControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void givenIdempotencyKey_whenAddingAccountMovement_thenExecuteThroughIdempotencyService() throws Exception {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        ObjectMapper mapper = new ObjectMapper();
+        String inputInJson = mapper.writeValueAsString(accountMovementRequest);
+        mockMvc.perform(MockMvcRequestBuilders.post("/transactions")
+                        .header("Idempotency-Key", "abc-123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isOk());
+        verify(idempotencyService).execute(eq("abc-123"), eq(accountMovementRequest), any());
+        verify(accountMovementService, never()).accountTransfer(any());
+    }
+
+    @Test
+    public void givenIdempotencyKeyInProgress_whenAddingAccountMovement_thenConflict() throws Exception {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doThrow(new IdempotencyConflictException("Requisição em processamento"))
+                .when(idempotencyService).execute(eq("abc-123"), eq(accountMovementRequest), any());
+        ObjectMapper mapper = new ObjectMapper();
+        String inputInJson = mapper.writeValueAsString(accountMovementRequest);
+        mockMvc.perform(MockMvcRequestBuilders.post("/transactions")
+                        .header("Idempotency-Key", "abc-123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void givenAsyncRequest_whenAddingAccountMovement_thenAccepted() throws Exception {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(new TransferStatusResponse("65f1c0ffee0000000000abcd", TransferStatusEnum.PENDENTE, null))
+                .when(asyncTransferService).submitTransfer(accountMovementRequest);
+        ObjectMapper mapper = new ObjectMapper();
+        String inputInJson = mapper.writeValueAsString(accountMovementRequest);
+        mockMvc.perform(MockMvcRequestBuilders.post("/transactions")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id_transferencia").value("65f1c0ffee0000000000abcd"))
+                .andExpect(jsonPath("$.status").value("PENDENTE"));
+        verify(accountMovementService, never()).accountTransfer(any());
+    }
+
+    @Test
+    public void givenAsyncRequestWithIdempotencyKey_whenAddingAccountMovement_thenExecuteThroughIdempotencyService() throws Exception {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn("65f1c0ffee0000000000abcd").when(idempotencyService).operationId("abc-123");
+        doReturn(new TransferStatusResponse("65f1c0ffee0000000000abcd", TransferStatusEnum.CONCLUIDA, null))
+                .when(asyncTransferService).getTransferStatus("65f1c0ffee0000000000abcd");
+        ObjectMapper mapper = new ObjectMapper();
+        String inputInJson = mapper.writeValueAsString(accountMovementRequest);
+        mockMvc.perform(MockMvcRequestBuilders.post("/transactions")
+                        .param("async", "true")
+                        .header("Idempotency-Key", "abc-123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id_transferencia").value("65f1c0ffee0000000000abcd"))
+                .andExpect(jsonPath("$.status").value("CONCLUIDA"));
+        verify(idempotencyService).execute(eq("abc-123"), eq(accountMovementRequest), any());
+        verify(asyncTransferService, never()).submitTransfer(any());
+    }
+
+    @Test
+    public void givenFailedAsyncTransfer_whenRepeatingIdempotencyKey_thenResubmitWithSameId() throws Exception {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn("65f1c0ffee0000000000abcd").when(idempotencyService).operationId("abc-123");
+        doReturn(new TransferStatusResponse("65f1c0ffee0000000000abcd", TransferStatusEnum.FALHA, "Falha ao processar transferência"))
+                .when(asyncTransferService).getTransferStatus("65f1c0ffee0000000000abcd");
+        doReturn(new TransferStatusResponse("65f1c0ffee0000000000abcd", TransferStatusEnum.PENDENTE, null))
+                .when(asyncTransferService).submitTransfer(accountMovementRequest, "65f1c0ffee0000000000abcd");
+        ObjectMapper mapper = new ObjectMapper();
+        String inputInJson = mapper.writeValueAsString(accountMovementRequest);
+        mockMvc.perform(MockMvcRequestBuilders.post("/transactions")
+                        .param("async", "true")
+                        .header("Idempotency-Key", "abc-123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDENTE"));
+        verify(asyncTransferService).submitTransfer(accountMovementRequest, "65f1c0ffee0000000000abcd");
+    }
+
+    @Test
+    public void givenFullAsyncQueue_whenAddingAccountMovement_thenServiceUnavailable() throws Exception {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doThrow(new RejectedExecutionException("Fila cheia"))
+                .when(asyncTransferService).submitTransfer(accountMovementRequest);
+        ObjectMapper mapper = new ObjectMapper();
+        String inputInJson = mapper.writeValueAsString(accountMovementRequest);
+        mockMvc.perform(MockMvcRequestBuilders.post("/transactions")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    public void givenKnownTransferId_whenGettingTransferStatus_thenOK() throws Exception {
+        doReturn(new TransferStatusResponse("65f1c0ffee0000000000abcd", TransferStatusEnum.REJEITADA, "Saldo insuficiente"))
+                .when(asyncTransferService).getTransferStatus("65f1c0ffee0000000000abcd");
+        mockMvc.perform(MockMvcRequestBuilders.get("/transactions/{id}/status", "65f1c0ffee0000000000abcd")
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("REJEITADA"))
+                .andExpect(jsonPath("$.mensagem").value("Saldo insuficiente"));
+    }
+
+    @Test
+    public void givenUnknownTransferId_whenGettingTransferStatus_thenNotFound() throws Exception {
+        doReturn(null).when(asyncTransferService).getTransferStatus("65f1c0ffee0000000000abcd");
+        mockMvc.perform(MockMvcRequestBuilders.get("/transactions/{id}/status", "65f1c0ffee0000000000abcd")
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void givenInvalidAccountOrigin_whenAddingAccountMovement_thenThrowException() throws Exception {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(-1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -70,7 +250,7 @@ public class AccountMovementControllerTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(-123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -86,7 +266,7 @@ public class AccountMovementControllerTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(-10d);
+        accountMovementRequest.setAmount(-1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -102,7 +282,7 @@ public class AccountMovementControllerTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(null);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -118,7 +298,7 @@ public class AccountMovementControllerTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(null);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -149,7 +329,7 @@ public class AccountMovementControllerTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(null);
         ObjectMapper mapper = new ObjectMapper();
         String inputInJson = mapper.writeValueAsString(accountMovementRequest);
@@ -165,7 +345,7 @@ public class AccountMovementControllerTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(1234567L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         doThrow(IllegalArgumentException.class).when(accountMovementService).accountTransfer(accountMovementRequest);
         ObjectMapper mapper = new ObjectMapper();
@@ -186,7 +366,7 @@ public class AccountMovementControllerTest {
                 .accountDestination(123456L)
                 .accountOrigin(1234567L)
                 .type(MovementTypeEnum.TRANSFERENCIA.name())
-                .amount(10.0d)
+                .amount(1000L)
                 .dateTime(LocalDateTime.now())
                 .build();
         var accountMovements = List.of(accountMovementResponse);
@@ -217,7 +397,7 @@ public class AccountMovementControllerTest {
     public void givenValidAccountNameTypeRequest_whenAddingAccount_thenOk() throws Exception {
         AccountMovementRequest accountMovement = new AccountMovementRequest();
         accountMovement.setType("Transferência");
-        accountMovement.setAmount(10.0d);
+        accountMovement.setAmount(1000L);
         accountMovement.setAccountNbrDestination(123456L);
         accountMovement.setAccountNbrOrigin(1234567L);
         doNothing().when(accountMovementService).accountTransfer(accountMovement);
@@ -234,7 +414,7 @@ public class AccountMovementControllerTest {
     public void givenValidAccountTypeRequest_whenAddingAccount_thenOk() throws Exception {
         AccountMovementRequest accountMovement = new AccountMovementRequest();
         accountMovement.setType("Transferencia");
-        accountMovement.setAmount(10.0d);
+        accountMovement.setAmount(1000L);
         accountMovement.setAccountNbrDestination(123456L);
         accountMovement.setAccountNbrOrigin(1234567L);
         doNothing().when(accountMovementService).accountTransfer(accountMovement);
@@ -255,7 +435,7 @@ public class AccountMovementControllerTest {
                 .accountDestination(123456L)
                 .accountOrigin(1234567L)
                 .type(MovementTypeEnum.TRANSFERENCIA.name())
-                .amount(10.0d)
+                .amount(1000L)
                 .dateTime(LocalDateTime.now())
                 .build();
         var accountMovements = List.of(accountMovementResponse);
@@ -275,7 +455,7 @@ public class AccountMovementControllerTest {
                 .accountDestination(123456L)
                 .accountOrigin(1234567L)
                 .type(MovementTypeEnum.TRANSFERENCIA.name())
-                .amount(10.0d)
+                .amount(1000L)
                 .dateTime(LocalDateTime.now())
                 .build();
         var accountMovements = List.of(accountMovementResponse);
@@ -309,4 +489,155 @@ public class AccountMovementControllerTest {
                         .accept(MediaType.parseMediaType("application/json")))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenValidBatch_whenAddingAccountMovementBatch_thenOK() throws Exception {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        var batch = List.of(accountMovementRequest);
+        doReturn(List.of(new AccountMovementBatchResponse(0, MovementStatusEnum.PROCESSADA, null)))
+                .when(accountMovementService).accountTransferBatch(batch);
+        ObjectMapper mapper = new ObjectMapper();
+        String inputInJson = mapper.writeValueAsString(batch);
+        mockMvc.perform(MockMvcRequestBuilders.post("/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(inputInJson)
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("PROCESSADA"));
+    }
+
+    @Test
+    public void givenEmptyBatch_whenAddingAccountMovementBatch_thenBadRequest() throws Exception {
+        doThrow(IllegalArgumentException.class).when(accountMovementService).accountTransferBatch(List.of());
+        mockMvc.perform(MockMvcRequestBuilders.post("/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]")
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void givenCursorParameter_whenFindingHistory_thenReturnCursorPage() throws Exception {
+        var accountMovementResponse = AccountMovementResponse.builder()
+                .accountOrigin(123456L)
+                .accountDestination(1234567L)
+                .amount(1000L)
+                .type(MovementTypeEnum.TRANSFERENCIA.name())
+                .dateTime(LocalDateTime.now())
+                .build();
+        doReturn(new AccountMovementCursorPage(List.of(accountMovementResponse), "next-token"))
+                .when(accountMovementService).accountTransferHistory("123456", null, null, "", 50);
+        mockMvc.perform(MockMvcRequestBuilders.get("/accounts/123456/transactions")
+                        .param("cursor", "")
+                        .param("size", "50")
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[0].conta_origem").value(123456L))
+                .andExpect(jsonPath("$.proximo_cursor").value("next-token"));
+        verify(accountMovementService, never()).accountTransferHistory(any(), any(), any(), any());
+    }
+
+    @Test
+    public void givenSliceMode_whenFindingHistory_thenReturnHasNextWithoutTotal() throws Exception {
+        var accountMovementResponse = AccountMovementResponse.builder()
+                .accountOrigin(123456L)
+                .accountDestination(1234567L)
+                .amount(1000L)
+                .type(MovementTypeEnum.TRANSFERENCIA.name())
+                .dateTime(LocalDateTime.now())
+                .build();
+        doReturn(new AccountMovementSlicePage(List.of(accountMovementResponse), 0, 20, true))
+                .when(accountMovementService).accountTransferHistorySlice(eq("123456"), isNull(), isNull(), any());
+        mockMvc.perform(MockMvcRequestBuilders.get("/accounts/123456/transactions")
+                        .param("mode", "slice")
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tem_proxima").value(true))
+                .andExpect(jsonPath("$.total").doesNotExist());
+        verify(accountMovementService, never()).accountTransferHistory(any(), any(), any(), any());
+    }
+
+    @Test
+    public void givenSummaryMode_whenFindingHistory_thenReturnTotalAndSums() throws Exception {
+        var accountMovementResponse = AccountMovementResponse.builder()
+                .accountOrigin(123456L)
+                .accountDestination(1234567L)
+                .amount(1000L)
+                .type(MovementTypeEnum.TRANSFERENCIA.name())
+                .dateTime(LocalDateTime.now())
+                .build();
+        doReturn(new AccountMovementSummaryPage(List.of(accountMovementResponse), 0, 20, 3L, 2550L, 1000L))
+                .when(accountMovementService).accountTransferHistorySummary(eq("123456"), isNull(), isNull(), any());
+        mockMvc.perform(MockMvcRequestBuilders.get("/accounts/123456/transactions")
+                        .param("mode", "summary")
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.total_entradas").value(25.50))
+                .andExpect(jsonPath("$.total_saidas").value(10.00));
+    }
+
+    @Test
+    public void givenEmptySlice_whenFindingHistory_thenNotFound() throws Exception {
+        doReturn(new AccountMovementSlicePage(List.of(), 3, 20, false))
+                .when(accountMovementService).accountTransferHistorySlice(eq("123456"), isNull(), isNull(), any());
+        mockMvc.perform(MockMvcRequestBuilders.get("/accounts/123456/transactions")
+                        .param("mode", "slice")
+                        .param("page", "3"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void givenUnknownMode_whenFindingHistory_thenBadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/accounts/123456/transactions")
+                        .param("mode", "total"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(accountMovementService);
+    }
+
+    @Test
+    public void givenCsvFormat_whenExportingHistory_thenStreamAttachment() throws Exception {
+        StreamingResponseBody body = output -> output.write("conta_origem\n".getBytes(StandardCharsets.UTF_8));
+        doReturn(body).when(statementExportService)
+                .exportTransferHistory("123456", LocalDate.of(2025, 1, 1), null, ExportFormatEnum.CSV);
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/accounts/123456/transactions/export")
+                        .param("startDate", "01/01/2025")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"extrato-123456.csv\""))
+                .andExpect(content().string("conta_origem\n"));
+    }
+
+    @Test
+    public void givenNoFormat_whenExportingHistory_thenDefaultToNdjson() throws Exception {
+        doReturn((StreamingResponseBody) output -> { }).when(statementExportService)
+                .exportTransferHistory("123456", null, null, ExportFormatEnum.NDJSON);
+        mockMvc.perform(MockMvcRequestBuilders.get("/accounts/123456/transactions/export"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"));
+    }
+
+    @Test
+    public void givenUnknownFormat_whenExportingHistory_thenBadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/accounts/123456/transactions/export")
+                        .param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(statementExportService);
+    }
+
+    @Test
+    public void givenInvalidAccount_whenExportingHistory_thenBadRequestBeforeStreaming() throws Exception {
+        doThrow(new IllegalArgumentException("Número de conta deve ser maior que 0")).when(statementExportService)
+                .exportTransferHistory("-1", null, null, ExportFormatEnum.NDJSON);
+        mockMvc.perform(MockMvcRequestBuilders.get("/accounts/-1/transactions/export"))
+                .andExpect(status().isBadRequest());
+    }
+}
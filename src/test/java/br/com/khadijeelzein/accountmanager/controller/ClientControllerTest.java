@@ -1,6 +1,9 @@
 package br.com.khadijeelzein.accountmanager.controller;
 
+import br.com.khadijeelzein.accountmanager.dto.ClientImportResponse;
 import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
+import br.com.khadijeelzein.accountmanager.enums.ImportFormatEnum;
+import br.com.khadijeelzein.accountmanager.service.ClientImportService;
 import br.com.khadijeelzein.accountmanager.service.ClientService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -16,8 +19,13 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ClientController.class)
@@ -29,6 +37,9 @@ public class ClientControllerTest {
     @MockitoBean
     private ClientService clientService;
 
+    @MockitoBean
+    private ClientImportService clientImportService;
+
     @Test
     public void testAddClient() throws Exception {
         ClientRequest clientRequest = new ClientRequest();
@@ -127,4 +138,24 @@ public class ClientControllerTest {
                         .accept(MediaType.parseMediaType("application/json")))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    public void givenCsvBody_whenImportingClients_thenOk() throws Exception {
+        doReturn(new ClientImportResponse(2, 0, List.of()))
+                .when(clientImportService).importClients(any(), eq(ImportFormatEnum.CSV));
+        mockMvc.perform(MockMvcRequestBuilders.post("/clients/import")
+                        .contentType("text/csv")
+                        .content("cpf,nome_completo,data_nascimento\n62368887016,Test,01/04/1996\n")
+                        .accept(MediaType.parseMediaType("application/json")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(2));
+    }
+
+    @Test
+    public void givenJsonBody_whenImportingClients_thenBadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/clients/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
 }
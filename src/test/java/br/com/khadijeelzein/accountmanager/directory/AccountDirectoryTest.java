@@ -0,0 +1,59 @@
+package br.com.khadijeelzein.accountmanager.directory;
+
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountDirectoryTest {
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Test
+    public void givenStoredAccounts_whenLoading_thenBecomeReadyWithEveryAccountNbr() {
+        doReturn(Stream.of(
+                Account.builder().accountNbr(123456L).build(),
+                Account.builder().accountNbr(1234567L).build()))
+                .when(accountRepository).streamBalances();
+        var accountDirectory = new AccountDirectory(accountRepository, true, 16);
+        assertThat(accountDirectory.isReady()).isFalse();
+        accountDirectory.load();
+        assertThat(accountDirectory.isReady()).isTrue();
+        assertThat(accountDirectory.contains(123456L)).isTrue();
+        assertThat(accountDirectory.contains(7654321L)).isFalse();
+        assertThat(accountDirectory.contains(null)).isFalse();
+        assertThat(accountDirectory.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenCreatedAccount_whenAdding_thenContainAccount() {
+        var accountDirectory = new AccountDirectory(accountRepository, true, 16);
+        accountDirectory.add(7654321L);
+        assertThat(accountDirectory.contains(7654321L)).isTrue();
+    }
+
+    @Test
+    public void givenDisabledDirectory_whenAdding_thenIgnoreAccount() {
+        var accountDirectory = new AccountDirectory(accountRepository, false, 16);
+        accountDirectory.add(7654321L);
+        assertThat(accountDirectory.contains(7654321L)).isFalse();
+        assertThat(accountDirectory.isReady()).isFalse();
+    }
+
+    @Test
+    public void givenReadyDirectory_whenMarkedStale_thenNotReady() {
+        doReturn(Stream.empty()).when(accountRepository).streamBalances();
+        var accountDirectory = new AccountDirectory(accountRepository, true, 16);
+        accountDirectory.load();
+        accountDirectory.markStale();
+        assertThat(accountDirectory.isReady()).isFalse();
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.khadijeelzein.accountmanager.directory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LongHashSetTest {
+
+    @Test
+    public void givenAddedKeys_whenCheckingContains_thenFindOnlyAddedKeys() {
+        var set = new LongHashSet(4);
+        assertThat(set.add(123456L)).isTrue();
+        assertThat(set.add(123456L)).isFalse();
+        assertThat(set.contains(123456L)).isTrue();
+        assertThat(set.contains(7654321L)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenManyRandomKeys_whenGrowing_thenKeepEveryKeyAndLoadFactor() {
+        var set = new LongHashSet(16);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            long key = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            expected.add(key);
+            set.add(key);
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(expected).allMatch(set::contains);
+        assertThat(set.size() * 4L).isLessThanOrEqualTo(set.capacity() * 3L);
+    }
+
+    @Test
+    public void givenExpectedSize_whenCreating_thenAvoidRehashUntilExpectedSize() {
+        var set = new LongHashSet(1000);
+        int capacity = set.capacity();
+        for (long key = 1; key <= 1000; key++) set.add(key);
+        assertThat(set.capacity()).isEqualTo(capacity);
+    }
+
+    @Test
+    public void givenNonPositiveKey_whenAdding_thenThrowException() {
+        var set = new LongHashSet(16);
+        assertThrows(IllegalArgumentException.class, () -> set.add(0L));
+        assertThrows(IllegalArgumentException.class, () -> set.add(-1L));
+    }
+}
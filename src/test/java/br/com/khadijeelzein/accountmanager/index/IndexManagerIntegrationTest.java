@@ -0,0 +1,61 @@
+package br.com.khadijeelzein.accountmanager.index;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class IndexManagerIntegrationTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private IndexManager indexManager;
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
+
+    @BeforeAll
+    public static void setUp() {
+        mongoContainer.start();
+    }
+
+    @AfterAll
+    public static void destroy() {
+        mongoContainer.stop();
+    }
+
+    @Test
+    public void givenDroppedIndex_whenEnsuringIndexes_thenReportAndRecreateIt() {
+        indexManager.ensureIndexes();
+        assertThat(indexManager.missingIndexes()).isEmpty();
+
+        mongoTemplate.indexOps("ledger_entry").dropIndex("accountNbr_dateTime_id");
+        assertThat(indexManager.missingIndexes()).extracting(RequiredIndex::name)
+                .containsExactly("accountNbr_dateTime_id");
+
+        indexManager.ensureIndexes();
+        assertThat(indexManager.missingIndexes()).isEmpty();
+    }
+
+    @Test
+    public void givenBalanceIndex_whenReadingBalanceProjection_thenQueryIsCovered() {
+        indexManager.ensureIndexes();
+        var explain = mongoTemplate.getDb().runCommand(new Document("explain", new Document("find", "account")
+                .append("filter", new Document("accountNbr", 123456L))
+                .append("projection", new Document("_id", 0).append("currentBalance", 1))
+                .append("hint", "accountNbr_currentBalance")));
+        var queryPlanner = explain.get("queryPlanner", Document.class);
+        assertThat(queryPlanner.get("winningPlan").toString()).doesNotContain("FETCH").contains("IXSCAN");
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.khadijeelzein.accountmanager.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IndexManagerTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations accountIndexOps;
+
+    @Mock
+    private IndexOperations ledgerEntryIndexOps;
+
+    @Mock
+    private IndexOperations clientIndexOps;
+
+    private IndexManager indexManager;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().doReturn(accountIndexOps).when(mongoTemplate).indexOps("account");
+        lenient().doReturn(ledgerEntryIndexOps).when(mongoTemplate).indexOps("ledger_entry");
+        lenient().doReturn(clientIndexOps).when(mongoTemplate).indexOps("client");
+        indexManager = new IndexManager(mongoTemplate, true, "fail");
+    }
+
+    @Test
+    public void givenSomeIndexesPresent_whenCheckingIndexes_thenReportOnlyMissingOnes() {
+        doReturn(List.of(index("accountNbr", true, "accountNbr"),
+                index("accountNbr_currentBalance", false, "accountNbr", "currentBalance")))
+                .when(accountIndexOps).getIndexInfo();
+        doReturn(List.of(index("by_date", false, "dateTime", "accountNbr", "_id")))
+                .when(ledgerEntryIndexOps).getIndexInfo();
+        doReturn(List.of(index("cpfKey", false, "cpfKey"))).when(clientIndexOps).getIndexInfo();
+        assertThat(indexManager.missingIndexes()).extracting(RequiredIndex::name)
+                .containsExactly("accountNbr_dateTime_id", "cpfKey");
+    }
+
+    @Test
+    public void givenMissingIndexes_whenEnsuringIndexes_thenCreateOnlyMissingOnes() {
+        doReturn(List.of(index("accountNbr", true, "accountNbr"))).when(accountIndexOps).getIndexInfo();
+        doReturn(List.of()).when(ledgerEntryIndexOps).getIndexInfo();
+        doReturn(List.of(sparseIndex("cpfKey", true, "cpfKey"))).when(clientIndexOps).getIndexInfo();
+        indexManager.ensureIndexes();
+        verify(ledgerEntryIndexOps, times(1)).ensureIndex(argThat(index ->
+                !index.getIndexOptions().containsKey("background")));
+        verify(accountIndexOps, times(1)).ensureIndex(argThat(index ->
+                "accountNbr_currentBalance".equals(index.getIndexOptions().get("name"))));
+        verify(clientIndexOps, never()).ensureIndex(any());
+    }
+
+    @Test
+    public void givenNonSparseOrDescendingIndexes_whenCheckingIndexes_thenReportThemAsMissing() {
+        doReturn(List.of(index("accountNbr", true, "accountNbr"),
+                index("accountNbr_currentBalance", false, "accountNbr", "currentBalance")))
+                .when(accountIndexOps).getIndexInfo();
+        doReturn(List.of(new IndexInfo(List.of(IndexField.create("accountNbr", Sort.Direction.ASC),
+                IndexField.create("dateTime", Sort.Direction.DESC), IndexField.create("_id", Sort.Direction.ASC)),
+                "accountNbr_dateTime_id", false, false, null)))
+                .when(ledgerEntryIndexOps).getIndexInfo();
+        doReturn(List.of(index("cpfKey", true, "cpfKey"))).when(clientIndexOps).getIndexInfo();
+        assertThat(indexManager.missingIndexes()).extracting(RequiredIndex::name)
+                .containsExactly("accountNbr_dateTime_id", "cpfKey");
+    }
+
+    @Test
+    public void givenUnknownMissingIndexPolicy_whenCreatingManager_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexManager(mongoTemplate, true, "ignore"));
+    }
+
+    static IndexInfo index(String name, boolean unique, String... fields) {
+        return new IndexInfo(ascending(fields), name, unique, false, null);
+    }
+
+    static IndexInfo sparseIndex(String name, boolean unique, String... fields) {
+        return new IndexInfo(ascending(fields), name, unique, true, null);
+    }
+
+    private static List<IndexField> ascending(String... fields) {
+        return Arrays.stream(fields)
+                .map(field -> IndexField.create(field, Sort.Direction.ASC))
+                .toList();
+    }
+}
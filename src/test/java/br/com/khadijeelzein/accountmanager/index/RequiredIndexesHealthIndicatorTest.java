@@ -0,0 +1,43 @@
+package br.com.khadijeelzein.accountmanager.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RequiredIndexesHealthIndicatorTest {
+    @Mock
+    private IndexManager indexManager;
+
+    @Test
+    public void givenAllIndexesPresent_whenCheckingHealth_thenUp() {
+        doReturn(List.of()).when(indexManager).missingIndexes();
+        var health = new RequiredIndexesHealthIndicator(indexManager).health();
+        assertEquals(Status.UP, health.getStatus());
+    }
+
+    @Test
+    public void givenMissingIndexAndFailPolicy_whenCheckingHealth_thenOutOfService() {
+        doReturn(List.of(IndexManager.REQUIRED_INDEXES.get(0))).when(indexManager).missingIndexes();
+        doReturn(true).when(indexManager).isFailOnMissing();
+        var health = new RequiredIndexesHealthIndicator(indexManager).health();
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(List.of("ledger_entry.accountNbr_dateTime_id"), health.getDetails().get("ausentes"));
+    }
+
+    @Test
+    public void givenMissingIndexAndWarnPolicy_whenCheckingHealth_thenUpWithMissingIndexes() {
+        doReturn(List.of(IndexManager.REQUIRED_INDEXES.get(0))).when(indexManager).missingIndexes();
+        doReturn(false).when(indexManager).isFailOnMissing();
+        var health = new RequiredIndexesHealthIndicator(indexManager).health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(List.of("ledger_entry.accountNbr_dateTime_id"), health.getDetails().get("ausentes"));
+    }
+}
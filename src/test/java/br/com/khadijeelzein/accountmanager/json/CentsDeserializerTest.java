@@ -0,0 +1,43 @@
+package br.com.khadijeelzein.accountmanager.json;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CentsDeserializerTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void givenDecimalAmount_whenDeserializing_thenReturnExactCents() throws Exception {
+        var request = mapper.readValue("{\"valor\": 10.1}", AccountMovementRequest.class);
+        assertEquals(1010L, request.getAmount());
+    }
+
+    @Test
+    public void givenIntegerAndStringAmount_whenDeserializing_thenReturnCents() throws Exception {
+        assertEquals(1000L, mapper.readValue("{\"valor\": 10}", AccountMovementRequest.class).getAmount());
+        assertEquals(1999L, mapper.readValue("{\"valor\": \"19.99\"}", AccountMovementRequest.class).getAmount());
+    }
+
+    @Test
+    public void givenMoreThanTwoDecimals_whenDeserializing_thenThrowException() {
+        assertThrows(InvalidFormatException.class,
+                () -> mapper.readValue("{\"valor\": 10.001}", AccountMovementRequest.class));
+    }
+
+    @Test
+    public void givenInvalidString_whenDeserializing_thenThrowException() {
+        assertThrows(InvalidFormatException.class,
+                () -> mapper.readValue("{\"valor\": \"abc\"}", AccountMovementRequest.class));
+    }
+
+    @Test
+    public void givenCents_whenSerializing_thenWriteReais() throws Exception {
+        var request = new AccountMovementRequest();
+        request.setAmount(1010L);
+        assertTrue(mapper.writeValueAsString(request).contains("\"valor\":10.10"));
+    }
+}
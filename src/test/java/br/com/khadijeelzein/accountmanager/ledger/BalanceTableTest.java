@@ -0,0 +1,43 @@
+package br.com.khadijeelzein.accountmanager.ledger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BalanceTableTest {
+
+    @Test
+    public void givenManyAccounts_whenPutting_thenResizeAndKeepBalances() {
+        var balances = new BalanceTable(4);
+        for (long accountNbr = 1; accountNbr <= 10_000; accountNbr++) {
+            balances.put(accountNbr, accountNbr * 200L);
+        }
+        assertEquals(10_000, balances.size());
+        for (long accountNbr = 1; accountNbr <= 10_000; accountNbr++) {
+            assertEquals(accountNbr * 200L, balances.get(accountNbr));
+        }
+    }
+
+    @Test
+    public void givenLoadedAccount_whenAdding_thenUpdateBalance() {
+        var balances = new BalanceTable(16);
+        balances.put(123456L, 1000L);
+        balances.add(123456L, -400L);
+        assertEquals(600L, balances.get(123456L));
+        assertEquals(1, balances.size());
+    }
+
+    @Test
+    public void givenUnknownAccount_whenReading_thenNotFound() {
+        var balances = new BalanceTable(16);
+        assertFalse(balances.contains(123456L));
+        assertEquals(BalanceTable.MISSING, balances.get(123456L));
+        assertThrows(IllegalArgumentException.class, () -> balances.add(123456L, 100L));
+    }
+
+    @Test
+    public void givenNonPositiveAccountNbr_whenPutting_thenThrowException() {
+        var balances = new BalanceTable(16);
+        assertThrows(IllegalArgumentException.class, () -> balances.put(0L, 100L));
+    }
+}
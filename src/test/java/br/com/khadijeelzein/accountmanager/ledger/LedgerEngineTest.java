@@ -0,0 +1,169 @@
+package br.com.khadijeelzein.accountmanager.ledger;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.LedgerDeadLetter;
+import br.com.khadijeelzein.accountmanager.repository.AccountMovementRepository;
+import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
+import br.com.khadijeelzein.accountmanager.repository.LedgerDeadLetterRepository;
+import br.com.khadijeelzein.accountmanager.repository.LedgerEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LedgerEngineTest {
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountMovementRepository accountMovementRepository;
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private LedgerDeadLetterRepository ledgerDeadLetterRepository;
+
+    private LedgerEngine ledgerEngine;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(Stream.of(
+                Account.builder().accountNbr(123456L).currentBalance(1500L).build(),
+                Account.builder().accountNbr(1234567L).currentBalance(0L).build()))
+                .when(accountRepository).streamBalances();
+        ledgerEngine = new LedgerEngine(accountRepository, accountMovementRepository, ledgerEntryRepository,
+                ledgerDeadLetterRepository, TransactionOperations.withoutTransaction(), 16, 10, 1, 3);
+        ledgerEngine.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (ledgerEngine.isRunning()) ledgerEngine.stop();
+    }
+
+    @Test
+    public void givenValidTransfers_whenSubmitting_thenApplyInMemoryAndWriteBehindLatestBalances() {
+        ledgerEngine.submit(request(123456L, 1234567L, 1000L)).join();
+        var rejected = ledgerEngine.submit(request(123456L, 1234567L, 1000L));
+        var exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertThat(exception.getCause().getMessage()).isEqualTo("Saldo insuficiente");
+        ledgerEngine.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Account>> accounts = ArgumentCaptor.forClass(List.class);
+        verify(accountRepository, atLeastOnce())
+                .updateAccountByAccountNbr(accounts.capture(), eq(BulkOperations.BulkMode.UNORDERED));
+        assertThat(accounts.getValue()).extracting(Account::getCurrentBalance).containsExactly(500L, 1000L);
+        assertThat(accounts.getValue()).extracting(Account::getMovementCount).containsExactly(1L, 1L);
+        verify(accountMovementRepository, atLeastOnce()).upsertAccountMovements(anyList());
+        verify(ledgerEntryRepository, atLeastOnce()).upsertLedgerEntries(anyList());
+        verify(accountRepository, never()).incrementMovementCounts(anyMap());
+    }
+
+    @Test
+    public void givenFailedFlush_whenRetrying_thenWriteSameAbsoluteCounters() {
+        doThrow(new DataAccessResourceFailureException("Erro")).doNothing()
+                .when(accountMovementRepository).upsertAccountMovements(anyList());
+        ledgerEngine.submit(request(123456L, 1234567L, 1000L)).join();
+        ledgerEngine.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Account>> accounts = ArgumentCaptor.forClass(List.class);
+        verify(accountRepository, times(2))
+                .updateAccountByAccountNbr(accounts.capture(), eq(BulkOperations.BulkMode.UNORDERED));
+        assertThat(accounts.getAllValues()).allSatisfy(flushed ->
+                assertThat(flushed).extracting(Account::getMovementCount).containsExactly(1L, 1L));
+        verify(ledgerEntryRepository, times(1)).upsertLedgerEntries(anyList());
+    }
+
+    @Test
+    public void givenNonTransientFlushFailure_whenFlushing_thenDeadLetterBatchAndHaltEngine() {
+        doThrow(new IllegalStateException("Erro")).when(accountMovementRepository).upsertAccountMovements(anyList());
+        ledgerEngine.submit(request(123456L, 1234567L, 1000L)).join();
+
+        verify(ledgerDeadLetterRepository, timeout(5000).times(1)).insert(any(LedgerDeadLetter.class));
+        verify(accountRepository, times(1)).updateAccountByAccountNbr(anyList(), any());
+        assertThat(ledgerEngine.isHalted()).isTrue();
+        assertThat(ledgerEngine.isRunning()).isFalse();
+        assertThrows(IllegalStateException.class, () -> ledgerEngine.submit(request(123456L, 1234567L, 100L)));
+    }
+
+    @Test
+    public void givenTransientFlushFailureBeyondMaxRetries_whenFlushing_thenDeadLetterBatch() {
+        doThrow(new DataAccessResourceFailureException("Erro"))
+                .when(accountMovementRepository).upsertAccountMovements(anyList());
+        ledgerEngine.stop();
+        ledgerEngine = new LedgerEngine(accountRepository, accountMovementRepository, ledgerEntryRepository,
+                ledgerDeadLetterRepository, TransactionOperations.withoutTransaction(), 16, 10, 1, 0);
+        doReturn(Stream.of(Account.builder().accountNbr(123456L).currentBalance(1500L).build(),
+                Account.builder().accountNbr(1234567L).currentBalance(0L).build()))
+                .when(accountRepository).streamBalances();
+        ledgerEngine.start();
+        ledgerEngine.submit(request(123456L, 1234567L, 1000L)).join();
+
+        ArgumentCaptor<LedgerDeadLetter> deadLetter = ArgumentCaptor.forClass(LedgerDeadLetter.class);
+        verify(ledgerDeadLetterRepository, timeout(5000).times(1)).insert(deadLetter.capture());
+        assertThat(deadLetter.getValue().getAccountMovements()).hasSize(1);
+        assertThat(deadLetter.getValue().getAccounts()).extracting(Account::getCurrentBalance).containsExactly(500L, 1000L);
+        assertThat(ledgerEngine.isHalted()).isTrue();
+    }
+
+    @Test
+    public void givenAccountNotLoaded_whenSubmitting_thenLoadFromRepositoryOrReject() {
+        doReturn(List.of(Account.builder().accountNbr(123456L).currentBalance(1500L).build()))
+                .when(accountRepository).findBalancesByAccountNbrIn(List.of(123456L, 7654321L));
+        var rejected = ledgerEngine.submit(request(123456L, 7654321L, 100L));
+        var exception = assertThrows(CompletionException.class, rejected::join);
+        assertThat(exception.getCause().getMessage()).isEqualTo("Contas Inexistente");
+        verify(accountRepository, never()).updateAccountByAccountNbr(anyList(), any());
+    }
+
+    @Test
+    public void givenAccountNotLoaded_whenSubmitting_thenLoadItWithOneSnapshotQuery() {
+        doReturn(List.of(
+                Account.builder().accountNbr(123456L).currentBalance(0L).build(),
+                Account.builder().accountNbr(7654321L).currentBalance(300L).movementCount(4L).build()))
+                .when(accountRepository).findBalancesByAccountNbrIn(List.of(7654321L, 123456L));
+        ledgerEngine.submit(request(7654321L, 123456L, 300L)).join();
+        ledgerEngine.submit(request(123456L, 7654321L, 1800L)).join();
+        verify(accountRepository, times(1)).findBalancesByAccountNbrIn(anyList());
+    }
+
+    @Test
+    public void givenStoppedEngine_whenSubmitting_thenThrowException() {
+        ledgerEngine.stop();
+        assertThrows(IllegalStateException.class, () -> ledgerEngine.submit(request(123456L, 1234567L, 100L)));
+    }
+
+    private AccountMovementRequest request(Long origin, Long destination, Long amount) {
+        var accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrOrigin(origin);
+        accountMovementRequest.setAccountNbrDestination(destination);
+        accountMovementRequest.setAmount(amount);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        return accountMovementRequest;
+    }
+}
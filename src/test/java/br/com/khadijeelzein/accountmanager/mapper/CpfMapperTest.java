@@ -0,0 +1,28 @@
+package br.com.khadijeelzein.accountmanager.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CpfMapperTest {
+
+    @Test
+    public void givenFormattedCpf_whenConvertingToKey_thenIgnoreSeparators() {
+        assertThat(CpfMapper.toKey("817.672.190-59")).isEqualTo(81767219059L);
+        assertThat(CpfMapper.toKey("81767219059")).isEqualTo(81767219059L);
+    }
+
+    @Test
+    public void givenLeadingZeroCpf_whenRoundTripping_thenKeepElevenDigits() {
+        assertThat(CpfMapper.toKey("012.345.678-90")).isEqualTo(1234567890L);
+        assertThat(CpfMapper.toDigits(1234567890L)).isEqualTo("01234567890");
+    }
+
+    @Test
+    public void givenTooManyOrNoDigits_whenConvertingToKey_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> CpfMapper.toKey("817672190590"));
+        assertThrows(IllegalArgumentException.class, () -> CpfMapper.toKey("...-"));
+        assertThrows(IllegalArgumentException.class, () -> CpfMapper.toKey(null));
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.khadijeelzein.accountmanager.mapper;
+
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LedgerEntryMapperTest {
+
+    private final AccountMovement accountMovement = AccountMovement.builder()
+            .id("65f1c0ffee0000000000abcd")
+            .accountOrigin(1234567L)
+            .accountDestination(123456L)
+            .amount(1000L)
+            .type(MovementTypeEnum.TRANSFERENCIA)
+            .dateTime(LocalDateTime.of(2025, 1, 2, 3, 4, 5))
+            .build();
+
+    @Test
+    public void givenAccountMovement_whenMappingToLedgerEntries_thenWriteDebitAndCredit() {
+        var ledgerEntries = LedgerEntryMapper.toLedgerEntries(accountMovement, 500L, 1000L);
+        assertThat(ledgerEntries).extracting("id")
+                .containsExactly("65f1c0ffee0000000000abcd:1234567", "65f1c0ffee0000000000abcd:123456");
+        assertThat(ledgerEntries).extracting("accountNbr").containsExactly(1234567L, 123456L);
+        assertThat(ledgerEntries).extracting("counterparty").containsExactly(123456L, 1234567L);
+        assertThat(ledgerEntries).extracting("amount").containsExactly(-1000L, 1000L);
+        assertThat(ledgerEntries).extracting("balanceAfter").containsExactly(500L, 1000L);
+    }
+
+    @Test
+    public void givenLedgerEntries_whenMappingToResponse_thenRestoreOriginAndDestination() {
+        var ledgerEntries = LedgerEntryMapper.toLedgerEntries(accountMovement, 500L, 1000L);
+        var responses = LedgerEntryMapper.toAccountMovementResponseList(ledgerEntries);
+        responses.forEach(response -> {
+            assertEquals(1234567L, response.getAccountOrigin());
+            assertEquals(123456L, response.getAccountDestination());
+            assertEquals(1000L, response.getAmount());
+            assertEquals(MovementTypeEnum.TRANSFERENCIA.name(), response.getType());
+        });
+        assertThat(responses).extracting("balanceAfter").containsExactly(500L, 1000L);
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ClientSnapshotMigrationIntegrationTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ClientSnapshotMigration clientSnapshotMigration;
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
+
+    @BeforeAll
+    public static void setUp() {
+        mongoContainer.start();
+    }
+
+    @AfterAll
+    public static void destroy() {
+        mongoContainer.stop();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.dropCollection("account");
+        mongoTemplate.dropCollection("client");
+    }
+
+    @Test
+    public void givenLegacyClientReferences_whenMigrating_thenEmbedClientSnapshot() {
+        var clientId = new ObjectId();
+        mongoTemplate.insert(new Document("_id", clientId).append("clientCpf", "62368887016")
+                .append("name", "John Doe").append("birthday", "1996-04-01"), "client");
+        mongoTemplate.insert(new Document("accountNbr", 123456L).append("client", clientId), "account");
+        mongoTemplate.insert(new Document("accountNbr", 1234567L).append("client", new ObjectId()), "account");
+
+        clientSnapshotMigration.run(null);
+        clientSnapshotMigration.run(null);
+
+        var migrated = mongoTemplate.findOne(query(where("accountNbr").is(123456L)), Document.class, "account");
+        var unresolved = mongoTemplate.findOne(query(where("accountNbr").is(1234567L)), Document.class, "account");
+        var client = migrated.get("client", Document.class);
+        assertEquals(clientId, client.get("_id"));
+        assertEquals("62368887016", client.get("cpf"));
+        assertEquals("John Doe", client.get("name"));
+        assertNull(unresolved.get("client"));
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class CpfKeyMigrationIntegrationTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CpfKeyMigration cpfKeyMigration;
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
+
+    @BeforeAll
+    public static void setUp() {
+        mongoContainer.start();
+    }
+
+    @AfterAll
+    public static void destroy() {
+        mongoContainer.stop();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.dropCollection("client");
+    }
+
+    @Test
+    public void givenLegacyClients_whenMigrating_thenFillCpfKeyAndDropLegacyIndex() {
+        mongoTemplate.indexOps("client").ensureIndex(new Index("clientCpf", Sort.Direction.ASC).unique());
+        mongoTemplate.insert(new Document("clientCpf", "01234567890").append("name", "John Doe"), "client");
+        mongoTemplate.insert(new Document("clientCpf", "62368887016").append("cpfKey", 62368887016L), "client");
+
+        cpfKeyMigration.run(null);
+        cpfKeyMigration.run(null);
+
+        var migrated = mongoTemplate.findOne(query(where("clientCpf").is("01234567890")), Document.class, "client");
+        assertEquals(1234567890L, migrated.get("cpfKey"));
+        assertTrue(mongoTemplate.indexOps("client").getIndexInfo().stream()
+                .noneMatch(index -> index.isIndexForFields(List.of("clientCpf"))));
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class LedgerEntryMigrationIntegrationTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private LedgerEntryMigration ledgerEntryMigration;
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
+
+    @BeforeAll
+    public static void setUp() {
+        mongoContainer.start();
+    }
+
+    @AfterAll
+    public static void destroy() {
+        mongoContainer.stop();
+    }
+
+    @BeforeEach
+    public void clearMarker() {
+        mongoTemplate.dropCollection(LedgerEntryMigration.MIGRATION_COLLECTION);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.dropCollection("account");
+        mongoTemplate.dropCollection("account_movement");
+        mongoTemplate.dropCollection("ledger_entry");
+    }
+
+    @Test
+    public void givenLegacyMovements_whenMigrating_thenWriteBothEntriesWithRunningBalances() {
+        var now = LocalDateTime.now();
+        var first = new ObjectId();
+        var second = new ObjectId();
+        mongoTemplate.insert(new Document("accountNbr", 123456L).append("currentBalance", 850L), "account");
+        mongoTemplate.insert(new Document("accountNbr", 7654321L).append("currentBalance", 150L), "account");
+        mongoTemplate.insert(new Document("_id", first).append("accountOrigin", 123456L)
+                .append("accountDestination", 7654321L).append("amount", 200L).append("type", "TRANSFERENCIA")
+                .append("dateTime", now.minusMinutes(2)), "account_movement");
+        mongoTemplate.insert(new Document("_id", second).append("accountOrigin", 7654321L)
+                .append("accountDestination", 123456L).append("amount", 50L).append("type", "TRANSFERENCIA")
+                .append("dateTime", now.minusMinutes(1)), "account_movement");
+
+        ledgerEntryMigration.afterSingletonsInstantiated();
+        ledgerEntryMigration.afterSingletonsInstantiated();
+
+        assertEquals(4L, mongoTemplate.getCollection("ledger_entry").countDocuments());
+        assertEquals(-200L, entry(first, 123456L).get("amount"));
+        assertEquals(800L, entry(first, 123456L).get("balanceAfter"));
+        assertEquals(200L, entry(first, 7654321L).get("balanceAfter"));
+        assertEquals(850L, entry(second, 123456L).get("balanceAfter"));
+        assertEquals(150L, entry(second, 7654321L).get("balanceAfter"));
+    }
+
+    @Test
+    public void givenCompletedMarker_whenMigrating_thenSkipBackfill() {
+        ledgerEntryMigration.afterSingletonsInstantiated();
+        mongoTemplate.insert(new Document("accountNbr", 123456L).append("currentBalance", 850L), "account");
+        mongoTemplate.insert(new Document("_id", new ObjectId()).append("accountOrigin", 123456L)
+                .append("accountDestination", 7654321L).append("amount", 200L).append("type", "TRANSFERENCIA")
+                .append("dateTime", LocalDateTime.now()), "account_movement");
+
+        ledgerEntryMigration.afterSingletonsInstantiated();
+
+        assertEquals(0L, mongoTemplate.getCollection("ledger_entry").countDocuments());
+    }
+
+    private Document entry(ObjectId movementId, Long accountNbr) {
+        return mongoTemplate.findOne(query(where("_id").is(movementId.toHexString() + ":" + accountNbr)),
+                Document.class, "ledger_entry");
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class MoneyCentsMigrationIntegrationTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MoneyCentsMigration moneyCentsMigration;
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
+
+    @BeforeAll
+    public static void setUp() {
+        mongoContainer.start();
+    }
+
+    @AfterAll
+    public static void destroy() {
+        mongoContainer.stop();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.dropCollection("account");
+        mongoTemplate.dropCollection("account_movement");
+    }
+
+    @Test
+    public void givenDoubleValues_whenMigrating_thenConvertToCentsOnlyOnce() {
+        mongoTemplate.insert(new Document("accountNbr", 123456L).append("currentBalance", 10.1d), "account");
+        mongoTemplate.insert(new Document("accountNbr", 1234567L).append("currentBalance", 505L), "account");
+        mongoTemplate.insert(new Document("amount", 0.29d), "account_movement");
+
+        moneyCentsMigration.migrate();
+        moneyCentsMigration.migrate();
+
+        var migrated = mongoTemplate.findOne(
+                query(where("accountNbr").is(123456L)),
+                Document.class, "account");
+        var untouched = mongoTemplate.findOne(
+                query(where("accountNbr").is(1234567L)),
+                Document.class, "account");
+        assertEquals(1010L, migrated.get("currentBalance"));
+        assertEquals(505L, untouched.get("currentBalance"));
+        assertEquals(29L, mongoTemplate.findOne(new Query(),
+                Document.class, "account_movement").get("amount"));
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.khadijeelzein.accountmanager.migration;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class MovementCountMigrationIntegrationTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MovementCountMigration movementCountMigration;
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
+
+    @BeforeAll
+    public static void setUp() {
+        mongoContainer.start();
+    }
+
+    @AfterAll
+    public static void destroy() {
+        mongoContainer.stop();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.dropCollection("account");
+        mongoTemplate.dropCollection("account_movement");
+    }
+
+    @Test
+    public void givenLegacyAccounts_whenMigrating_thenCountMovementsAndKeepExistingCounters() {
+        mongoTemplate.insert(new Document("accountNbr", 123456L).append("currentBalance", 0L), "account");
+        mongoTemplate.insert(new Document("accountNbr", 1234567L).append("currentBalance", 0L), "account");
+        mongoTemplate.insert(new Document("accountNbr", 7654321L).append("movementCount", 10L), "account");
+        mongoTemplate.insert(new Document("accountOrigin", 123456L).append("accountDestination", 7654321L)
+                .append("amount", 100L), "account_movement");
+        mongoTemplate.insert(new Document("accountOrigin", 7654321L).append("accountDestination", 123456L)
+                .append("amount", 50L), "account_movement");
+
+        movementCountMigration.afterSingletonsInstantiated();
+        movementCountMigration.afterSingletonsInstantiated();
+
+        assertEquals(2L, movementCount(123456L));
+        assertEquals(0L, movementCount(1234567L));
+        assertEquals(10L, movementCount(7654321L));
+    }
+
+    private Object movementCount(Long accountNbr) {
+        return mongoTemplate.findOne(query(where("accountNbr").is(accountNbr)), Document.class, "account")
+                .get("movementCount");
+    }
+}
@@ -1,7 +1,9 @@
 package br.com.khadijeelzein.accountmanager.repository;
 import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
 import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.AccountBalanceSlot;
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -9,11 +11,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -25,6 +32,9 @@ public class AccountRepositoryIntegrationTest {
     @Autowired
     private ClientRepository clientRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @Container
     @ServiceConnection
     static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
@@ -43,6 +53,7 @@ public class AccountRepositoryIntegrationTest {
     public void tearDown() {
         accountRepository.deleteAll();
         clientRepository.deleteAll();
+        mongoTemplate.remove(new Query(), AccountBalanceSlot.class);
     }
     @Test
     public void givenAccountRepository_whenSaveAccount_thenOK() {
@@ -55,8 +66,8 @@ public class AccountRepositoryIntegrationTest {
         Account account = Account.builder()
                 .accountNbr(1234567L)
                 .type(TypeEnum.CORRENTE)
-                .currentBalance(0.0d)
-                .client(createdClient)
+                .currentBalance(0L)
+                .client(ClientSnapshot.of(createdClient))
                 .build();
         Account createdAccount = accountRepository.save(account);
         assertNotNull(createdAccount);
@@ -79,8 +90,8 @@ public class AccountRepositoryIntegrationTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
-                .client(client)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(client))
+                .currentBalance(0L)
                 .build();
         var createdClient = clientRepository.save(client);
         var savedAccount = accountRepository.save(account);
@@ -109,13 +120,13 @@ public class AccountRepositoryIntegrationTest {
         Account account = Account.builder()
                 .accountNbr(123456L)
                 .type(TypeEnum.CORRENTE)
-                .currentBalance(0.0d)
-                .client(createdClient)
+                .currentBalance(0L)
+                .client(ClientSnapshot.of(createdClient))
                 .build();
         accountRepository.save(account);
         var returnedProjection = accountRepository.findCurrentBalanceByAccountNbr(accountNbr);
         assertNotNull(returnedProjection);
-        assertEquals(0.0d, returnedProjection.getCurrentBalance());
+        assertEquals(0L, returnedProjection.getCurrentBalance());
     }
 
 
@@ -131,15 +142,15 @@ public class AccountRepositoryIntegrationTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
-                .client(clientResponse)
-                .currentBalance(10.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(1000L)
                 .build();
         var account2 = Account.builder()
                 .accountNbr(1234567L)
                 .id("2a")
                 .type(TypeEnum.CORRENTE)
-                .client(clientResponse)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(0L)
                 .build();
         var accounts = List.of(account1, account2);
         accountRepository.updateAccountByAccountNbr(accounts);
@@ -151,8 +162,113 @@ public class AccountRepositoryIntegrationTest {
                                 account1.getCurrentBalance()));
     }
 
+    @Test
+    public void givenInexistentAccount_whenUpdatingAccountBalance_thenReportUnmatchedAccount() {
+        Client client = clientRepository.save(Client.builder()
+                .cpf("21920373098")
+                .name("John Doe")
+                .birthday(LocalDate.of(1996, 4, 1))
+                .build());
+        accountRepository.save(Account.builder()
+                .accountNbr(123456L)
+                .type(TypeEnum.CORRENTE)
+                .currentBalance(0L)
+                .client(ClientSnapshot.of(client))
+                .build());
+        var accounts = List.of(
+                Account.builder().accountNbr(123456L).currentBalance(1000L).build(),
+                Account.builder().accountNbr(7654321L).currentBalance(2000L).build());
+        var result = accountRepository.updateAccountByAccountNbr(accounts, BulkOperations.BulkMode.UNORDERED);
+        assertEquals(1, result.getMatchedCount());
+        assertEquals(1, result.getModifiedCount());
+        assertEquals(List.of(7654321L), result.getUnmatchedAccountNbrs());
+        assertEquals(1000L, accountRepository.findCurrentBalanceByAccountNbr(123456L).getCurrentBalance());
+    }
+
     @Test
     public void givenNullAccountsList_whenUpdatingAccountBalance_thenThrowException() {
         assertThrows(NullPointerException.class, () ->accountRepository.updateAccountByAccountNbr(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenCreditedBalanceSlots_whenReadingAndConsolidating_thenSumSlotsIntoAccount() {
+        Client client = clientRepository.save(Client.builder()
+                .cpf("21920373098")
+                .name("John Doe")
+                .birthday(LocalDate.of(1996, 4, 1))
+                .build());
+        accountRepository.save(Account.builder()
+                .accountNbr(123456L)
+                .type(TypeEnum.CORRENTE)
+                .currentBalance(1000L)
+                .client(ClientSnapshot.of(client))
+                .build());
+        accountRepository.creditAccountBalanceSlot(123456L, 0, 250L, 1L);
+        accountRepository.creditAccountBalanceSlot(123456L, 3, 500L, 1L);
+        accountRepository.creditAccountBalanceSlot(123456L, 3, 250L, 1L);
+        assertEquals(2000L, accountRepository.findShardedBalanceByAccountNbr(123456L).getCurrentBalance());
+        assertEquals(1000L, accountRepository.findCurrentBalanceByAccountNbr(123456L).getCurrentBalance());
+        assertEquals(List.of(123456L), accountRepository.findAccountNbrsWithBalanceSlots());
+        assertEquals(1000L, accountRepository.consolidateAccountBalanceSlots(123456L));
+        assertEquals(2000L, accountRepository.findCurrentBalanceByAccountNbr(123456L).getCurrentBalance());
+        assertEquals(2000L, accountRepository.findShardedBalanceByAccountNbr(123456L).getCurrentBalance());
+        assertTrue(accountRepository.findAccountNbrsWithBalanceSlots().isEmpty());
+    }
+
+    @Test
+    public void givenInexistentAccount_whenReadingShardedBalance_thenReturnNull() {
+        assertNull(accountRepository.findShardedBalanceByAccountNbr(7654321L));
+    }
+
+    @Test
+    public void givenOneExistingAccount_whenReadingBalanceSnapshot_thenReturnOnlyExistingBalance() {
+        Client client = clientRepository.save(Client.builder()
+                .cpf("21920373098")
+                .name("John Doe")
+                .birthday(LocalDate.of(1996, 4, 1))
+                .build());
+        accountRepository.save(Account.builder()
+                .accountNbr(123456L)
+                .type(TypeEnum.CORRENTE)
+                .currentBalance(1500L)
+                .client(ClientSnapshot.of(client))
+                .build());
+        var snapshot = accountRepository.findBalanceSnapshot(123456L, 7654321L);
+        assertTrue(snapshot.exists(123456L));
+        assertFalse(snapshot.exists(7654321L));
+        assertFalse(snapshot.existsAll(123456L, 7654321L));
+        assertEquals(1500L, snapshot.getBalance(123456L));
+    }
+
+    @Test
+    public void givenTransfersAndSlotCredits_whenReadingMovementCount_thenCountEachMovementOnce() {
+        Client client = clientRepository.save(Client.builder()
+                .cpf("21920373098")
+                .name("John Doe")
+                .birthday(LocalDate.of(1996, 4, 1))
+                .build());
+        accountRepository.saveAll(List.of(
+                Account.builder()
+                        .accountNbr(123456L)
+                        .type(TypeEnum.CORRENTE)
+                        .currentBalance(1000L)
+                        .movementCount(0L)
+                        .client(ClientSnapshot.of(client))
+                        .build(),
+                Account.builder()
+                        .accountNbr(1234567L)
+                        .type(TypeEnum.CORRENTE)
+                        .client(ClientSnapshot.of(client))
+                        .build()));
+        assertEquals(OptionalLong.of(900L), accountRepository.debitAccountBalance(123456L, 100L));
+        assertEquals(OptionalLong.of(1000L), accountRepository.creditAccountBalance(123456L, 100L));
+        assertEquals(OptionalLong.empty(), accountRepository.debitAccountBalance(123456L, 5000L));
+        accountRepository.creditAccountBalanceSlot(123456L, 0, 250L, 1L);
+        accountRepository.creditAccountBalanceSlot(123456L, 1, 250L, 1L);
+        accountRepository.consolidateAccountBalanceSlots(123456L);
+        accountRepository.incrementMovementCounts(Map.of(123456L, 3L));
+        assertEquals(7L, accountRepository.findMovementCount(123456L));
+        assertNull(accountRepository.findMovementCount(1234567L));
+        assertNull(accountRepository.findMovementCount(7654321L));
+    }
+}
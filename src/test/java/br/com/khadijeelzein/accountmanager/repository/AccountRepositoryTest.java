@@ -1,9 +1,11 @@
 package br.com.khadijeelzein.accountmanager.repository;
 
 import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceUpdateResult;
 import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
 import br.com.khadijeelzein.accountmanager.model.Account;
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,16 +38,16 @@ public class AccountRepositoryTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
-                .client(client)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(client))
+                .currentBalance(0L)
                 .build();
         when(accountRepository.save(account)).thenReturn(account);
         var savedAccount = accountRepository.save(account);
         assertNotNull(savedAccount);
         assertEquals(123456L, savedAccount.getAccountNbr());
         assertEquals(TypeEnum.CORRENTE, savedAccount.getType());
-        assertEquals(client, savedAccount.getClient());
-        assertEquals(0.0d, savedAccount.getCurrentBalance());
+        assertEquals(ClientSnapshot.of(client), savedAccount.getClient());
+        assertEquals(0L, savedAccount.getCurrentBalance());
         verify(accountRepository,times(1)).save(account);
     }
 
@@ -56,7 +58,7 @@ public class AccountRepositoryTest {
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
                 .client(null)
-                .currentBalance(0.0d)
+                .currentBalance(0L)
                 .build();
         when(accountRepository.save(account)).thenThrow(ConstraintViolationException.class);
         assertThrows(ConstraintViolationException.class, () -> accountRepository.save(account));
@@ -74,16 +76,16 @@ public class AccountRepositoryTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
-                .client(client)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(client))
+                .currentBalance(0L)
                 .build();
         when(accountRepository.save(account)).thenReturn(account);
         var savedAccount = accountRepository.save(account);
         assertNotNull(savedAccount);
         assertEquals(123456L, savedAccount.getAccountNbr());
         assertEquals(TypeEnum.CORRENTE, savedAccount.getType());
-        assertEquals(client, savedAccount.getClient());
-        assertEquals(0.0d, savedAccount.getCurrentBalance());
+        assertEquals(ClientSnapshot.of(client), savedAccount.getClient());
+        assertEquals(0L, savedAccount.getCurrentBalance());
         verify(accountRepository,times(1)).save(account);
     }
 
@@ -99,8 +101,8 @@ public class AccountRepositoryTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(null)
-                .client(client)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(client))
+                .currentBalance(0L)
                 .build();
         when(accountRepository.save(account)).thenThrow(ConstraintViolationException.class);
         assertThrows(ConstraintViolationException.class, () -> accountRepository.save(account));
@@ -118,8 +120,8 @@ public class AccountRepositoryTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(null)
-                .client(client)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(client))
+                .currentBalance(0L)
                 .build();
         when(accountRepository.save(account)).thenThrow(ConstraintViolationException.class);
         assertThrows(ConstraintViolationException.class, () -> accountRepository.save(account));
@@ -133,14 +135,14 @@ public class AccountRepositoryTest {
     @Test
     public void givenValidAccountNumber_whenGetAccountBalance_thenCallRepository() {
         var accountNbr = 123456L;
-        Double accountBalance = 0.0;
+        Long accountBalance = 0L;
         ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
-        Map<String, Double> map = Map.of("currentBalance", accountBalance);
+        Map<String, Long> map = Map.of("currentBalance", accountBalance);
         var projection = factory.createProjection(AccountBalanceProjection.class, map);
         when(accountRepository.findCurrentBalanceByAccountNbr(accountNbr)).thenReturn(projection);
         var returnedProjection = accountRepository.findCurrentBalanceByAccountNbr(accountNbr);
         assertNotNull(returnedProjection);
-        assertEquals(0.0d, returnedProjection.getCurrentBalance());
+        assertEquals(0L, returnedProjection.getCurrentBalance());
         verify(accountRepository,times(1)).findCurrentBalanceByAccountNbr(accountNbr);
     }
 
@@ -162,19 +164,21 @@ public class AccountRepositoryTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
-                .client(clientResponse)
-                .currentBalance(10.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(1000L)
                 .build();
         var account2 = Account.builder()
                 .accountNbr(1234567L)
                 .id("2a")
                 .type(TypeEnum.CORRENTE)
-                .client(clientResponse)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(0L)
                 .build();
         var accounts = List.of(account1, account2);
-        doNothing().when(accountRepository).updateAccountByAccountNbr(accounts);
-        accountRepository.updateAccountByAccountNbr(accounts);
+        var updateResult = new AccountBalanceUpdateResult(2, 2, List.of());
+        doReturn(updateResult).when(accountRepository).updateAccountByAccountNbr(accounts);
+        var result = accountRepository.updateAccountByAccountNbr(accounts);
+        assertEquals(2, result.getMatchedCount());
         verify(accountRepository, times(1)).updateAccountByAccountNbr(accounts);
     }
 
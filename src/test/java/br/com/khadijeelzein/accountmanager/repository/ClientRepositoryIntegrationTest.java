@@ -13,6 +13,8 @@ import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -44,6 +46,7 @@ public class ClientRepositoryIntegrationTest  {
     public void givenClientRepository_whenSaveClient_thenOK() {
         Client client = Client.builder()
                 .cpf("21920373098")
+                .cpfKey(21920373098L)
                 .name("John Doe")
                 .birthday(LocalDate.of(1996,4,1))
                 .build();
@@ -60,11 +63,13 @@ public class ClientRepositoryIntegrationTest  {
     public void givenClientCpfIsDuplicated_thenThrowException() {
         Client client1 = Client.builder()
                 .cpf("21920373098")
+                .cpfKey(21920373098L)
                 .name("John Doe")
                 .birthday(LocalDate.of(1996,4,1))
                 .build();
         Client client2 = Client.builder()
                 .cpf("21920373098")
+                .cpfKey(21920373098L)
                 .name("Jane Doe")
                 .birthday(LocalDate.of(1996,4,1))
                 .build();
@@ -72,4 +77,14 @@ public class ClientRepositoryIntegrationTest  {
         assertThrows(DuplicateKeyException.class, () -> clientRepository.save(client2));
     }
 
+    @Test
+    public void givenChunkWithDuplicatedCpfs_whenInsertingIgnoringDuplicates_thenInsertOthersAndReturnDuplicateIndexes() {
+        clientRepository.save(Client.builder().cpf("21920373098").cpfKey(21920373098L).name("John Doe").birthday(LocalDate.of(1996,4,1)).build());
+        var duplicateIndexes = clientRepository.insertIgnoringDuplicates(List.of(
+                Client.builder().cpf("21920373098").cpfKey(21920373098L).name("John Doe").birthday(LocalDate.of(1996,4,1)).build(),
+                Client.builder().cpf("62368887016").cpfKey(62368887016L).name("Jane Doe").birthday(LocalDate.of(1990,5,2)).build(),
+                Client.builder().cpf("62368887016").cpfKey(62368887016L).name("Jane Doe").birthday(LocalDate.of(1990,5,2)).build()));
+        assertEquals(Set.of(0, 2), duplicateIndexes);
+        assertEquals(2, clientRepository.count());
+    }
 }
@@ -0,0 +1,268 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.AccountmanagerApplication;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursor;
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.mapper.LedgerEntryMapper;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class LedgerEntryRepositoryIntegrationTest {
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoContainer = new MongoDBContainer("mongo:latest");
+
+    @BeforeAll
+    public static void setUp() {
+        mongoContainer.start();
+    }
+
+    @AfterAll
+    public static void destroy() {
+        mongoContainer.stop();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ledgerEntryRepository.deleteAll();
+    }
+
+    @Test
+    public void givenValidAccountMovementRequest_whenFindingAccountMovementHistory_thenReturnAccount() {
+        var accountNbr = String.valueOf(123456L);
+        var startDate = LocalDate.now().minusDays(1);
+        var endDate = LocalDate.now().plusDays(1);
+        var accountMovement = AccountMovement.builder()
+                .accountOrigin(Long.parseLong(accountNbr))
+                .accountDestination(1234567L)
+                .amount(1000L)
+                .id(new ObjectId().toHexString())
+                .type(MovementTypeEnum.TRANSFERENCIA)
+                .dateTime(LocalDateTime.now())
+                .build();
+        var accountMovementResponse = post(accountMovement);
+        var accountMovements = List.of(accountMovementResponse);
+        var pageable = PageRequest.of(0, 10);
+        var response = ledgerEntryRepository.findAllByDateAndAccount(
+                startDate,
+                endDate,
+                Long.parseLong(accountNbr),
+                pageable);
+        assertThat(response).isNotNull();
+        assertThat(response.getNumberOfElements()).isEqualTo(1);
+        assertEquals(accountMovements.get(0).getAccountOrigin(),response.getContent().get(0).getAccountOrigin());
+        assertEquals(accountMovements.get(0).getAccountDestination(),response.getContent().get(0).getAccountDestination());
+        assertEquals(accountMovements.get(0).getAmount(),response.getContent().get(0).getAmount());
+        assertEquals(accountMovements.get(0).getType().name(),response.getContent().get(0).getType());
+    }
+
+    @Test
+    public void givenInvalidAccountNbr_whenFindingAccountMovementHistory_thenThrowsException() {
+        var accountNbr = "abcdefghij";
+        var startDate = LocalDate.now().minusDays(1);
+        var endDate = LocalDate.now().plusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        assertThrows(IllegalArgumentException.class, () ->
+                ledgerEntryRepository.findAllByDateAndAccount(
+                        startDate,
+                        endDate,
+                        Long.parseLong(accountNbr),
+                        pageable));
+    }
+
+    @Test
+    public void givenInvalidDates_whenFindingAccountMovementHistory_thenThrowsException() {
+        var accountNbr = String.valueOf(123456L);
+        var startDate = LocalDate.now().plusDays(1);
+        var endDate = LocalDate.now().minusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        assertThrows(IllegalArgumentException.class, () ->
+                ledgerEntryRepository.findAllByDateAndAccount(
+                        startDate,
+                        endDate,
+                        Long.parseLong(accountNbr),
+                        pageable));
+    }
+    @Test
+    public void givenNullAccountNbr_whenFindingAccountMovementHistory_thenThrowsException() {
+        var startDate = LocalDate.now().minusDays(1);
+        var endDate = LocalDate.now().plusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        assertThrows(IllegalArgumentException.class, () ->
+                ledgerEntryRepository.findAllByDateAndAccount(
+                        startDate,
+                        endDate,
+                        Long.parseLong(null),
+                        pageable));
+    }
+
+    @Test
+    public void givenStartDateNull_whenFindingAccountMovementHistory_thenReturnAccount() {
+        var accountNbr = String.valueOf(123456L);
+        var endDate = LocalDate.now().plusDays(1);
+        var accountMovementRequest = AccountMovement.builder()
+                .accountOrigin(Long.parseLong(accountNbr))
+                .accountDestination(1234567L)
+                .amount(1000L)
+                .id(new ObjectId().toHexString())
+                .type(MovementTypeEnum.TRANSFERENCIA)
+                .dateTime(LocalDateTime.now())
+                .build();
+        var accountMovement = post(accountMovementRequest);
+        var accountMovements = List.of(accountMovement);
+        var pageable = PageRequest.of(0, 10);
+        var response = ledgerEntryRepository.findAllByDateAndAccount(
+                null,
+                endDate,
+                Long.parseLong(accountNbr),
+                pageable);
+        assertThat(response).isNotNull();
+        assertThat(response.getNumberOfElements()).isEqualTo(1);
+        assertEquals(accountMovements.get(0).getAccountOrigin(),response.getContent().get(0).getAccountOrigin());
+        assertEquals(accountMovements.get(0).getAccountDestination(),response.getContent().get(0).getAccountDestination());
+        assertEquals(accountMovements.get(0).getAmount(),response.getContent().get(0).getAmount());
+        assertEquals(accountMovements.get(0).getType().name(),response.getContent().get(0).getType());
+    }
+    @Test
+    public void givenEndDateNull_whenFindingAccountMovementHistory_thenReturnAccount() {
+        var accountNbr = String.valueOf(123456L);
+        var startDate = LocalDate.now().minusDays(1);
+        var accountMovementRequest = AccountMovement.builder()
+                .accountOrigin(Long.parseLong(accountNbr))
+                .accountDestination(1234567L)
+                .amount(1000L)
+                .id(new ObjectId().toHexString())
+                .type(MovementTypeEnum.TRANSFERENCIA)
+                .dateTime(LocalDateTime.now())
+                .build();
+        var accountMovement = post(accountMovementRequest);
+        var accountMovements = List.of(accountMovement);
+        var pageable = PageRequest.of(0, 10);
+        var response = ledgerEntryRepository.findAllByDateAndAccount(
+                startDate,
+                null,
+                Long.parseLong(accountNbr),
+                pageable);
+        assertThat(response).isNotNull();
+        assertThat(response.getNumberOfElements()).isEqualTo(1);
+        assertEquals(accountMovements.get(0).getAccountOrigin(),response.getContent().get(0).getAccountOrigin());
+        assertEquals(accountMovements.get(0).getAccountDestination(),response.getContent().get(0).getAccountDestination());
+        assertEquals(accountMovements.get(0).getAmount(),response.getContent().get(0).getAmount());
+        assertEquals(accountMovements.get(0).getType().name(),response.getContent().get(0).getType());
+    }
+
+    @Test
+    public void givenStartDateAfterToday_whenFindingAccountMovementHistory_thenReturnAccount() {
+        var accountNbr = 123456L;
+        var endDate = LocalDate.now().plusDays(2);
+        var startDate = LocalDate.now().plusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        assertThrows(IllegalArgumentException.class,
+                () -> ledgerEntryRepository.
+                        findAllByDateAndAccount(startDate,endDate,accountNbr,pageable));
+    }
+
+    @Test
+    public void givenLongHistory_whenPagingByCursor_thenVisitEveryMovementOnceInOrder() {
+        List<AccountMovement> accountMovements = new ArrayList<>();
+        for (int i = 0; i < 25; i++)
+            accountMovements.add(AccountMovement.builder()
+                    .accountOrigin(i % 2 == 0 ? 123456L : 1234567L)
+                    .accountDestination(i % 2 == 0 ? 1234567L : 123456L)
+                    .amount(i)
+                    .id(new ObjectId().toHexString())
+                    .type(MovementTypeEnum.TRANSFERENCIA)
+                    .build());
+        accountMovements.forEach(this::post);
+        List<Long> amounts = new ArrayList<>();
+        AccountMovementCursor cursor = null;
+        int pages = 0;
+        do {
+            var page = ledgerEntryRepository.findAllByDateAndAccountAfter(
+                    null, null, 123456L, cursor, 10);
+            page.getContent().forEach(response -> amounts.add(response.getAmount()));
+            cursor = page.getNextCursor() == null ? null : AccountMovementCursor.decode(page.getNextCursor());
+            pages++;
+        } while (cursor != null);
+        assertEquals(3, pages);
+        assertThat(amounts).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void givenMovements_whenFindingSliceAndSummary_thenSkipCountAndSumBothDirections() {
+        Stream.of(
+                AccountMovement.builder().accountOrigin(123456L).accountDestination(1234567L)
+                        .amount(1000L).id(new ObjectId().toHexString()).type(MovementTypeEnum.TRANSFERENCIA).build(),
+                AccountMovement.builder().accountOrigin(1234567L).accountDestination(123456L)
+                        .amount(250L).id(new ObjectId().toHexString()).type(MovementTypeEnum.TRANSFERENCIA).build(),
+                AccountMovement.builder().accountOrigin(1234567L).accountDestination(123456L)
+                        .amount(300L).id(new ObjectId().toHexString()).type(MovementTypeEnum.TRANSFERENCIA).build(),
+                AccountMovement.builder().accountOrigin(1234567L).accountDestination(7654321L)
+                        .amount(5000L).id(new ObjectId().toHexString()).type(MovementTypeEnum.TRANSFERENCIA).build())
+                .forEach(this::post);
+        var pageable = PageRequest.of(0, 2, Sort.by("dateTime", "_id"));
+
+        var firstSlice = ledgerEntryRepository.findSliceByDateAndAccount(
+                null, null, 123456L, pageable);
+        var lastSlice = ledgerEntryRepository.findSliceByDateAndAccount(
+                null, null, 123456L, pageable.next());
+        assertThat(firstSlice.getContent()).hasSize(2);
+        assertTrue(firstSlice.isHasNext());
+        assertThat(lastSlice.getContent()).hasSize(1);
+        assertFalse(lastSlice.isHasNext());
+
+        var summary = ledgerEntryRepository.findSummaryByDateAndAccount(
+                null, null, 123456L, pageable);
+        assertThat(summary.getContent()).hasSize(2);
+        assertEquals(3L, summary.getTotalElements());
+        assertEquals(550L, summary.getIncoming());
+        assertEquals(1000L, summary.getOutgoing());
+    }
+
+    @Test
+    public void givenLongHistory_whenStreaming_thenVisitEveryEntryOnceInStatementOrder() {
+        for (int i = 0; i < 25; i++)
+            post(AccountMovement.builder()
+                    .accountOrigin(i % 2 == 0 ? 123456L : 1234567L)
+                    .accountDestination(i % 2 == 0 ? 1234567L : 123456L)
+                    .amount(i)
+                    .id(new ObjectId().toHexString())
+                    .type(MovementTypeEnum.TRANSFERENCIA)
+                    .dateTime(LocalDateTime.now().minusMinutes(25 - i))
+                    .build());
+        try (var ledgerEntries = ledgerEntryRepository.streamByDateAndAccount(null, null, 123456L, 10)) {
+            var entries = ledgerEntries.toList();
+            assertThat(entries).hasSize(25);
+            assertThat(entries).extracting(LedgerEntry::getDateTime).isSorted();
+            assertThat(entries).extracting(LedgerEntry::getAccountNbr).containsOnly(123456L);
+        }
+    }
+
+    private AccountMovement post(AccountMovement accountMovement) {
+        ledgerEntryRepository.insert(LedgerEntryMapper.toLedgerEntries(accountMovement, null, null));
+        return accountMovement;
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.khadijeelzein.accountmanager.repository;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class LedgerEntryRepositoryTest {
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+
+    @Test
+    public void givenValidAccountMovementRequest_whenFindingAccountMovementHistory_thenReturnAccount() {
+        var accountNbr = String.valueOf(123456L);
+        var startDate = LocalDate.now().minusDays(1);
+        var endDate = LocalDate.now().plusDays(1);
+        var accountMovementResponse = AccountMovementResponse
+                .builder()
+                .accountDestination(1234567L)
+                .accountOrigin(Long.parseLong(accountNbr))
+                .amount(1000L)
+                .dateTime(LocalDateTime.now())
+                .type(MovementTypeEnum.TRANSFERENCIA.getType())
+                .build();
+        var accountMovements = List.of(accountMovementResponse);
+        var pageable = PageRequest.of(0, 10);
+        var page = new PageImpl<>(accountMovements, pageable, accountMovements.size());
+        doReturn(page).when(ledgerEntryRepository)
+                .findAllByDateAndAccount(
+                startDate,
+                endDate,
+                Long.parseLong(accountNbr),pageable);
+        var response = ledgerEntryRepository.findAllByDateAndAccount(
+                startDate,
+                endDate,
+                Long.parseLong(accountNbr),pageable);
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccount(any(),any(),any(),any());
+        assertThat(response).isNotNull();
+        assertThat(response.getNumberOfElements()).isEqualTo(1);
+        assertEquals(accountMovements,response.getContent());
+    }
+
+    @Test
+    public void givenNonPositiveAccountNbr_whenFindingAccountMovementHistory_thenThrowsException() {
+        var accountNbr = String.valueOf(-123456L);
+        var startDate = LocalDate.now().minusDays(1);
+        var endDate = LocalDate.now().plusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        when(ledgerEntryRepository.findAllByDateAndAccount(
+                startDate,
+                endDate,
+                Long.parseLong(accountNbr),
+                pageable)).thenThrow(IllegalArgumentException.class);
+        assertThrows(IllegalArgumentException.class, () ->
+                ledgerEntryRepository.findAllByDateAndAccount(
+                        startDate,
+                        endDate,
+                        Long.parseLong(accountNbr),pageable));
+    }
+
+    @Test
+    public void givenInvalidAccountNbr_whenFindingAccountMovementHistory_thenThrowsException() {
+        var accountNbr = "abcdefghij";
+        var startDate = LocalDate.now().minusDays(1);
+        var endDate = LocalDate.now().plusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        assertThrows(IllegalArgumentException.class, () ->
+                ledgerEntryRepository.findAllByDateAndAccount(
+                        startDate,
+                        endDate,
+                        Long.parseLong(accountNbr),pageable));
+    }
+
+    @Test
+    public void givenInvalidDates_whenFindingAccountMovementHistory_thenThrowsException() {
+        var accountNbr = String.valueOf(123456L);
+        var startDate = LocalDate.now().plusDays(1);
+        var endDate = LocalDate.now().minusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        when(ledgerEntryRepository.findAllByDateAndAccount(
+                startDate,
+                endDate,
+                Long.parseLong(accountNbr),pageable)).thenThrow(IllegalArgumentException.class);
+        assertThrows(IllegalArgumentException.class, () ->
+                ledgerEntryRepository.findAllByDateAndAccount(
+                        startDate,
+                        endDate,
+                        Long.parseLong(accountNbr),pageable));
+    }
+    @Test
+    public void givenNullAccountNbr_whenFindingAccountMovementHistory_thenThrowsException() {
+        var startDate = LocalDate.now().minusDays(1);
+        var endDate = LocalDate.now().plusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        assertThrows(IllegalArgumentException.class, () ->
+                ledgerEntryRepository.findAllByDateAndAccount(
+                        startDate,
+                        endDate,
+                        Long.parseLong(null),pageable));
+    }
+
+    @Test
+    public void givenStartDateNull_whenFindingAccountMovementHistory_thenReturnAccount() {
+        var accountNbr = String.valueOf(123456L);
+        var endDate = LocalDate.now().plusDays(1);
+        var accountMovement = AccountMovementResponse.builder()
+                .accountOrigin(Long.parseLong(accountNbr))
+                .accountDestination(1234567L)
+                .amount(1000L)
+                .type(MovementTypeEnum.TRANSFERENCIA.getType())
+                .dateTime(LocalDateTime.now())
+                .build();
+        var accountMovements = List.of(accountMovement);
+        var page = new PageImpl<>(accountMovements);
+        var pageable = PageRequest.of(0, 10);
+        doReturn(page).when(ledgerEntryRepository)
+                .findAllByDateAndAccount(
+                        null,
+                        endDate,
+                        Long.parseLong(accountNbr),pageable);
+        var response = ledgerEntryRepository.findAllByDateAndAccount(
+                null,
+                endDate,
+                Long.parseLong(accountNbr),pageable);
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccount(any(),any(),any(),any());
+        assertThat(response).isNotNull();
+        assertThat(response.getNumberOfElements()).isEqualTo(1);
+        assertEquals(accountMovements,response.getContent());
+    }
+    @Test
+    public void givenEndDateNull_whenFindingAccountMovementHistory_thenReturnAccount() {
+        var accountNbr = String.valueOf(123456L);
+        var startDate= LocalDate.now().minusDays(1);
+        var accountMovement = AccountMovementResponse.builder()
+                .accountOrigin(Long.parseLong(accountNbr))
+                .accountDestination(1234567L)
+                .amount(1000L)
+                .type(MovementTypeEnum.TRANSFERENCIA.getType())
+                .dateTime(LocalDateTime.now())
+                .build();
+        var accountMovements = List.of(accountMovement);
+        var page = new PageImpl<>(accountMovements);
+        var pageable = PageRequest.of(0, 10);
+        doReturn(page).when(ledgerEntryRepository)
+                .findAllByDateAndAccount(
+                        startDate,
+                        null,
+                        Long.parseLong(accountNbr),pageable);
+        var response = ledgerEntryRepository.findAllByDateAndAccount(
+                startDate,
+                null,
+                Long.parseLong(accountNbr),pageable);
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccount(any(),any(),any(),any());
+        assertThat(response).isNotNull();
+        assertThat(response.getNumberOfElements()).isEqualTo(1);
+        assertEquals(accountMovements,response.getContent());
+    }
+
+    @Test
+    public void givenStartDateAfterToday_whenFindingAccountMovementHistory_thenReturnAccount() {
+        var accountNbr = 123456L;
+        var endDate = LocalDate.now().plusDays(2);
+        var startDate = LocalDate.now().plusDays(1);
+        var pageable = PageRequest.of(0, 10);
+        when(ledgerEntryRepository
+                .findAllByDateAndAccount(
+                        startDate,endDate,accountNbr,pageable)).thenThrow(IllegalArgumentException.class);
+        assertThrows(IllegalArgumentException.class,
+                () -> ledgerEntryRepository.
+                        findAllByDateAndAccount(startDate,endDate,accountNbr,pageable));
+    }
+
+}
\ No newline at end of file
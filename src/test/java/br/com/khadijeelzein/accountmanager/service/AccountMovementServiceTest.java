@@ -1,39 +1,58 @@
 package br.com.khadijeelzein.accountmanager.service;
 
+import br.com.khadijeelzein.accountmanager.concurrency.AccountLockManager;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceUpdateResult;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursor;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementCursorPage;
 import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
-import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSlicePage;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementSummaryPage;
 import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
+import br.com.khadijeelzein.accountmanager.enums.MovementStatusEnum;
 import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
 import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
 import br.com.khadijeelzein.accountmanager.mapper.AccountMovementMapper;
 import br.com.khadijeelzein.accountmanager.model.Account;
 import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
 import br.com.khadijeelzein.accountmanager.model.Client;
 import br.com.khadijeelzein.accountmanager.repository.AccountMovementRepository;
+import br.com.khadijeelzein.accountmanager.repository.LedgerEntryRepository;
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.projection.ProjectionFactory;
-import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.times;
 
@@ -45,28 +64,91 @@ public class AccountMovementServiceTest {
     @Mock
     private AccountService accountService;
 
-    @InjectMocks
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
     private AccountMovementService accountMovementService;
     private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
+    private static AccountBalanceSnapshot snapshot(Long... accountNbrs) {
+        return AccountBalanceSnapshot.of(Arrays.stream(accountNbrs)
+                .map(accountNbr -> Account.builder().accountNbr(accountNbr).currentBalance(0L).build())
+                .toList());
+    }
+
+    @BeforeEach
+    public void setUp() {
+        accountMovementService = new AccountMovementService(accountMovementRepository, accountService,
+                TransactionOperations.withoutTransaction(), new AccountLockManager(16, new SimpleMeterRegistry()),
+                ledgerEntryRepository);
+    }
+
     @Test
     public void givenValidAccountMovementRequest_whenAddingAccountMovement_thenCallRepository()  {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         AccountMovement accountMovement = AccountMovementMapper.toAccountMovement(accountMovementRequest);
-        doReturn(accountMovement).when(accountMovementRepository).save(any(AccountMovement.class));
-        Double accountBalance = 0.0;
-        ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
-        Map<String, Double> map = Map.of("currentBalance", accountBalance);
-        var projection = factory.createProjection(AccountBalanceProjection.class, map);
-        doReturn(projection).when(accountService).getAccountBalance(any());
-        doReturn(true).when(accountService).accountExists(accountMovementRequest.getAccountNbrOrigin());
-        doReturn(true).when(accountService).accountExists(accountMovementRequest.getAccountNbrDestination());
+        doReturn(accountMovement).when(accountMovementRepository).insert(any(AccountMovement.class));
+        doReturn(OptionalLong.of(500L)).when(accountService).debitAccountBalance(accountMovementRequest.getAccountNbrOrigin(), 1000L);
+        doReturn(OptionalLong.of(500L)).when(accountService).creditAccountBalance(accountMovementRequest.getAccountNbrDestination(), 1000L);
+        accountMovementService.accountTransfer(accountMovementRequest);
+        verify(accountMovementRepository, times(1)).insert(any(AccountMovement.class));
+    }
+
+    @Test
+    public void givenHotDestinationAccount_whenAddingAccountMovement_thenCreditWithoutLockingDestination() {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        var lockManager = spy(new AccountLockManager(16, new SimpleMeterRegistry()));
+        accountMovementService = new AccountMovementService(accountMovementRepository, accountService,
+                TransactionOperations.withoutTransaction(), lockManager, ledgerEntryRepository);
+        doReturn(true).when(accountService).isHotAccount(123456L);
+        doReturn(OptionalLong.of(500L)).when(accountService).debitAccountBalance(1234567L, 1000L);
+        accountMovementService.accountTransfer(accountMovementRequest);
+        verify(lockManager, times(1)).withLocks(eq(List.of(1234567L)), any());
+        verify(accountService, times(1)).creditHotAccountBalance(123456L, 1000L, 1);
+        verify(accountService, never()).creditAccountBalance(any(), anyLong());
+        verify(accountMovementRepository, times(1)).insert(any(AccountMovement.class));
+    }
+
+    @Test
+    public void givenAccountMissingFromDirectory_whenAddingAccountMovement_thenRejectBeforeWriting() {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(7654321L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doThrow(new IllegalArgumentException("Contas Inexistente"))
+                .when(accountService).checkAccountsExist(1234567L, 7654321L);
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> accountMovementService.accountTransfer(accountMovementRequest));
+        assertEquals("Contas Inexistente", exception.getMessage());
+        verify(accountService, never()).debitAccountBalance(any(), anyLong());
+        verify(accountMovementRepository, never()).insert(any(AccountMovement.class));
+    }
+
+    @Test
+    public void givenTransientTransactionError_whenAddingAccountMovement_thenRetryTransfer() {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        var writeConflict = new MongoException("WriteConflict");
+        writeConflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        doThrow(new UncategorizedMongoDbException("WriteConflict", writeConflict))
+                .doReturn(OptionalLong.of(500L))
+                .when(accountService).debitAccountBalance(1234567L, 1000L);
+        doReturn(OptionalLong.of(500L)).when(accountService).creditAccountBalance(123456L, 1000L);
         accountMovementService.accountTransfer(accountMovementRequest);
-        verify(accountMovementRepository, times(1)).save(any(AccountMovement.class));
+        verify(accountService, times(2)).debitAccountBalance(1234567L, 1000L);
+        verify(accountMovementRepository, times(2)).insert(any(AccountMovement.class));
     }
 
     @Test
@@ -74,7 +156,7 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(-1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         Set<ConstraintViolation<AccountMovementRequest>> violations = validator.validate(accountMovementRequest);
         assertThat(violations.size()).isEqualTo(1);
@@ -85,7 +167,7 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(-123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         Set<ConstraintViolation<AccountMovementRequest>> violations = validator.validate(accountMovementRequest);
         assertThat(violations.size()).isEqualTo(1);
@@ -96,7 +178,7 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(-10d);
+        accountMovementRequest.setAmount(-1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         Set<ConstraintViolation<AccountMovementRequest>> violations = validator.validate(accountMovementRequest);
         assertThat(violations.size()).isEqualTo(1);
@@ -108,7 +190,7 @@ public class AccountMovementServiceTest {
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
         accountMovementRequest.setType("Inválido");
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         assertThrows(IllegalArgumentException.class,() -> accountMovementService.accountTransfer(accountMovementRequest));
     }
 
@@ -117,7 +199,7 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(null);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         Set<ConstraintViolation<AccountMovementRequest>> violations = validator.validate(accountMovementRequest);
         assertThat(violations.size()).isEqualTo(1);
@@ -128,7 +210,7 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(null);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         Set<ConstraintViolation<AccountMovementRequest>> violations = validator.validate(accountMovementRequest);
         assertThat(violations.size()).isEqualTo(1);
@@ -149,7 +231,7 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(null);
         Set<ConstraintViolation<AccountMovementRequest>> violations = validator.validate(accountMovementRequest);
         assertThat(violations.size()).isEqualTo(1);
@@ -160,7 +242,7 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(1234567L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
         assertThrows(IllegalArgumentException.class,() -> accountMovementService.accountTransfer(accountMovementRequest));
     }
@@ -173,7 +255,7 @@ public class AccountMovementServiceTest {
         var accountMovement = AccountMovement.builder()
                 .accountOrigin(Long.parseLong(accountNbr))
                 .accountDestination(1234567L)
-                .amount(10d)
+                .amount(1000L)
                 .id("1a")
                 .type(MovementTypeEnum.TRANSFERENCIA)
                 .dateTime(LocalDateTime.now())
@@ -182,14 +264,14 @@ public class AccountMovementServiceTest {
         var accountMovementsResponse = AccountMovementMapper.toAccountMovementResponseList(accountMovements);
         Pageable pageable = PageRequest.of(1, 10);
         var accountMovementsPage = new PageImpl<>(accountMovementsResponse);
-        doReturn(accountMovementsPage).when(accountMovementRepository).findAllByDateAndAccountOriginOrAccountDestination(
+        doReturn(accountMovementsPage).when(ledgerEntryRepository).findAllByDateAndAccount(
                 startDate,
                 endDate,
                 Long.parseLong(accountNbr),
                 pageable);
         var response = accountMovementService.accountTransferHistory(accountNbr,startDate,endDate,pageable);
-        verify(accountMovementRepository, times(1))
-                .findAllByDateAndAccountOriginOrAccountDestination(any(),any(),any(),any());
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccount(any(),any(),any(),any());
         assertThat(response).isNotNull();
         assertThat(response.getNumberOfElements()).isEqualTo(1);
         var listAccountMovements = AccountMovementMapper.toAccountMovementResponseList(accountMovements);
@@ -237,10 +319,10 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
-        doReturn(false).when(accountService).accountExists(accountMovementRequest.getAccountNbrOrigin());
-        doReturn(false).when(accountService).accountExists(accountMovementRequest.getAccountNbrDestination());
+        doReturn(OptionalLong.empty()).when(accountService).debitAccountBalance(accountMovementRequest.getAccountNbrOrigin(), 1000L);
+        doReturn(snapshot()).when(accountService).getAccountBalanceSnapshot(1234567L, 123456L);
         assertThrows(IllegalArgumentException.class,()-> accountMovementService.accountTransfer(accountMovementRequest));
     }
     @Test
@@ -248,10 +330,10 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
-        doReturn(false).when(accountService).accountExists(accountMovementRequest.getAccountNbrOrigin());
-        doReturn(true).when(accountService).accountExists(accountMovementRequest.getAccountNbrDestination());
+        doReturn(OptionalLong.empty()).when(accountService).debitAccountBalance(accountMovementRequest.getAccountNbrOrigin(), 1000L);
+        doReturn(snapshot(123456L)).when(accountService).getAccountBalanceSnapshot(1234567L, 123456L);
         assertThrows(IllegalArgumentException.class,()-> accountMovementService.accountTransfer(accountMovementRequest));
     }
 
@@ -260,10 +342,10 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
-        doReturn(true).when(accountService).accountExists(accountMovementRequest.getAccountNbrOrigin());
-        doReturn(false).when(accountService).accountExists(accountMovementRequest.getAccountNbrDestination());
+        doReturn(OptionalLong.empty()).when(accountService).debitAccountBalance(accountMovementRequest.getAccountNbrOrigin(), 1000L);
+        doReturn(snapshot(1234567L)).when(accountService).getAccountBalanceSnapshot(1234567L, 123456L);
         assertThrows(IllegalArgumentException.class,()-> accountMovementService.accountTransfer(accountMovementRequest));
     }
     @Test
@@ -288,7 +370,7 @@ public class AccountMovementServiceTest {
         var accountMovement = AccountMovement.builder()
                 .accountOrigin(Long.parseLong(accountNbr))
                 .accountDestination(1234567L)
-                .amount(10d)
+                .amount(1000L)
                 .id("1a")
                 .type(MovementTypeEnum.TRANSFERENCIA)
                 .dateTime(LocalDateTime.now())
@@ -297,14 +379,14 @@ public class AccountMovementServiceTest {
         var accountMovements = List.of(accountMovement);
         var accountMovementsResponse = AccountMovementMapper.toAccountMovementResponseList(accountMovements);
         var accountMovementsPage = new PageImpl<>(accountMovementsResponse);
-        doReturn(accountMovementsPage).when(accountMovementRepository).findAllByDateAndAccountOriginOrAccountDestination(
+        doReturn(accountMovementsPage).when(ledgerEntryRepository).findAllByDateAndAccount(
                 null,
                 null,
                 Long.parseLong(accountNbr),
                 pageable);
         var response = accountMovementService.accountTransferHistory(accountNbr,null,null,pageable);
-        verify(accountMovementRepository, times(1))
-                .findAllByDateAndAccountOriginOrAccountDestination(any(),any(),any(),any());
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccount(any(),any(),any(),any());
         assertThat(response).isNotNull();
         assertThat(response.getNumberOfElements()).isEqualTo(1);
         var listAccountMovements = AccountMovementMapper.toAccountMovementResponseList(accountMovements);
@@ -318,7 +400,7 @@ public class AccountMovementServiceTest {
         var accountMovement = AccountMovement.builder()
                 .accountOrigin(Long.parseLong(accountNbr))
                 .accountDestination(1234567L)
-                .amount(10d)
+                .amount(1000L)
                 .id("1a")
                 .type(MovementTypeEnum.TRANSFERENCIA)
                 .dateTime(LocalDateTime.now())
@@ -327,15 +409,15 @@ public class AccountMovementServiceTest {
         var accountMovements = List.of(accountMovement);
         var accountMovementsResponse = AccountMovementMapper.toAccountMovementResponseList(accountMovements);
         var accountMovementsPage = new PageImpl<>(accountMovementsResponse);
-        doReturn(accountMovementsPage).when(accountMovementRepository).findAllByDateAndAccountOriginOrAccountDestination(
+        doReturn(accountMovementsPage).when(ledgerEntryRepository).findAllByDateAndAccount(
                 null,
                 endDate,
                 Long.parseLong(accountNbr),
                 pageable);
          var response = accountMovementService.accountTransferHistory(
                 accountNbr,null,endDate,pageable);
-        verify(accountMovementRepository, times(1))
-                .findAllByDateAndAccountOriginOrAccountDestination(any(),any(),any(),any());
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccount(any(),any(),any(),any());
         assertThat(response).isNotNull();
         assertThat(response.getNumberOfElements()).isEqualTo(1);
         var listAccountMovementsResponse = AccountMovementMapper.toAccountMovementResponseList(accountMovements);
@@ -349,7 +431,7 @@ public class AccountMovementServiceTest {
         var accountMovement = AccountMovement.builder()
                 .accountOrigin(Long.parseLong(accountNbr))
                 .accountDestination(1234567L)
-                .amount(10d)
+                .amount(1000L)
                 .id("1a")
                 .type(MovementTypeEnum.TRANSFERENCIA)
                 .dateTime(LocalDateTime.now())
@@ -358,15 +440,15 @@ public class AccountMovementServiceTest {
         var accountMovements = List.of(accountMovement);
         var accountMovementsResponse = AccountMovementMapper.toAccountMovementResponseList(accountMovements);
         var accountMovementsPage = new PageImpl<>(accountMovementsResponse);
-        doReturn(accountMovementsPage).when(accountMovementRepository).findAllByDateAndAccountOriginOrAccountDestination(
+        doReturn(accountMovementsPage).when(ledgerEntryRepository).findAllByDateAndAccount(
                 startDate,
                 null,
                 Long.parseLong(accountNbr),
                 pageable);
         var response = accountMovementService.accountTransferHistory(
                 accountNbr,startDate,null,pageable);
-        verify(accountMovementRepository, times(1))
-                .findAllByDateAndAccountOriginOrAccountDestination(any(),any(),any(),any(Pageable.class));
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccount(any(),any(),any(),any(Pageable.class));
         assertThat(response).isNotNull();
         assertThat(response.getNumberOfElements()).isEqualTo(1);
         var listAccountMovements = AccountMovementMapper.toAccountMovementResponseList(accountMovements);
@@ -377,7 +459,7 @@ public class AccountMovementServiceTest {
     public void givenInvalidType_whenAddingAccount_thenThrowException() {
         var accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setType("Inválido");
-        accountMovementRequest.setAmount(10.0d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
         assertThrows(IllegalArgumentException.class, () ->accountMovementService.accountTransfer(accountMovementRequest));
@@ -388,38 +470,28 @@ public class AccountMovementServiceTest {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType("TRANSFERÊNCIA");
         AccountMovement accountMovement = AccountMovementMapper.toAccountMovement(accountMovementRequest);
-        doReturn(accountMovement).when(accountMovementRepository).save(any(AccountMovement.class));
-        Double accountBalance = 0.0;
-        ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
-        Map<String, Double> map = Map.of("currentBalance", accountBalance);
-        var projection = factory.createProjection(AccountBalanceProjection.class, map);
-        doReturn(projection).when(accountService).getAccountBalance(any());
-        doReturn(true).when(accountService).accountExists(accountMovementRequest.getAccountNbrOrigin());
-        doReturn(true).when(accountService).accountExists(accountMovementRequest.getAccountNbrDestination());
+        doReturn(accountMovement).when(accountMovementRepository).insert(any(AccountMovement.class));
+        doReturn(OptionalLong.of(500L)).when(accountService).debitAccountBalance(accountMovementRequest.getAccountNbrOrigin(), 1000L);
+        doReturn(OptionalLong.of(500L)).when(accountService).creditAccountBalance(accountMovementRequest.getAccountNbrDestination(), 1000L);
         accountMovementService.accountTransfer(accountMovementRequest);
-        verify(accountMovementRepository, times(1)).save(any(AccountMovement.class));
+        verify(accountMovementRepository, times(1)).insert(any(AccountMovement.class));
     }
     @Test
     public void givenValidType_whenAddingAccount_thenCreateAccount() {
         AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType("transferencia");
         AccountMovement accountMovement = AccountMovementMapper.toAccountMovement(accountMovementRequest);
-        doReturn(accountMovement).when(accountMovementRepository).save(any(AccountMovement.class));
-        Double accountBalance = 0.0;
-        ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
-        Map<String, Double> map = Map.of("currentBalance", accountBalance);
-        var projection = factory.createProjection(AccountBalanceProjection.class, map);
-        doReturn(projection).when(accountService).getAccountBalance(any());
-        doReturn(true).when(accountService).accountExists(accountMovementRequest.getAccountNbrOrigin());
-        doReturn(true).when(accountService).accountExists(accountMovementRequest.getAccountNbrDestination());
+        doReturn(accountMovement).when(accountMovementRepository).insert(any(AccountMovement.class));
+        doReturn(OptionalLong.of(500L)).when(accountService).debitAccountBalance(accountMovementRequest.getAccountNbrOrigin(), 1000L);
+        doReturn(OptionalLong.of(500L)).when(accountService).creditAccountBalance(accountMovementRequest.getAccountNbrDestination(), 1000L);
         accountMovementService.accountTransfer(accountMovementRequest);
-        verify(accountMovementRepository, times(1)).save(any(AccountMovement.class));
+        verify(accountMovementRepository, times(1)).insert(any(AccountMovement.class));
     }
 
     @Test
@@ -427,7 +499,7 @@ public class AccountMovementServiceTest {
         var accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(null);
         assertThrows(IllegalArgumentException.class, () ->accountMovementService.accountTransfer(accountMovementRequest));
     }
@@ -436,7 +508,7 @@ public class AccountMovementServiceTest {
         var accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(-123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(10d);
+        accountMovementRequest.setAmount(1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.getType());
         assertThrows(IllegalArgumentException.class, () ->accountMovementService.accountTransfer(accountMovementRequest));
     }
@@ -445,7 +517,7 @@ public class AccountMovementServiceTest {
         var accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(-10d);
+        accountMovementRequest.setAmount(-1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.getType());
         assertThrows(IllegalArgumentException.class, () ->accountMovementService.accountTransfer(accountMovementRequest));
     }
@@ -464,7 +536,7 @@ public class AccountMovementServiceTest {
         var accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(-10d);
+        accountMovementRequest.setAmount(-1000L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.getType());
         assertThrows(IllegalArgumentException.class, () ->accountMovementService.accountTransfer(accountMovementRequest));
     }
@@ -473,8 +545,357 @@ public class AccountMovementServiceTest {
         var accountMovementRequest = new AccountMovementRequest();
         accountMovementRequest.setAccountNbrDestination(123456L);
         accountMovementRequest.setAccountNbrOrigin(1234567L);
-        accountMovementRequest.setAmount(0d);
+        accountMovementRequest.setAmount(0L);
         accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.getType());
         assertThrows(IllegalArgumentException.class, () ->accountMovementService.accountTransfer(accountMovementRequest));
     }
-}                                                                                                
\ No newline at end of file
+
+    @Test
+    public void givenInsufficientBalance_whenAddingAccountMovement_thenThrowException() {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(OptionalLong.empty()).when(accountService).debitAccountBalance(accountMovementRequest.getAccountNbrOrigin(), 1000L);
+        doReturn(snapshot(1234567L, 123456L)).when(accountService).getAccountBalanceSnapshot(1234567L, 123456L);
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> accountMovementService.accountTransfer(accountMovementRequest));
+        assertEquals("Saldo insuficiente", exception.getMessage());
+        verify(accountService, never()).creditAccountBalance(any(), anyLong());
+        verify(ledgerEntryRepository, never()).insert(anyIterable());
+    }
+
+    @Test
+    public void givenCreditNotApplied_whenAddingAccountMovement_thenDoNotWriteLedgerEntries() {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(OptionalLong.of(500L)).when(accountService).debitAccountBalance(accountMovementRequest.getAccountNbrOrigin(), 1000L);
+        doReturn(OptionalLong.empty()).when(accountService).creditAccountBalance(accountMovementRequest.getAccountNbrDestination(), 1000L);
+        assertThrows(IllegalArgumentException.class, () -> accountMovementService.accountTransfer(accountMovementRequest));
+        verify(ledgerEntryRepository, never()).insert(anyIterable());
+    }
+
+    @Test
+    public void givenMixedBatch_whenAddingAccountMovementBatch_thenApplyValidItemsInOneBulk() {
+        var valid = new AccountMovementRequest();
+        valid.setAccountNbrOrigin(1234567L);
+        valid.setAccountNbrDestination(123456L);
+        valid.setAmount(1000L);
+        valid.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        var overdraft = new AccountMovementRequest();
+        overdraft.setAccountNbrOrigin(1234567L);
+        overdraft.setAccountNbrDestination(123456L);
+        overdraft.setAmount(1000L);
+        overdraft.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        var sameAccounts = new AccountMovementRequest();
+        sameAccounts.setAccountNbrOrigin(123456L);
+        sameAccounts.setAccountNbrDestination(123456L);
+        sameAccounts.setAmount(1000L);
+        sameAccounts.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        var inexistent = new AccountMovementRequest();
+        inexistent.setAccountNbrOrigin(123456L);
+        inexistent.setAccountNbrDestination(7654321L);
+        inexistent.setAmount(500L);
+        inexistent.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(new HashMap<>(Map.of(1234567L, 1500L, 123456L, 0L)))
+                .when(accountService).getAccountBalances(any());
+        doReturn(new AccountBalanceUpdateResult(2, 2, List.of()))
+                .when(accountService).applyBalanceDeltas(Map.of(1234567L, -1000L, 123456L, 1000L));
+        var response = accountMovementService.accountTransferBatch(List.of(valid, overdraft, sameAccounts, inexistent));
+        assertThat(response).extracting(AccountMovementBatchResponse::getStatus).containsExactly(
+                MovementStatusEnum.PROCESSADA,
+                MovementStatusEnum.REJEITADA,
+                MovementStatusEnum.REJEITADA,
+                MovementStatusEnum.REJEITADA);
+        assertEquals("Saldo insuficiente", response.get(1).getMessage());
+        assertEquals("Contas Iguais", response.get(2).getMessage());
+        assertEquals("Contas Inexistente", response.get(3).getMessage());
+        verify(accountService, times(1)).getAccountBalances(any());
+        verify(accountService, times(1)).applyBalanceDeltas(any());
+        verify(accountService, times(1)).incrementMovementCounts(Map.of(1234567L, 1L, 123456L, 1L));
+        verify(accountMovementRepository, times(1)).insert(anyList());
+    }
+
+    @Test
+    public void givenOnlyRejectedItems_whenAddingAccountMovementBatch_thenDoNotWrite() {
+        var inexistent = new AccountMovementRequest();
+        inexistent.setAccountNbrOrigin(123456L);
+        inexistent.setAccountNbrDestination(7654321L);
+        inexistent.setAmount(500L);
+        inexistent.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(new HashMap<>()).when(accountService).getAccountBalances(any());
+        var response = accountMovementService.accountTransferBatch(List.of(inexistent));
+        assertEquals(MovementStatusEnum.REJEITADA, response.get(0).getStatus());
+        verify(accountService, never()).applyBalanceDeltas(any());
+        verify(accountMovementRepository, never()).insert(anyList());
+    }
+
+    @Test
+    public void givenNullItemInBatch_whenAddingAccountMovementBatch_thenRejectOnlyThatItem() {
+        var inexistent = new AccountMovementRequest();
+        inexistent.setAccountNbrOrigin(123456L);
+        inexistent.setAccountNbrDestination(7654321L);
+        inexistent.setAmount(500L);
+        inexistent.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(new HashMap<>()).when(accountService).getAccountBalances(any());
+        var response = accountMovementService.accountTransferBatch(Arrays.asList(null, inexistent));
+        assertEquals(MovementStatusEnum.REJEITADA, response.get(0).getStatus());
+        assertEquals("Transferência não pode ser nula", response.get(0).getMessage());
+        assertEquals("Contas Inexistente", response.get(1).getMessage());
+    }
+
+    @Test
+    public void givenEmptyBatch_whenAddingAccountMovementBatch_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> accountMovementService.accountTransferBatch(List.of()));
+    }
+
+    @Test
+    public void givenAccountMovementIds_whenAddingAccountMovementBatch_thenKeepIdsOnInsertedMovements() {
+        var valid = new AccountMovementRequest();
+        valid.setAccountNbrOrigin(1234567L);
+        valid.setAccountNbrDestination(123456L);
+        valid.setAmount(500L);
+        valid.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(new HashMap<>(Map.of(1234567L, 1500L, 123456L, 0L)))
+                .when(accountService).getAccountBalances(any());
+        doReturn(new AccountBalanceUpdateResult(2, 2, List.of()))
+                .when(accountService).applyBalanceDeltas(Map.of(1234567L, -1000L, 123456L, 1000L));
+        accountMovementService.accountTransferBatch(List.of(valid, valid), List.of("a1", "a2"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AccountMovement>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(accountMovementRepository, times(1)).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(AccountMovement::getId).containsExactly("a1", "a2");
+    }
+
+    @Test
+    public void givenDuplicateAndFreshIdsInBatch_whenAddingAccountMovementBatch_thenApplyOnlyFreshMovement() {
+        var valid = new AccountMovementRequest();
+        valid.setAccountNbrOrigin(1234567L);
+        valid.setAccountNbrDestination(123456L);
+        valid.setAmount(500L);
+        valid.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(Set.of("a1")).when(accountMovementRepository).findExistingIds(Set.of("a1", "a2"));
+        doReturn(new HashMap<>(Map.of(1234567L, 1500L, 123456L, 0L)))
+                .when(accountService).getAccountBalances(any());
+        doReturn(new AccountBalanceUpdateResult(2, 2, List.of()))
+                .when(accountService).applyBalanceDeltas(Map.of(1234567L, -500L, 123456L, 500L));
+        var response = accountMovementService.accountTransferBatch(List.of(valid, valid), List.of("a1", "a2"));
+        assertThat(response).extracting(AccountMovementBatchResponse::getStatus)
+                .containsExactly(MovementStatusEnum.PROCESSADA, MovementStatusEnum.PROCESSADA);
+        assertEquals("Transferência já processada", response.get(0).getMessage());
+        assertEquals(null, response.get(1).getMessage());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AccountMovement>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(accountMovementRepository, times(1)).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(AccountMovement::getId).containsExactly("a2");
+    }
+
+    @Test
+    public void givenMovementCommittedConcurrently_whenAddingAccountMovementBatch_thenRetryWithoutIt() {
+        var valid = new AccountMovementRequest();
+        valid.setAccountNbrOrigin(1234567L);
+        valid.setAccountNbrDestination(123456L);
+        valid.setAmount(500L);
+        valid.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(Set.of(), Set.of("a1")).when(accountMovementRepository).findExistingIds(Set.of("a1", "a2"));
+        doAnswer(invocation -> new HashMap<>(Map.of(1234567L, 1500L, 123456L, 0L)))
+                .when(accountService).getAccountBalances(any());
+        doReturn(new AccountBalanceUpdateResult(2, 2, List.of())).when(accountService).applyBalanceDeltas(any());
+        doThrow(new DuplicateKeyException("E11000")).doReturn(List.of())
+                .when(accountMovementRepository).insert(anyList());
+        var response = accountMovementService.accountTransferBatch(List.of(valid, valid), List.of("a1", "a2"));
+        assertEquals("Transferência já processada", response.get(0).getMessage());
+        assertEquals(MovementStatusEnum.PROCESSADA, response.get(1).getStatus());
+        assertEquals(null, response.get(1).getMessage());
+        verify(accountService, times(1)).applyBalanceDeltas(Map.of(1234567L, -500L, 123456L, 500L));
+    }
+
+    @Test
+    public void givenHotDestinationInBatch_whenAddingAccountMovementBatch_thenNetCreditsIntoOneSlotIncrement() {
+        var valid = new AccountMovementRequest();
+        valid.setAccountNbrOrigin(1234567L);
+        valid.setAccountNbrDestination(123456L);
+        valid.setAmount(500L);
+        valid.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        lenient().doReturn(true).when(accountService).isHotAccount(123456L);
+        doReturn(new HashMap<>(Map.of(1234567L, 1500L, 123456L, 0L)))
+                .when(accountService).getAccountBalances(any());
+        doReturn(new AccountBalanceUpdateResult(1, 1, List.of()))
+                .when(accountService).applyBalanceDeltas(Map.of(1234567L, -1000L));
+        accountMovementService.accountTransferBatch(List.of(valid, valid));
+        verify(accountService, times(1)).creditHotAccountBalance(123456L, 1000L, 2L);
+        verify(accountService, times(1)).incrementMovementCounts(Map.of(1234567L, 2L));
+        verify(accountService, never()).consolidateHotAccount(any());
+    }
+
+    @Test
+    public void givenHotOriginShortOfFunds_whenAddingAccountMovementBatch_thenConsolidateOnlyThatAccountOnce() {
+        var valid = new AccountMovementRequest();
+        valid.setAccountNbrOrigin(1234567L);
+        valid.setAccountNbrDestination(123456L);
+        valid.setAmount(500L);
+        valid.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(new HashMap<>(Map.of(1234567L, 100L, 123456L, 0L)))
+                .when(accountService).getAccountBalances(any());
+        doReturn(700L).when(accountService).consolidateHotAccount(1234567L);
+        doReturn(new AccountBalanceUpdateResult(2, 2, List.of()))
+                .when(accountService).applyBalanceDeltas(Map.of(1234567L, -500L, 123456L, 500L));
+        var response = accountMovementService.accountTransferBatch(List.of(valid, valid));
+        assertThat(response).extracting(AccountMovementBatchResponse::getStatus)
+                .containsExactly(MovementStatusEnum.PROCESSADA, MovementStatusEnum.REJEITADA);
+        verify(accountService, times(1)).consolidateHotAccount(1234567L);
+    }
+
+    @Test
+    public void givenValidBatch_whenAddingAccountMovementBatch_thenWriteLedgerEntriesWithRunningBalances() {
+        var valid = new AccountMovementRequest();
+        valid.setAccountNbrOrigin(1234567L);
+        valid.setAccountNbrDestination(123456L);
+        valid.setAmount(500L);
+        valid.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(new HashMap<>(Map.of(1234567L, 1500L, 123456L, 0L)))
+                .when(accountService).getAccountBalances(any());
+        doReturn(new AccountBalanceUpdateResult(2, 2, List.of()))
+                .when(accountService).applyBalanceDeltas(Map.of(1234567L, -1000L, 123456L, 1000L));
+        accountMovementService.accountTransferBatch(List.of(valid, valid), List.of("a1", "a2"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LedgerEntry>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(ledgerEntryRepository, times(1)).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(LedgerEntry::getId)
+                .containsExactly("a1:1234567", "a1:123456", "a2:1234567", "a2:123456");
+        assertThat(inserted.getValue()).extracting(LedgerEntry::getAmount).containsExactly(-500L, 500L, -500L, 500L);
+        assertThat(inserted.getValue()).extracting(LedgerEntry::getBalanceAfter).containsExactly(1000L, 500L, 500L, 1000L);
+    }
+
+    @Test
+    public void givenValidAccountMovementRequest_whenAddingAccountMovement_thenTakeRunningBalancesFromWrites() {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(OptionalLong.of(500L)).when(accountService).debitAccountBalance(1234567L, 1000L);
+        doReturn(OptionalLong.of(2500L)).when(accountService).creditAccountBalance(123456L, 1000L);
+        accountMovementService.accountTransfer(accountMovementRequest);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LedgerEntry>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(ledgerEntryRepository, times(1)).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(LedgerEntry::getBalanceAfter).containsExactly(500L, 2500L);
+        verify(accountService, never()).getAccountBalances(any());
+    }
+
+    @Test
+    public void givenHotDestinationAccount_whenAddingAccountMovement_thenLeaveItsRunningBalanceEmpty() {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        doReturn(true).when(accountService).isHotAccount(123456L);
+        doReturn(OptionalLong.of(500L)).when(accountService).debitAccountBalance(1234567L, 1000L);
+        accountMovementService.accountTransfer(accountMovementRequest);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LedgerEntry>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(ledgerEntryRepository, times(1)).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(LedgerEntry::getBalanceAfter).containsExactly(500L, null);
+    }
+
+    @Test
+    public void givenTransientTransactionError_whenAddingAccountMovementBatch_thenRetryWithFreshResponses() {
+        var valid = new AccountMovementRequest();
+        valid.setAccountNbrOrigin(1234567L);
+        valid.setAccountNbrDestination(123456L);
+        valid.setAmount(500L);
+        valid.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        var writeConflict = new MongoException("WriteConflict");
+        writeConflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        doReturn(new HashMap<>(Map.of(1234567L, 1500L, 123456L, 0L)))
+                .when(accountService).getAccountBalances(any());
+        doThrow(new UncategorizedMongoDbException("WriteConflict", writeConflict))
+                .doReturn(new AccountBalanceUpdateResult(2, 2, List.of()))
+                .when(accountService).applyBalanceDeltas(any());
+        var response = accountMovementService.accountTransferBatch(List.of(valid));
+        assertEquals(MovementStatusEnum.PROCESSADA, response.get(0).getStatus());
+        verify(accountService, times(2)).getAccountBalances(any());
+        verify(accountMovementRepository, times(1)).insert(anyList());
+    }
+
+    @Test
+    public void givenCursorToken_whenFindingHistoryByCursor_thenSeekAfterDecodedPosition() {
+        var cursor = new AccountMovementCursor(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000), "65f1c0ffee0000000000abcd");
+        var page = new AccountMovementCursorPage(List.of(), null);
+        doReturn(page).when(ledgerEntryRepository)
+                .findAllByDateAndAccountAfter(null, null, 123456L, cursor, 50);
+        var response = accountMovementService.accountTransferHistory("123456", null, null, cursor.encode(), 50);
+        assertThat(response).isSameAs(page);
+    }
+
+    @Test
+    public void givenEmptyCursor_whenFindingHistoryByCursor_thenStartFromFirstMovement() {
+        accountMovementService.accountTransferHistory("123456", null, null, "", 20);
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccountAfter(null, null, 123456L, null, 20);
+    }
+
+    @Test
+    public void givenMalformedCursor_whenFindingHistoryByCursor_thenThrowException() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> accountMovementService.accountTransferHistory("123456", null, null, "bm90LWEtY3Vyc29y", 20));
+        assertEquals("Cursor inválido", exception.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> accountMovementService.accountTransferHistory("123456", null, null, "%%%", 20));
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+
+    @Test
+    public void givenMovementCounter_whenFindingUnfilteredHistory_thenSkipCountQuery() {
+        Pageable pageable = PageRequest.of(0, 10);
+        doReturn(OptionalLong.of(42L)).when(accountService).getMovementCount(123456L);
+        doReturn(new PageImpl<>(List.of(), pageable, 42L)).when(ledgerEntryRepository)
+                .findAllByDateAndAccount(null, null, 123456L, pageable, 42L);
+        var response = accountMovementService.accountTransferHistory("123456", null, null, pageable);
+        assertEquals(42L, response.getTotalElements());
+        verify(ledgerEntryRepository, never())
+                .findAllByDateAndAccount(any(), any(), any(), any());
+    }
+
+    @Test
+    public void givenDateFilter_whenFindingHistory_thenIgnoreMovementCounter() {
+        Pageable pageable = PageRequest.of(0, 10);
+        var startDate = LocalDate.now().minusDays(1);
+        accountMovementService.accountTransferHistory("123456", startDate, null, pageable);
+        verify(accountService, never()).getMovementCount(any());
+        verify(ledgerEntryRepository, times(1))
+                .findAllByDateAndAccount(startDate, null, 123456L, pageable);
+    }
+
+    @Test
+    public void givenValidRequest_whenFindingHistorySlice_thenCallRepository() {
+        Pageable pageable = PageRequest.of(1, 5);
+        var slicePage = new AccountMovementSlicePage(List.of(), 1, 5, false);
+        doReturn(slicePage).when(ledgerEntryRepository)
+                .findSliceByDateAndAccount(null, null, 123456L, pageable);
+        assertThat(accountMovementService.accountTransferHistorySlice("123456", null, null, pageable)).isSameAs(slicePage);
+        verify(accountService, never()).getMovementCount(any());
+    }
+
+    @Test
+    public void givenValidRequest_whenFindingHistorySummary_thenCallRepository() {
+        Pageable pageable = PageRequest.of(0, 5);
+        var summaryPage = new AccountMovementSummaryPage(List.of(), 0, 5, 3L, 1500L, 700L);
+        doReturn(summaryPage).when(ledgerEntryRepository)
+                .findSummaryByDateAndAccount(null, null, 123456L, pageable);
+        assertThat(accountMovementService.accountTransferHistorySummary("123456", null, null, pageable)).isSameAs(summaryPage);
+    }
+
+    @Test
+    public void givenInvalidAccountNbr_whenFindingHistorySummary_thenThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> accountMovementService.accountTransferHistorySummary("abc", null, null, PageRequest.of(0, 5)));
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+}
@@ -1,26 +1,41 @@
 package br.com.khadijeelzein.accountmanager.service;
 
+import br.com.khadijeelzein.accountmanager.accountnumber.AccountNumberAllocator;
+import br.com.khadijeelzein.accountmanager.accountnumber.CheckDigit;
 import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountBatchResponse;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceUpdateResult;
+import br.com.khadijeelzein.accountmanager.cache.BalanceCache;
+import br.com.khadijeelzein.accountmanager.directory.AccountDirectory;
 import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
 import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
 import br.com.khadijeelzein.accountmanager.model.Account;
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
+import br.com.khadijeelzein.accountmanager.repository.AccountNumberLeaseRepository;
 import br.com.khadijeelzein.accountmanager.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +51,19 @@ public class AccountServiceTest {
     @Mock
     private ClientService clientService;
 
+    @Mock
+    private HotAccountPolicy hotAccountPolicy;
+
+    @Mock
+    private AccountDirectory accountDirectory;
+
+    @Spy
+    private BalanceCache balanceCache = new BalanceCache(new SimpleMeterRegistry(), false, 16, Duration.ofSeconds(1));
+
+    @Spy
+    private AccountNumberAllocator accountNumberAllocator =
+            new AccountNumberAllocator(mock(AccountNumberLeaseRepository.class), false, 1000, 100000, false);
+
     @InjectMocks
     private AccountService accountService;
 
@@ -64,13 +92,14 @@ public class AccountServiceTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
-                .client(clientResponse)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(0L)
                 .build();
         doReturn(accountResponse).when(accountRepository).save(any(Account.class));
-        doReturn(true).when(clientService).existsClient("817.672.190-59");
+        doReturn(Optional.of(ClientSnapshot.builder().id("1a").cpf("817.672.190-59").build())).when(clientService).findClientSnapshot("817.672.190-59");
         var accountNbr = accountService.createAccount(account);
         verify(accountRepository, times(1)).save(any(Account.class));
+        verify(accountDirectory, times(1)).add(123456L);
         assertThat(accountNbr.getAccountNbr()).isEqualTo(123456L);
     }
 
@@ -114,11 +143,11 @@ public class AccountServiceTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
-                .client(clientResponse)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(0L)
                 .build();
         doReturn(accountResponse).when(accountRepository).save(any(Account.class));
-        doReturn(true).when(clientService).existsClient("62368887016");
+        doReturn(Optional.of(ClientSnapshot.builder().id("1a").cpf("62368887016").build())).when(clientService).findClientSnapshot("62368887016");
         var accountNbr = accountService.createAccount(account);
         verify(accountRepository, times(1)).save(any(Account.class));
         assertThat(accountNbr.getAccountNbr()).isEqualTo(123456L);
@@ -132,9 +161,9 @@ public class AccountServiceTest {
     @Test
     public void givenValidAccountNumber_whenGetAccountBalance_thenCallRepository() {
         var accountNbr = 123456L;
-        Double accountBalance = 0.0;
+        Long accountBalance = 0L;
         ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
-        Map<String, Double> map = Map.of("currentBalance", accountBalance);
+        Map<String, Long> map = Map.of("currentBalance", accountBalance);
         var projection = factory.createProjection(AccountBalanceProjection.class, map);
         doReturn(projection).when(accountRepository).findCurrentBalanceByAccountNbr(accountNbr);
         var accountBalanceProjection = accountService.getAccountBalance(accountNbr);
@@ -159,20 +188,22 @@ public class AccountServiceTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.CORRENTE)
-                .client(clientResponse)
-                .currentBalance(10.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(1000L)
                 .build();
         var account2 = Account.builder()
                 .accountNbr(1234567L)
                 .id("2a")
                 .type(TypeEnum.CORRENTE)
-                .client(clientResponse)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(0L)
                 .build();
         var accounts = List.of(account1, account2);
-        doNothing().when(accountRepository).updateAccountByAccountNbr(accounts);
-        accountService.updateAllAccountBalance(accounts);
+        var updateResult = new AccountBalanceUpdateResult(2, 1, List.of());
+        doReturn(updateResult).when(accountRepository).updateAccountByAccountNbr(accounts);
+        var result = accountService.updateAllAccountBalance(accounts);
         verify(accountRepository, times(1)).updateAccountByAccountNbr(accounts);
+        assertThat(result).isEqualTo(updateResult);
     }
 
     @Test
@@ -209,11 +240,11 @@ public class AccountServiceTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.POUPANCA)
-                .client(clientResponse)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(0L)
                 .build();
         doReturn(accountResponse).when(accountRepository).save(any(Account.class));
-        doReturn(true).when(clientService).existsClient("62368887016");
+        doReturn(Optional.of(ClientSnapshot.builder().id("1a").cpf("62368887016").build())).when(clientService).findClientSnapshot("62368887016");
         var accountNbr = accountService.createAccount(accountRequest);
         verify(accountRepository, times(1)).save(any(Account.class));
         assertThat(accountNbr.getAccountNbr()).isEqualTo(123456L);
@@ -233,11 +264,11 @@ public class AccountServiceTest {
                 .accountNbr(123456L)
                 .id("1a")
                 .type(TypeEnum.valueOf(accountRequest.getAccountType().toUpperCase()))
-                .client(clientResponse)
-                .currentBalance(0.0d)
+                .client(ClientSnapshot.of(clientResponse))
+                .currentBalance(0L)
                 .build();
         doReturn(accountResponse).when(accountRepository).save(any(Account.class));
-        doReturn(true).when(clientService).existsClient("62368887016");
+        doReturn(Optional.of(ClientSnapshot.builder().id("1a").cpf("62368887016").build())).when(clientService).findClientSnapshot("62368887016");
         var accountNbr = accountService.createAccount(accountRequest);
         verify(accountRepository, times(1)).save(any(Account.class));
         assertThat(accountNbr.getAccountNbr()).isEqualTo(123456L);
@@ -261,4 +292,224 @@ public class AccountServiceTest {
         assertThrows(IllegalArgumentException.class, () ->accountService.getAccountBalance(null));
     }
 
+    @Test
+    public void givenHotAccount_whenGettingAccountBalance_thenSumBalanceSlots() {
+        var projection = new SpelAwareProxyProjectionFactory()
+                .createProjection(AccountBalanceProjection.class, Map.of("currentBalance", 1500L));
+        doReturn(true).when(hotAccountPolicy).isHot(123456L);
+        doReturn(projection).when(accountRepository).findShardedBalanceByAccountNbr(123456L);
+        assertThat(accountService.getAccountBalance(123456L).getCurrentBalance()).isEqualTo(1500L);
+        verify(accountRepository, never()).findCurrentBalanceByAccountNbr(anyLong());
+    }
+
+    @Test
+    public void givenHotAccount_whenCreditingBalance_thenCreditRandomSlot() {
+        doReturn(5).when(hotAccountPolicy).nextSlot();
+        accountService.creditHotAccountBalance(123456L, 1000L, 1);
+        verify(accountRepository, times(1)).creditAccountBalanceSlot(123456L, 5, 1000L, 1L);
+        verify(accountRepository, never()).creditAccountBalance(anyLong(), anyLong());
+    }
+
+    @Test
+    public void givenHotAccountWithBalanceInSlots_whenDebitingBalance_thenConsolidateAndRetry() {
+        doReturn(true).when(hotAccountPolicy).isHot(123456L);
+        doReturn(OptionalLong.empty(), OptionalLong.of(300L)).when(accountRepository).debitAccountBalance(123456L, 1000L);
+        doReturn(800L).when(accountRepository).consolidateAccountBalanceSlots(123456L);
+        assertThat(accountService.debitAccountBalance(123456L, 1000L)).hasValue(300L);
+        verify(accountRepository, times(2)).debitAccountBalance(123456L, 1000L);
+    }
+
+    @Test
+    public void givenHotAccountWithEmptySlots_whenDebitingBalance_thenRejectWithoutRetry() {
+        doReturn(true).when(hotAccountPolicy).isHot(123456L);
+        doReturn(OptionalLong.empty()).when(accountRepository).debitAccountBalance(123456L, 1000L);
+        doReturn(0L).when(accountRepository).consolidateAccountBalanceSlots(123456L);
+        assertThat(accountService.debitAccountBalance(123456L, 1000L)).isEmpty();
+        verify(accountRepository, times(1)).debitAccountBalance(123456L, 1000L);
+    }
+
+    @Test
+    public void givenRegularAccount_whenDebitIsRejected_thenDoNotConsolidate() {
+        doReturn(OptionalLong.empty()).when(accountRepository).debitAccountBalance(123456L, 1000L);
+        assertThat(accountService.debitAccountBalance(123456L, 1000L)).isEmpty();
+        verify(accountRepository, never()).consolidateAccountBalanceSlots(anyLong());
+    }
+
+    @Test
+    public void givenMixedAccounts_whenConsolidatingHotAccounts_thenOnlyConsolidateHotOnes() {
+        doReturn(true).when(hotAccountPolicy).isHot(123456L);
+        doReturn(800L).when(accountRepository).consolidateAccountBalanceSlots(123456L);
+        assertThat(accountService.consolidateHotAccount(123456L)).isEqualTo(800L);
+        assertThat(accountService.consolidateHotAccount(7654321L)).isZero();
+        verify(accountRepository, times(1)).consolidateAccountBalanceSlots(123456L);
+        verify(accountRepository, never()).consolidateAccountBalanceSlots(7654321L);
+    }
+
+    @Test
+    public void givenReadyDirectory_whenCheckingAccountExists_thenDoNotQueryRepository() {
+        doReturn(true).when(accountDirectory).isReady();
+        doReturn(true).when(accountDirectory).contains(123456L);
+        assertThat(accountService.accountExists(123456L)).isTrue();
+        verify(accountRepository, never()).existsByAccountNbr(anyLong());
+    }
+
+    @Test
+    public void givenAccountCreatedOnOtherNode_whenCheckingAccountExists_thenFallBackToRepositoryAndRemember() {
+        doReturn(true).when(accountDirectory).isReady();
+        doReturn(true).when(accountRepository).existsByAccountNbr(7654321L);
+        assertThat(accountService.accountExists(7654321L)).isTrue();
+        verify(accountDirectory, times(1)).add(7654321L);
+    }
+
+    @Test
+    public void givenDirectoryNotReady_whenCheckingAccountExists_thenQueryRepository() {
+        doReturn(true).when(accountRepository).existsByAccountNbr(123456L);
+        assertThat(accountService.accountExists(123456L)).isTrue();
+        verify(accountRepository, times(1)).existsByAccountNbr(123456L);
+    }
+
+    @Test
+    public void givenReadyDirectoryWithoutDestination_whenCheckingTransferAccounts_thenThrowException() {
+        doReturn(true).when(accountDirectory).isReady();
+        doReturn(true).when(accountDirectory).contains(123456L);
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> accountService.checkAccountsExist(123456L, 7654321L));
+        assertThat(exception.getMessage()).isEqualTo("Contas Inexistente");
+        verify(accountRepository, times(1)).existsByAccountNbr(7654321L);
+    }
+
+    @Test
+    public void givenDestinationCreatedOnOtherNode_whenCheckingTransferAccounts_thenAcceptAfterRepositoryCheck() {
+        doReturn(true).when(accountDirectory).isReady();
+        doReturn(true).when(accountDirectory).contains(123456L);
+        doReturn(true).when(accountRepository).existsByAccountNbr(7654321L);
+        accountService.checkAccountsExist(123456L, 7654321L);
+        verify(accountRepository, never()).existsByAccountNbr(123456L);
+    }
+
+    @Test
+    public void givenDirectoryNotReady_whenCheckingTransferAccounts_thenDeferToWritePath() {
+        accountService.checkAccountsExist(123456L, 7654321L);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    public void givenEnabledBalanceCache_whenReadingTwiceAndDebiting_thenReadRepositoryOnlyAfterInvalidation() {
+        var projection = new SpelAwareProxyProjectionFactory()
+                .createProjection(AccountBalanceProjection.class, Map.of("currentBalance", 1500L));
+        var cachedAccountService = new AccountService(accountRepository, clientService, hotAccountPolicy,
+                accountDirectory, new BalanceCache(new SimpleMeterRegistry(), true, 16, Duration.ofMinutes(1)),
+                accountNumberAllocator);
+        doReturn(projection).when(accountRepository).findCurrentBalanceByAccountNbr(123456L);
+        doReturn(OptionalLong.of(500L)).when(accountRepository).debitAccountBalance(123456L, 1000L);
+        cachedAccountService.getAccountBalance(123456L);
+        cachedAccountService.getAccountBalance(123456L);
+        verify(accountRepository, times(1)).findCurrentBalanceByAccountNbr(123456L);
+        cachedAccountService.debitAccountBalance(123456L, 1000L);
+        cachedAccountService.getAccountBalance(123456L);
+        verify(accountRepository, times(2)).findCurrentBalanceByAccountNbr(123456L);
+    }
+
+    @Test
+    public void givenCheckDigitValidation_whenReadingMalformedAccountBalance_thenRejectBeforeRepository() {
+        var validatingAccountService = new AccountService(accountRepository, clientService, hotAccountPolicy,
+                accountDirectory, balanceCache,
+                new AccountNumberAllocator(mock(AccountNumberLeaseRepository.class), true, 1000, 100000, true));
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> validatingAccountService.getAccountBalance(CheckDigit.append(123456L) + 1));
+        assertThat(exception.getMessage()).isEqualTo("Número da conta inválido");
+        assertThat(validatingAccountService.accountExists(CheckDigit.append(123456L) + 1)).isFalse();
+        assertThrows(IllegalArgumentException.class,
+                () -> validatingAccountService.checkAccountsExist(CheckDigit.append(123456L), 7654321L));
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    public void givenAccountNbrCollision_whenAddingAccount_thenRetryWithNextAccountNbr() {
+        AccountRequest account = new AccountRequest();
+        account.setAccountType(TypeEnum.CORRENTE.getType());
+        account.setClientCpf("817.672.190-59");
+        var accountResponse = Account.builder().accountNbr(123456L).type(TypeEnum.CORRENTE).currentBalance(0L).build();
+        doReturn(Optional.of(ClientSnapshot.builder().id("1a").cpf("817.672.190-59").build())).when(clientService).findClientSnapshot("817.672.190-59");
+        doThrow(new DuplicateKeyException("accountNbr")).doReturn(accountResponse)
+                .when(accountRepository).save(any(Account.class));
+        var accountNbr = accountService.createAccount(account);
+        verify(accountNumberAllocator, times(2)).nextAccountNbr();
+        assertThat(accountNbr.getAccountNbr()).isEqualTo(123456L);
+    }
+
+    @Test
+    public void givenMixedBatch_whenAddingAccounts_thenInsertOnceAndReturnNumbersInRequestOrder() {
+        var valid = new AccountRequest();
+        valid.setAccountType(TypeEnum.CORRENTE.getType());
+        valid.setClientCpf("817.672.190-59");
+        var unknownClient = new AccountRequest();
+        unknownClient.setAccountType(TypeEnum.CORRENTE.getType());
+        unknownClient.setClientCpf("62368887016");
+        var invalidType = new AccountRequest();
+        invalidType.setAccountType("INEXISTENTE");
+        invalidType.setClientCpf("81767219059");
+        var client = ClientSnapshot.builder().id("1a").cpf("81767219059").name("John Doe").build();
+        doReturn(Map.of(81767219059L, client)).when(clientService).findClientSnapshots(anyCollection());
+        doReturn(new long[]{1000003L, 1000011L}).when(accountNumberAllocator).nextAccountNbrs(2);
+        var responses = accountService.createAccounts(List.of(valid, unknownClient, invalidType, valid));
+        assertThat(responses).extracting(AccountBatchResponse::getAccountNbr).containsExactly(1000003L, null, null, 1000011L);
+        assertThat(responses.get(1).getMessage()).isEqualTo("Cliente Inexistente");
+        assertThat(responses.get(2).getMessage()).isEqualTo("Tipo Inválido");
+        verify(clientService, times(1)).findClientSnapshots(List.of(81767219059L, 62368887016L, 81767219059L));
+        ArgumentCaptor<List<Account>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(accountRepository, times(1)).insertIgnoringDuplicates(inserted.capture());
+        assertThat(inserted.getValue()).extracting(Account::getClient).containsOnly(client);
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(accountDirectory, times(1)).add(1000003L);
+        verify(accountDirectory, times(1)).add(1000011L);
+    }
+
+    @Test
+    public void givenBatchWithoutExistingClients_whenAddingAccounts_thenNeverInsert() {
+        var unknownClient = new AccountRequest();
+        unknownClient.setAccountType(TypeEnum.CORRENTE.getType());
+        unknownClient.setClientCpf("62368887016");
+        doReturn(Map.of()).when(clientService).findClientSnapshots(anyCollection());
+        var responses = accountService.createAccounts(List.of(unknownClient));
+        assertThat(responses.get(0).getAccountNbr()).isNull();
+        verify(accountRepository, never()).insertIgnoringDuplicates(anyList());
+    }
+
+    @Test
+    public void givenCollidingAccountNbr_whenAddingAccounts_thenRetryOnlyCollidingAccounts() {
+        var valid = new AccountRequest();
+        valid.setAccountType(TypeEnum.CORRENTE.getType());
+        valid.setClientCpf("81767219059");
+        var client = ClientSnapshot.builder().id("1a").cpf("81767219059").name("John Doe").build();
+        doReturn(Map.of(81767219059L, client)).when(clientService).findClientSnapshots(anyCollection());
+        doReturn(new long[]{1000003L, 1000011L}).when(accountNumberAllocator).nextAccountNbrs(2);
+        doReturn(new long[]{1000029L}).when(accountNumberAllocator).nextAccountNbrs(1);
+        doReturn(Set.of(1), Set.of()).when(accountRepository).insertIgnoringDuplicates(anyList());
+        var responses = accountService.createAccounts(List.of(valid, valid));
+        assertThat(responses).extracting(AccountBatchResponse::getAccountNbr).containsExactly(1000003L, 1000029L);
+        verify(accountRepository, times(2)).insertIgnoringDuplicates(anyList());
+        verify(accountDirectory, never()).add(1000011L);
+    }
+
+    @Test
+    public void givenAccountNbrAlwaysColliding_whenAddingAccounts_thenRejectAfterMaxAttempts() {
+        var valid = new AccountRequest();
+        valid.setAccountType(TypeEnum.CORRENTE.getType());
+        valid.setClientCpf("81767219059");
+        var client = ClientSnapshot.builder().id("1a").cpf("81767219059").name("John Doe").build();
+        doReturn(Map.of(81767219059L, client)).when(clientService).findClientSnapshots(anyCollection());
+        doReturn(new long[]{1000003L}).when(accountNumberAllocator).nextAccountNbrs(1);
+        doReturn(Set.of(0)).when(accountRepository).insertIgnoringDuplicates(anyList());
+        var responses = accountService.createAccounts(List.of(valid));
+        assertThat(responses.get(0).getAccountNbr()).isNull();
+        assertThat(responses.get(0).getMessage()).isEqualTo("Número da conta indisponível");
+        verify(accountRepository, times(3)).insertIgnoringDuplicates(anyList());
+        verify(accountDirectory, never()).add(anyLong());
+    }
+
+    @Test
+    public void givenEmptyBatch_whenAddingAccounts_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> accountService.createAccounts(List.of()));
+    }
 }
@@ -0,0 +1,184 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.enums.TransferStatusEnum;
+import br.com.khadijeelzein.accountmanager.model.TransferStatus;
+import br.com.khadijeelzein.accountmanager.repository.AccountMovementRepository;
+import br.com.khadijeelzein.accountmanager.repository.TransferStatusRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncTransferServiceTest {
+    @Mock
+    private AccountMovementServiceInterface accountMovementService;
+
+    @Mock
+    private AccountMovementRepository accountMovementRepository;
+
+    @Mock
+    private TransferStatusRepository transferStatusRepository;
+
+    private AsyncTransferService asyncTransferService(AsyncTaskExecutor executor) {
+        return new AsyncTransferService(accountMovementService, accountMovementRepository,
+                transferStatusRepository, executor, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void givenValidRequest_whenSubmitting_thenRunTransferWithTransferIdAndReportConcluded() throws Exception {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        var request = request(1000L);
+        var response = asyncTransferService.submitTransfer(request);
+        assertEquals(TransferStatusEnum.PENDENTE, response.getStatus());
+        verify(accountMovementService).accountTransfer(request, response.getId());
+        assertEquals(TransferStatusEnum.CONCLUIDA, asyncTransferService.getTransferStatus(response.getId()).getStatus());
+        var captor = ArgumentCaptor.forClass(TransferStatus.class);
+        verify(transferStatusRepository).insert(captor.capture());
+        assertEquals(TransferStatusEnum.PENDENTE, captor.getValue().getStatus());
+        verify(transferStatusRepository).save(captor.capture());
+        assertEquals(TransferStatusEnum.CONCLUIDA, captor.getValue().getStatus());
+        verifyNoInteractions(accountMovementRepository);
+    }
+
+    @Test
+    public void givenUnexpectedFailureAfterCommit_whenSubmitting_thenReportConcluded() throws Exception {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        var request = request(1000L);
+        doThrow(new IllegalStateException("Conexão perdida"))
+                .when(accountMovementService).accountTransfer(eq(request), any());
+        doReturn(true).when(accountMovementRepository).existsById(any());
+        var response = asyncTransferService.submitTransfer(request);
+        assertEquals(TransferStatusEnum.CONCLUIDA, asyncTransferService.getTransferStatus(response.getId()).getStatus());
+    }
+
+    @Test
+    public void givenUnexpectedFailure_whenSubmitting_thenPersistFailureWithoutRejecting() throws Exception {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        var request = request(1000L);
+        doThrow(new IllegalStateException("Conexão perdida"))
+                .when(accountMovementService).accountTransfer(eq(request), any());
+        doReturn(false).when(accountMovementRepository).existsById(any());
+        var response = asyncTransferService.submitTransfer(request);
+        var captor = ArgumentCaptor.forClass(TransferStatus.class);
+        verify(transferStatusRepository).save(captor.capture());
+        assertEquals(TransferStatusEnum.FALHA, captor.getValue().getStatus());
+        assertEquals("Falha ao processar transferência", captor.getValue().getMessage());
+        doReturn(Optional.of(captor.getValue())).when(transferStatusRepository).findById(response.getId());
+        assertEquals(TransferStatusEnum.FALHA, asyncTransferService.getTransferStatus(response.getId()).getStatus());
+    }
+
+    @Test
+    public void givenFailedTransferId_whenSubmittingAgain_thenResetToPendingAndRunAgain() throws Exception {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        var transferId = new ObjectId().toHexString();
+        var request = request(1000L);
+        doThrow(new DuplicateKeyException("E11000")).when(transferStatusRepository).insert(any(TransferStatus.class));
+        doReturn(false).when(accountMovementRepository).existsById(transferId);
+        doReturn(Optional.of(TransferStatus.builder().id(transferId).status(TransferStatusEnum.FALHA).build()))
+                .when(transferStatusRepository).findById(transferId);
+        var response = asyncTransferService.submitTransfer(request, transferId);
+        assertEquals(TransferStatusEnum.PENDENTE, response.getStatus());
+        verify(accountMovementService).accountTransfer(request, transferId);
+        var captor = ArgumentCaptor.forClass(TransferStatus.class);
+        verify(transferStatusRepository, times(2)).save(captor.capture());
+        assertEquals(TransferStatusEnum.PENDENTE, captor.getAllValues().get(0).getStatus());
+        assertEquals(TransferStatusEnum.CONCLUIDA, captor.getAllValues().get(1).getStatus());
+    }
+
+    @Test
+    public void givenTransferAlreadyApplied_whenSubmitting_thenReportConcluded() throws Exception {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        var request = request(1000L);
+        doThrow(new DuplicateKeyException("E11000")).when(accountMovementService).accountTransfer(eq(request), any());
+        var response = asyncTransferService.submitTransfer(request);
+        assertEquals(TransferStatusEnum.CONCLUIDA, asyncTransferService.getTransferStatus(response.getId()).getStatus());
+    }
+
+    @Test
+    public void givenConcludedTransferId_whenSubmittingAgain_thenReturnStoredStatusWithoutRunning() throws Exception {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        var transferId = new ObjectId().toHexString();
+        doThrow(new DuplicateKeyException("E11000")).when(transferStatusRepository).insert(any(TransferStatus.class));
+        doReturn(true).when(accountMovementRepository).existsById(transferId);
+        var response = asyncTransferService.submitTransfer(request(1000L), transferId);
+        assertEquals(TransferStatusEnum.CONCLUIDA, response.getStatus());
+        verify(accountMovementService, never()).accountTransfer(any(), any());
+    }
+
+    @Test
+    public void givenRejectedTransfer_whenSubmitting_thenPersistRejection() throws Exception {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        var request = request(1000L);
+        doThrow(new IllegalArgumentException("Saldo insuficiente"))
+                .when(accountMovementService).accountTransfer(eq(request), any());
+        var response = asyncTransferService.submitTransfer(request);
+        var status = asyncTransferService.getTransferStatus(response.getId());
+        assertEquals(TransferStatusEnum.REJEITADA, status.getStatus());
+        assertEquals("Saldo insuficiente", status.getMessage());
+        verify(transferStatusRepository).save(any(TransferStatus.class));
+    }
+
+    @Test
+    public void givenInvalidRequest_whenSubmitting_thenThrowExceptionWithoutQueueing() throws Exception {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        assertThrows(IllegalArgumentException.class, () -> asyncTransferService.submitTransfer(request(0L)));
+        verify(accountMovementService, never()).accountTransfer(any(), any());
+    }
+
+    @Test
+    public void givenFullExecutor_whenSubmitting_thenThrowRejectedExecutionException() {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(task -> {
+            throw new TaskRejectedException("Fila cheia");
+        }));
+        assertThrows(RejectedExecutionException.class, () -> asyncTransferService.submitTransfer(request(1000L)));
+    }
+
+    @Test
+    public void givenUnknownTransferInMemory_whenGettingStatus_thenFallBackToMongo() {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        var concluded = new ObjectId().toHexString();
+        var rejected = new ObjectId().toHexString();
+        var unknown = new ObjectId().toHexString();
+        doReturn(true).when(accountMovementRepository).existsById(concluded);
+        doReturn(Optional.of(TransferStatus.builder().id(rejected).status(TransferStatusEnum.REJEITADA)
+                .message("Contas Inexistente").build())).when(transferStatusRepository).findById(rejected);
+        doReturn(Optional.empty()).when(transferStatusRepository).findById(unknown);
+        assertEquals(TransferStatusEnum.CONCLUIDA, asyncTransferService.getTransferStatus(concluded).getStatus());
+        assertEquals("Contas Inexistente", asyncTransferService.getTransferStatus(rejected).getMessage());
+        assertNull(asyncTransferService.getTransferStatus(unknown));
+    }
+
+    @Test
+    public void givenInvalidTransferId_whenGettingStatus_thenThrowException() {
+        var asyncTransferService = asyncTransferService(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        assertThrows(IllegalArgumentException.class, () -> asyncTransferService.getTransferStatus("abc"));
+    }
+
+    private AccountMovementRequest request(Long amount) {
+        var accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAmount(amount);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        return accountMovementRequest;
+    }
+}
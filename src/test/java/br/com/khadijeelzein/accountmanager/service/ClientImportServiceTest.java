@@ -0,0 +1,119 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.ClientImportError;
+import br.com.khadijeelzein.accountmanager.enums.ImportFormatEnum;
+import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.repository.ClientRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClientImportServiceTest {
+    @Mock
+    private ClientRepository clientRepository;
+
+    private ClientImportService clientImportService;
+
+    private final List<List<String>> insertedChunks = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        clientImportService = new ClientImportService(clientRepository, JsonMapper.builder().findAndAddModules().build(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 2, 10);
+        lenient().doAnswer(inv -> {
+            List<Client> chunk = inv.getArgument(0);
+            insertedChunks.add(chunk.stream().map(Client::getCpf).toList());
+            return Set.of();
+        }).when(clientRepository).insertIgnoringDuplicates(anyList());
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenNdjson_whenImportingClients_thenInsertInChunks() throws IOException {
+        var result = clientImportService.importClients(input("""
+                {"cpf":"817.672.190-59","nome_completo":"John Doe","data_nascimento":"01/04/1996"}
+                {"cpf":"62368887016","nome_completo":"Jane Doe","data_nascimento":"02/05/1990"}
+
+                {"cpf":"52998224725","nome_completo":"Foo Bar","data_nascimento":"03/06/1985"}
+                """), ImportFormatEnum.NDJSON);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getRejected()).isZero();
+        assertThat(insertedChunks).containsExactly(List.of("81767219059", "62368887016"), List.of("52998224725"));
+    }
+
+    @Test
+    public void givenInvalidRows_whenImportingClients_thenReportRowsAndSkipThem() throws IOException {
+        var futureBirthday = LocalDate.now().plusDays(2).format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        var result = clientImportService.importClients(input("""
+                {"cpf":"123","nome_completo":"John Doe","data_nascimento":"01/04/1996"}
+                {"cpf":"62368887016","nome_completo":"Jane Doe","data_nascimento":"%s"}
+                not json
+                {"cpf":"52998224725","nome_completo":"Foo Bar","data_nascimento":"03/06/1985"}
+                """.formatted(futureBirthday)), ImportFormatEnum.NDJSON);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ClientImportError::getLine).containsExactly(1L, 2L, 3L);
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("Data de nascimento não pode ser futura");
+        assertThat(result.getErrors().get(2).getMessage()).isEqualTo("Linha malformada");
+    }
+
+    @Test
+    public void givenDuplicateCpf_whenImportingClients_thenReportDuplicateRow() throws IOException {
+        doReturn(Set.of(1)).when(clientRepository).insertIgnoringDuplicates(anyList());
+        var result = clientImportService.importClients(input("""
+                cpf,nome_completo,data_nascimento
+                817.672.190-59,"Doe, John",01/04/1996
+                62368887016,Jane Doe,02/05/1990
+                """), ImportFormatEnum.CSV);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly(
+                new ClientImportError(3, "62368887016", "Cliente já cadastrado previamente"));
+        var chunk = ArgumentCaptor.forClass(List.class);
+        verify(clientRepository).insertIgnoringDuplicates(chunk.capture());
+        assertThat(((Client) chunk.getValue().get(0)).getName()).isEqualTo("Doe, John");
+    }
+
+    @Test
+    public void givenCsvWithoutRequiredColumns_whenImportingClients_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                clientImportService.importClients(input("cpf,nome\n62368887016,Jane\n"), ImportFormatEnum.CSV));
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    public void givenMoreErrorsThanReported_whenImportingClients_thenCountAllAndKeepFirst() throws IOException {
+        var content = new StringBuilder();
+        for (int i = 0; i < 25; i++) content.append("not json\n");
+        var result = clientImportService.importClients(input(content.toString()), ImportFormatEnum.NDJSON);
+        assertThat(result.getRejected()).isEqualTo(25);
+        assertThat(result.getErrors()).hasSize(10);
+    }
+
+    @Test
+    public void givenQuotedCsvLine_whenSplitting_thenHonorQuotesAndEscapes() {
+        assertThat(ClientImportService.splitCsvLine("a,\"b, \"\"c\"\"\", d"))
+                .containsExactly("a", "b, \"c\"", "d");
+    }
+}
@@ -3,6 +3,7 @@ package br.com.khadijeelzein.accountmanager.service;
 import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
 import br.com.khadijeelzein.accountmanager.mapper.ClientMapper;
 import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
 import br.com.khadijeelzein.accountmanager.repository.ClientRepository;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
@@ -16,6 +17,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -112,4 +115,29 @@ public class ClientServiceTest {
         verify(clientRepository,times(1)).save(ClientMapper.toClient(client));
     }
 
+
+    @Test
+    public void givenCpfKeys_whenFindingClientSnapshots_thenQueryOnceWithDistinctKeys() {
+        var existing = ClientSnapshot.builder().id("1a").cpf("81767219059").name("John Doe").build();
+        doReturn(List.of(existing)).when(clientRepository).findByCpfKeyIn(Set.of(81767219059L, 62368887016L));
+        var clients = clientService.findClientSnapshots(List.of(81767219059L, 62368887016L, 81767219059L));
+        assertThat(clients).containsExactly(Map.entry(81767219059L, existing));
+        verify(clientRepository, times(1)).findByCpfKeyIn(anyCollection());
+    }
+
+    @Test
+    public void givenFormattedCpf_whenFindingClientSnapshot_thenQueryByCpfKey() {
+        var existing = ClientSnapshot.builder().id("1a").cpf("81767219059").name("John Doe").build();
+        doReturn(Optional.of(existing)).when(clientRepository).findSnapshotByCpfKey(81767219059L);
+        assertThat(clientService.findClientSnapshot("817.672.190-59")).contains(existing);
+    }
+
+    @Test
+    public void givenClientSnapshot_whenResolvingClient_thenLoadOnDemandById() {
+        var client = Client.builder().id("1a").cpf("81767219059").name("John Doe").build();
+        doReturn(Optional.of(client)).when(clientRepository).findById("1a");
+        assertThat(clientService.resolveClient(ClientSnapshot.of(client))).contains(client);
+        assertThat(clientService.resolveClient(ClientSnapshot.builder().cpf("81767219059").build())).isEmpty();
+        verify(clientRepository, times(1)).findById(anyString());
+    }
 }
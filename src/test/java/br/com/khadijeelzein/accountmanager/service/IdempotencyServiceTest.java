@@ -0,0 +1,191 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.enums.IdempotencyStatusEnum;
+import br.com.khadijeelzein.accountmanager.exceptions.IdempotencyConflictException;
+import br.com.khadijeelzein.accountmanager.model.IdempotencyKey;
+import br.com.khadijeelzein.accountmanager.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyServiceTest {
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private IdempotencyService idempotencyService;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final IdempotentOperation action = operationId -> calls.incrementAndGet();
+
+    @BeforeEach
+    public void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyKeyRepository, new ObjectMapper(), 10,
+                Duration.ofMinutes(1), Duration.ofSeconds(30));
+    }
+
+    private static String requestHash(String canonicalJson) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(canonicalJson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void givenNewKey_whenExecuting_thenRunActionAndStoreResult() throws Exception {
+        idempotencyService.execute("key", "request", action);
+        assertEquals(1, calls.get());
+        var captor = ArgumentCaptor.forClass(IdempotencyKey.class);
+        verify(idempotencyKeyRepository).insert(any(IdempotencyKey.class));
+        verify(idempotencyKeyRepository).save(captor.capture());
+        assertEquals(IdempotencyStatusEnum.PROCESSADA, captor.getValue().getStatus());
+    }
+
+    @Test
+    public void givenCompletedKey_whenExecutingAgain_thenReplayFromCache() throws Exception {
+        idempotencyService.execute("key", "request", action);
+        idempotencyService.execute("key", "request", action);
+        assertEquals(1, calls.get());
+        verify(idempotencyKeyRepository, times(1)).insert(any(IdempotencyKey.class));
+    }
+
+    @Test
+    public void givenKeyCompletedByOtherNode_whenExecuting_thenReplayStoredResult() throws Exception {
+        doThrow(DuplicateKeyException.class).when(idempotencyKeyRepository).insert(any(IdempotencyKey.class));
+        doReturn(Optional.of(IdempotencyKey.builder().id("key").requestHash(requestHash("\"request\""))
+                .status(IdempotencyStatusEnum.REJEITADA).message("Saldo insuficiente").build()))
+                .when(idempotencyKeyRepository).findById("key");
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute("key", "request", action));
+        assertEquals("Saldo insuficiente", exception.getMessage());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void givenKeyInProgress_whenExecuting_thenThrowConflict() throws Exception {
+        doThrow(DuplicateKeyException.class).when(idempotencyKeyRepository).insert(any(IdempotencyKey.class));
+        doReturn(Optional.of(IdempotencyKey.builder().id("key").requestHash(requestHash("\"request\""))
+                .status(IdempotencyStatusEnum.EM_PROCESSAMENTO)
+                .leaseExpiresAt(LocalDateTime.now().plusMinutes(1)).build()))
+                .when(idempotencyKeyRepository).findById("key");
+        assertThrows(IdempotencyConflictException.class,
+                () -> idempotencyService.execute("key", "request", action));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void givenKeyUsedByOtherRequest_whenExecuting_thenThrowException() throws Exception {
+        doThrow(DuplicateKeyException.class).when(idempotencyKeyRepository).insert(any(IdempotencyKey.class));
+        doReturn(Optional.of(IdempotencyKey.builder().id("key").requestHash(requestHash("\"other\""))
+                .status(IdempotencyStatusEnum.PROCESSADA).build()))
+                .when(idempotencyKeyRepository).findById("key");
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute("key", "request", action));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void givenRejectedAction_whenExecuting_thenStoreRejection() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute("key", "request", operationId -> {
+            throw new IllegalArgumentException("Saldo insuficiente");
+        }));
+        var captor = ArgumentCaptor.forClass(IdempotencyKey.class);
+        verify(idempotencyKeyRepository).save(captor.capture());
+        assertEquals(IdempotencyStatusEnum.REJEITADA, captor.getValue().getStatus());
+        assertEquals("Saldo insuficiente", captor.getValue().getMessage());
+    }
+
+    @Test
+    public void givenUnexpectedFailure_whenExecuting_thenExpireLeaseWithoutReleasingKey() {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("key", "request", operationId -> {
+            throw new IllegalStateException("Erro");
+        }));
+        verify(idempotencyKeyRepository).expireLease(eq("key"), any(LocalDateTime.class));
+        verify(idempotencyKeyRepository, never()).deleteById("key");
+        verify(idempotencyKeyRepository, never()).save(any(IdempotencyKey.class));
+    }
+
+    @Test
+    public void givenExpiredLease_whenExecuting_thenTakeOverAndRunWithSameOperationId() throws Exception {
+        doThrow(DuplicateKeyException.class).when(idempotencyKeyRepository).insert(any(IdempotencyKey.class));
+        doReturn(Optional.of(IdempotencyKey.builder().id("key").requestHash(requestHash("\"request\""))
+                .status(IdempotencyStatusEnum.EM_PROCESSAMENTO)
+                .leaseExpiresAt(LocalDateTime.now().minusSeconds(1)).build()))
+                .when(idempotencyKeyRepository).findById("key");
+        doReturn(true).when(idempotencyKeyRepository)
+                .acquireExpiredLease(eq("key"), any(LocalDateTime.class), any(LocalDateTime.class));
+        var operationIds = new ArrayList<String>();
+        idempotencyService.execute("key", "request", operationIds::add);
+        assertEquals(List.of(idempotencyService.operationId("key")), operationIds);
+        var captor = ArgumentCaptor.forClass(IdempotencyKey.class);
+        verify(idempotencyKeyRepository).save(captor.capture());
+        assertEquals(IdempotencyStatusEnum.PROCESSADA, captor.getValue().getStatus());
+    }
+
+    @Test
+    public void givenExpiredLeaseTakenByOtherNode_whenExecuting_thenThrowConflict() throws Exception {
+        doThrow(DuplicateKeyException.class).when(idempotencyKeyRepository).insert(any(IdempotencyKey.class));
+        doReturn(Optional.of(IdempotencyKey.builder().id("key").requestHash(requestHash("\"request\""))
+                .status(IdempotencyStatusEnum.EM_PROCESSAMENTO)
+                .leaseExpiresAt(LocalDateTime.now().minusSeconds(1)).build()))
+                .when(idempotencyKeyRepository).findById("key");
+        doReturn(false).when(idempotencyKeyRepository)
+                .acquireExpiredLease(eq("key"), any(LocalDateTime.class), any(LocalDateTime.class));
+        assertThrows(IdempotencyConflictException.class,
+                () -> idempotencyService.execute("key", "request", action));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void givenOperationAlreadyApplied_whenExecuting_thenStoreAsProcessed() throws Exception {
+        idempotencyService.execute("key", "request", operationId -> {
+            throw new DuplicateKeyException("E11000");
+        });
+        var captor = ArgumentCaptor.forClass(IdempotencyKey.class);
+        verify(idempotencyKeyRepository).save(captor.capture());
+        assertEquals(IdempotencyStatusEnum.PROCESSADA, captor.getValue().getStatus());
+    }
+
+    @Test
+    public void givenKey_whenDerivingOperationId_thenReturnStableObjectIdHex() {
+        var operationId = idempotencyService.operationId("key");
+        assertEquals(operationId, idempotencyService.operationId("key"));
+        assertNotEquals(operationId, idempotencyService.operationId("other"));
+        assertTrue(ObjectId.isValid(operationId));
+    }
+
+    @Test
+    public void givenMapsWithDifferentKeyOrder_whenExecuting_thenTreatAsSameRequest() throws Exception {
+        idempotencyService.execute("key", Map.of("a", 1, "b", 2), action);
+        idempotencyService.execute("key", new LinkedHashMap<>(Map.of("b", 2, "a", 1)), action);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void givenBlankKey_whenExecuting_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute(" ", "request", action));
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceSnapshot;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementRequest;
+import br.com.khadijeelzein.accountmanager.dto.AccountMovementResponse;
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.AccountMovement;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveAccountMovementRepository;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveAccountRepository;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveLedgerEntryRepository;
+import com.mongodb.MongoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveAccountMovementServiceTest {
+    @Mock
+    private ReactiveAccountMovementRepository accountMovementRepository;
+
+    @Mock
+    private ReactiveAccountRepository accountRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private ReactiveLedgerEntryRepository ledgerEntryRepository;
+
+    private ReactiveAccountMovementService accountMovementService;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        accountMovementService = new ReactiveAccountMovementService(accountMovementRepository, accountRepository, transactionalOperator,
+                ledgerEntryRepository, new HotAccountPolicy(Set.of(7654321L), 4));
+    }
+
+    private AccountMovementRequest transferRequest() {
+        AccountMovementRequest accountMovementRequest = new AccountMovementRequest();
+        accountMovementRequest.setAccountNbrOrigin(1234567L);
+        accountMovementRequest.setAccountNbrDestination(123456L);
+        accountMovementRequest.setAmount(1000L);
+        accountMovementRequest.setType(MovementTypeEnum.TRANSFERENCIA.name());
+        return accountMovementRequest;
+    }
+
+    private void stubLedgerEntries() {
+        doReturn(Mono.just(AccountBalanceSnapshot.of(List.of(
+                Account.builder().accountNbr(1234567L).currentBalance(500L).build(),
+                Account.builder().accountNbr(123456L).currentBalance(1000L).build()))))
+                .when(accountRepository).findBalanceSnapshot(1234567L, 123456L);
+        doAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)))
+                .when(ledgerEntryRepository).insert(anyList());
+    }
+
+    @Test
+    public void givenValidTransferRequest_whenTransferring_thenDebitCreditAndSaveMovement() {
+        doReturn(Mono.just(true)).when(accountRepository).debitAccountBalance(1234567L, 1000L);
+        doReturn(Mono.just(true)).when(accountRepository).creditAccountBalance(123456L, 1000L);
+        doReturn(Mono.just(AccountMovement.builder().build())).when(accountMovementRepository).save(any(AccountMovement.class));
+        stubLedgerEntries();
+        accountMovementService.accountTransfer(transferRequest()).block();
+        verify(accountMovementRepository, times(1)).save(any(AccountMovement.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LedgerEntry>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(ledgerEntryRepository, times(1)).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(LedgerEntry::getAmount).containsExactly(-1000L, 1000L);
+        assertThat(inserted.getValue()).extracting(LedgerEntry::getBalanceAfter).containsExactly(500L, 1000L);
+    }
+
+    @Test
+    public void givenSameAccounts_whenTransferring_thenThrowExceptionWithoutTouchingRepository() {
+        var request = transferRequest();
+        request.setAccountNbrDestination(1234567L);
+        var transfer = accountMovementService.accountTransfer(request);
+        var exception = assertThrows(IllegalArgumentException.class, transfer::block);
+        assertEquals("Contas Iguais", exception.getMessage());
+        verifyNoInteractions(accountRepository, accountMovementRepository);
+    }
+
+    @Test
+    public void givenInsufficientBalance_whenTransferring_thenThrowException() {
+        doReturn(Mono.just(false)).when(accountRepository).debitAccountBalance(1234567L, 1000L);
+        doReturn(Mono.just(AccountBalanceSnapshot.of(List.of(
+                Account.builder().accountNbr(1234567L).currentBalance(0L).build(),
+                Account.builder().accountNbr(123456L).currentBalance(0L).build()))))
+                .when(accountRepository).findBalanceSnapshot(1234567L, 123456L);
+        var transfer = accountMovementService.accountTransfer(transferRequest());
+        var exception = assertThrows(IllegalArgumentException.class, transfer::block);
+        assertEquals("Saldo insuficiente", exception.getMessage());
+        verify(accountMovementRepository, never()).save(any(AccountMovement.class));
+    }
+
+    @Test
+    public void givenMissingDestination_whenTransferring_thenThrowException() {
+        doReturn(Mono.just(true)).when(accountRepository).debitAccountBalance(1234567L, 1000L);
+        doReturn(Mono.just(false)).when(accountRepository).creditAccountBalance(123456L, 1000L);
+        var transfer = accountMovementService.accountTransfer(transferRequest());
+        var exception = assertThrows(IllegalArgumentException.class, transfer::block);
+        assertEquals("Contas Inexistente", exception.getMessage());
+    }
+
+    @Test
+    public void givenTransientTransactionError_whenTransferring_thenRetryTransfer() {
+        var attempts = new AtomicInteger();
+        var transientError = new MongoException("write conflict");
+        transientError.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        doReturn(Mono.defer(() -> attempts.incrementAndGet() == 1 ? Mono.error(transientError) : Mono.just(true)))
+                .when(accountRepository).debitAccountBalance(1234567L, 1000L);
+        doReturn(Mono.just(true)).when(accountRepository).creditAccountBalance(123456L, 1000L);
+        doReturn(Mono.just(AccountMovement.builder().build())).when(accountMovementRepository).save(any(AccountMovement.class));
+        stubLedgerEntries();
+        accountMovementService.accountTransfer(transferRequest()).block();
+        assertThat(attempts.get()).isEqualTo(2);
+        verify(accountMovementRepository, times(1)).save(any(AccountMovement.class));
+    }
+
+    @Test
+    public void givenHotDestination_whenTransferring_thenCreditBalanceSlot() {
+        var request = transferRequest();
+        request.setAccountNbrDestination(7654321L);
+        doReturn(Mono.just(true)).when(accountRepository).debitAccountBalance(1234567L, 1000L);
+        doReturn(Mono.empty()).when(accountRepository).creditAccountBalanceSlot(eq(7654321L), anyInt(), eq(1000L));
+        doReturn(Mono.just(AccountBalanceSnapshot.of(List.of(
+                Account.builder().accountNbr(1234567L).currentBalance(500L).build(),
+                Account.builder().accountNbr(7654321L).currentBalance(0L).build()))))
+                .when(accountRepository).findBalanceSnapshot(1234567L, 7654321L);
+        doAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)))
+                .when(ledgerEntryRepository).insert(anyList());
+        doReturn(Mono.just(AccountMovement.builder().build())).when(accountMovementRepository).save(any(AccountMovement.class));
+        accountMovementService.accountTransfer(request).block();
+        verify(accountRepository, never()).creditAccountBalance(any(), anyLong());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LedgerEntry>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(ledgerEntryRepository, times(1)).insert(inserted.capture());
+        assertThat(inserted.getValue()).extracting(LedgerEntry::getBalanceAfter).containsExactly(500L, null);
+    }
+
+    @Test
+    public void givenHotOriginWithFundsInSlots_whenTransferring_thenConsolidateAndRetryDebit() {
+        var request = transferRequest();
+        request.setAccountNbrOrigin(7654321L);
+        doReturn(Mono.just(false), Mono.just(true)).when(accountRepository).debitAccountBalance(7654321L, 1000L);
+        doReturn(Mono.just(2000L)).when(accountRepository).consolidateAccountBalanceSlots(7654321L);
+        doReturn(Mono.just(true)).when(accountRepository).creditAccountBalance(123456L, 1000L);
+        doReturn(Mono.just(AccountBalanceSnapshot.of(List.of(
+                Account.builder().accountNbr(7654321L).currentBalance(1000L).build(),
+                Account.builder().accountNbr(123456L).currentBalance(1000L).build()))))
+                .when(accountRepository).findBalanceSnapshot(7654321L, 123456L);
+        doAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)))
+                .when(ledgerEntryRepository).insert(anyList());
+        doReturn(Mono.just(AccountMovement.builder().build())).when(accountMovementRepository).save(any(AccountMovement.class));
+        accountMovementService.accountTransfer(request).block();
+        verify(accountRepository, times(2)).debitAccountBalance(7654321L, 1000L);
+        verify(accountMovementRepository, times(1)).save(any(AccountMovement.class));
+    }
+
+    @Test
+    public void givenValidAccount_whenGettingHistory_thenStreamRepositoryResult() {
+        var start = LocalDate.now().minusDays(1);
+        var end = LocalDate.now();
+        var response = AccountMovementResponse.builder().accountOrigin(1234567L).accountDestination(123456L).amount(1000L).build();
+        doReturn(Flux.just(response)).when(ledgerEntryRepository).findAllByDateAndAccount(start, end, 123456L);
+        var history = accountMovementService.accountTransferHistory("123456", start, end).collectList().block();
+        assertThat(history).containsExactly(response);
+    }
+
+    @Test
+    public void givenInvalidAccount_whenGettingHistory_thenThrowException() {
+        var history = accountMovementService.accountTransferHistory("-1", LocalDate.now(), LocalDate.now());
+        assertThrows(IllegalArgumentException.class, history::blockLast);
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.accountnumber.AccountNumberAllocator;
+import br.com.khadijeelzein.accountmanager.dto.AccountBalanceProjection;
+import br.com.khadijeelzein.accountmanager.dto.AccountRequest;
+import br.com.khadijeelzein.accountmanager.enums.TypeEnum;
+import br.com.khadijeelzein.accountmanager.model.Account;
+import br.com.khadijeelzein.accountmanager.model.ClientSnapshot;
+import br.com.khadijeelzein.accountmanager.repository.AccountNumberLeaseRepository;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveAccountServiceTest {
+    @Mock
+    private ReactiveAccountRepository accountRepository;
+
+    @Mock
+    private ReactiveClientService clientService;
+
+    @Spy
+    private AccountNumberAllocator accountNumberAllocator =
+            new AccountNumberAllocator(mock(AccountNumberLeaseRepository.class), false, 1000, 100000, false);
+
+    @Spy
+    private HotAccountPolicy hotAccountPolicy = new HotAccountPolicy(Set.of(7654321L), 4);
+
+    @InjectMocks
+    private ReactiveAccountService accountService;
+
+    @Test
+    public void givenExistingClient_whenAddingAccount_thenSaveAccount() {
+        AccountRequest account = new AccountRequest();
+        account.setAccountType(TypeEnum.CORRENTE.getType());
+        account.setClientCpf("817.672.190-59");
+        var saved = Account.builder().accountNbr(123456L).type(TypeEnum.CORRENTE).currentBalance(0L).build();
+        doReturn(Mono.just(ClientSnapshot.builder().id("1a").cpf("817.672.190-59").build())).when(clientService).findClientSnapshot("817.672.190-59");
+        doReturn(Mono.just(saved)).when(accountRepository).save(any(Account.class));
+        var accountNbr = accountService.createAccount(account).block();
+        assertThat(accountNbr.getAccountNbr()).isEqualTo(123456L);
+    }
+
+    @Test
+    public void givenMissingClient_whenAddingAccount_thenThrowException() {
+        AccountRequest account = new AccountRequest();
+        account.setAccountType(TypeEnum.CORRENTE.getType());
+        account.setClientCpf("817.672.190-59");
+        doReturn(Mono.empty()).when(clientService).findClientSnapshot("817.672.190-59");
+        var creation = accountService.createAccount(account);
+        var exception = assertThrows(IllegalArgumentException.class, creation::block);
+        assertEquals("Cliente Inexistente", exception.getMessage());
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    public void givenInvalidAccountType_whenAddingAccount_thenThrowException() {
+        AccountRequest account = new AccountRequest();
+        account.setAccountType("INVALIDO");
+        account.setClientCpf("817.672.190-59");
+        doReturn(Mono.just(ClientSnapshot.builder().id("1a").cpf("817.672.190-59").build())).when(clientService).findClientSnapshot("817.672.190-59");
+        var creation = accountService.createAccount(account);
+        var exception = assertThrows(IllegalArgumentException.class, creation::block);
+        assertEquals("Tipo Inválido", exception.getMessage());
+    }
+
+    @Test
+    public void givenInvalidAccountNbr_whenGettingBalance_thenThrowException() {
+        var balance = accountService.getAccountBalance(-1L);
+        assertThrows(IllegalArgumentException.class, balance::block);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    public void givenHotAccount_whenGettingBalance_thenSumBalanceSlots() {
+        var projection = new SpelAwareProxyProjectionFactory()
+                .createProjection(AccountBalanceProjection.class, Map.of("currentBalance", 1500L));
+        doReturn(Mono.just(projection)).when(accountRepository).findShardedBalanceByAccountNbr(7654321L);
+        assertEquals(1500L, accountService.getAccountBalance(7654321L).block().getCurrentBalance());
+        verify(accountRepository, never()).findCurrentBalanceByAccountNbr(any());
+    }
+}
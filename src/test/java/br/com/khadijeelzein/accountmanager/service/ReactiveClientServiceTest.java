@@ -0,0 +1,55 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.dto.ClientRequest;
+import br.com.khadijeelzein.accountmanager.model.Client;
+import br.com.khadijeelzein.accountmanager.repository.ReactiveClientRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveClientServiceTest {
+    @Mock
+    private ReactiveClientRepository clientRepository;
+
+    @InjectMocks
+    private ReactiveClientService clientService;
+
+    @Test
+    public void givenValidClientRequest_whenAddingClient_thenCallRepository() {
+        ClientRequest client = new ClientRequest();
+        client.setBirthday(LocalDate.of(1996, 4, 1));
+        client.setName("John Doe");
+        client.setCpf("62368887016");
+        doReturn(Mono.just(Client.builder().cpf("62368887016").build())).when(clientRepository).save(any(Client.class));
+        clientService.addClient(client).block();
+        verify(clientRepository, times(1)).save(any(Client.class));
+    }
+
+    @Test
+    public void givenFutureBirthday_whenAddingClient_thenThrowException() {
+        ClientRequest client = new ClientRequest();
+        client.setBirthday(LocalDate.now().plusDays(1));
+        client.setName("John Doe");
+        client.setCpf("62368887016");
+        var addition = clientService.addClient(client);
+        assertThrows(IllegalArgumentException.class, addition::block);
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    public void givenFormattedCpf_whenCheckingClient_thenQueryDigitsOnly() {
+        doReturn(Mono.just(true)).when(clientRepository).existsByCpfKey(81767219059L);
+        assertThat(clientService.existsClient("817.672.190-59").block()).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.khadijeelzein.accountmanager.service;
+
+import br.com.khadijeelzein.accountmanager.enums.ExportFormatEnum;
+import br.com.khadijeelzein.accountmanager.enums.MovementTypeEnum;
+import br.com.khadijeelzein.accountmanager.model.LedgerEntry;
+import br.com.khadijeelzein.accountmanager.repository.LedgerEntryRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatementExportServiceTest {
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    private StatementExportService statementExportService;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @BeforeEach
+    public void setUp() {
+        statementExportService = new StatementExportService(ledgerEntryRepository,
+                JsonMapper.builder().findAndAddModules().build(), 500, 2);
+    }
+
+    private void stubEntries() {
+        var dateTime = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        doReturn(Stream.of(
+                LedgerEntry.builder().accountNbr(123456L).counterparty(1234567L).amount(-1050L)
+                        .type(MovementTypeEnum.TRANSFERENCIA).dateTime(dateTime).balanceAfter(8950L).build(),
+                LedgerEntry.builder().accountNbr(123456L).counterparty(7654321L).amount(200L)
+                        .type(MovementTypeEnum.TRANSFERENCIA).dateTime(dateTime.plusMinutes(1)).build(),
+                LedgerEntry.builder().accountNbr(123456L).counterparty(7654321L).amount(1L)
+                        .type(MovementTypeEnum.TRANSFERENCIA).dateTime(dateTime.plusMinutes(2)).balanceAfter(9151L).build())
+                .onClose(() -> closed.set(true)))
+                .when(ledgerEntryRepository).streamByDateAndAccount(null, null, 123456L, 500);
+    }
+
+    private String export(ExportFormatEnum format, ByteArrayOutputStream output) throws IOException {
+        statementExportService.exportTransferHistory("123456", null, null, format).writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void givenLedgerEntries_whenExportingNdjson_thenWriteOneJsonObjectPerLine() throws IOException {
+        stubEntries();
+        var lines = export(ExportFormatEnum.NDJSON, new ByteArrayOutputStream()).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("\"conta_origem\":123456", "\"conta_destino\":1234567", "\"valor\":10.50",
+                "\"data_hora\":\"02/01/2025 03:04:05\"", "\"saldo_apos\":89.50");
+        assertThat(lines[1]).contains("\"conta_origem\":7654321", "\"valor\":2.00").doesNotContain("saldo_apos");
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void givenLedgerEntries_whenExportingCsv_thenWriteHeaderAndRows() throws IOException {
+        stubEntries();
+        assertThat(export(ExportFormatEnum.CSV, new ByteArrayOutputStream())).isEqualTo(
+                "conta_origem,conta_destino,valor,tipo,data_hora,saldo_apos\n"
+                        + "123456,1234567,10.50,TRANSFERENCIA,02/01/2025 03:04:05,89.50\n"
+                        + "7654321,123456,2.00,TRANSFERENCIA,02/01/2025 03:05:05,\n"
+                        + "7654321,123456,0.01,TRANSFERENCIA,02/01/2025 03:06:05,91.51\n");
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void givenFlushInterval_whenExporting_thenFlushEveryIntervalAndAtTheEnd() throws IOException {
+        stubEntries();
+        var output = spy(new ByteArrayOutputStream());
+        export(ExportFormatEnum.NDJSON, output);
+        verify(output, times(2)).flush();
+    }
+
+    @Test
+    public void givenInvalidAccountOrDates_whenExporting_thenThrowBeforeStreaming() {
+        assertThrows(IllegalArgumentException.class,
+                () -> statementExportService.exportTransferHistory("abc", null, null, ExportFormatEnum.CSV));
+        assertThrows(IllegalArgumentException.class,
+                () -> statementExportService.exportTransferHistory("-1", null, null, ExportFormatEnum.CSV));
+        assertThrows(IllegalArgumentException.class, () -> statementExportService.exportTransferHistory(
+                "123456", LocalDate.now(), LocalDate.now().minusDays(1), ExportFormatEnum.CSV));
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+
+    @Test
+    public void givenNonPositiveBatchSize_whenCreatingService_thenThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new StatementExportService(ledgerEntryRepository,
+                JsonMapper.builder().build(), 0, 10));
+    }
+}